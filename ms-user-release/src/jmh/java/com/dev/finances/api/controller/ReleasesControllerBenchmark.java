@@ -0,0 +1,46 @@
+package com.dev.finances.api.controller;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReleasesControllerBenchmark {
+
+    private final ReleasesController controller = new ReleasesController(null, null, null, null, null, null, null, null, null);
+    private final User user = User.builder().id(1L).name("Usuário").email("usuario@email.com").build();
+    private final ReleasesDTO dto = ReleasesDTO.builder()
+            .description("Supermercado")
+            .mouth(3)
+            .year(2022)
+            .value(new BigDecimal("152.37"))
+            .userId(1L)
+            .type(ReleaseTypeEnum.DESPESA)
+            .status(ReleaseStatusEnum.PENDENTE)
+            .releaseDate("17/03/2022")
+            .build();
+
+    @Benchmark
+    public Release converter() {
+        return controller.converter(dto, user);
+    }
+}
@@ -0,0 +1,58 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginatedResponseDTOBenchmark {
+
+    @Param({"50", "1000"})
+    private int size;
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+    private PaginatedResponseDTO<ReleasesDTO> page;
+
+    @Setup
+    public void setUp() {
+        List<ReleasesDTO> releases = new ArrayList<>(size);
+        LocalDate date = LocalDate.of(2022, 1, 1);
+        for (int i = 0; i < size; i++) {
+            releases.add(new ReleasesDTO((long) i, "Lançamento " + i, date.getMonthValue(), date.getYear(),
+                    BigDecimal.valueOf(i * 137L, 2), 1L, i % 3 == 0 ? ReleaseTypeEnum.RECEITA : ReleaseTypeEnum.DESPESA,
+                    ReleaseStatusEnum.PENDENTE, date.plusDays(i % 365)));
+        }
+        page = new PaginatedResponseDTO<>(releases, (long) size * 10);
+    }
+
+    @Benchmark
+    public PaginatedResponseDTO<ReleasesDTO> serialize() throws IOException {
+        mapper.writeValue(OutputStream.nullOutputStream(), page);
+        return page;
+    }
+}
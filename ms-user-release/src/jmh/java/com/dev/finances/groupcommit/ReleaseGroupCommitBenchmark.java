@@ -0,0 +1,126 @@
+package com.dev.finances.groupcommit;
+
+import com.dev.finances.FinancesApplication;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class ReleaseGroupCommitBenchmark {
+
+    private static final int USERS = 200;
+
+    @Param({"direct", "group"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private ReleaseGroupCommitter committer;
+    private MeterRegistry registry;
+    private ReleaseRepository releaseRepository;
+    private final List<User> users = new ArrayList<>(USERS);
+    private long iterationStart;
+    private long releasesBefore;
+    private double commitsBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(FinancesApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.cloud.config.enabled=false",
+                        "release.search.index.enabled=false",
+                        "release.daily-balance.rebuild-cron=-",
+                        "release.group-commit.enabled=" + "group".equals(mode),
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run();
+        committer = context.getBean(ReleaseGroupCommitter.class);
+        registry = context.getBean(MeterRegistry.class);
+        releaseRepository = context.getBean(ReleaseRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        for (int u = 0; u < USERS; u++) {
+            users.add(userRepository.save(User.builder()
+                    .name("Usuário " + u)
+                    .email("usuario" + u + "@email.com")
+                    .password("senha")
+                    .build()));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        iterationStart = System.nanoTime();
+        releasesBefore = releases();
+        commitsBefore = commits();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportIteration() {
+        double seconds = (System.nanoTime() - iterationStart) / 1e9;
+        long releases = releases() - releasesBefore;
+        double commits = "group".equals(mode) ? commits() - commitsBefore : releases;
+        System.out.printf("[group-commit] %s: %.0f commits/s, %.0f releases/s, %.1f releases per commit%n",
+                mode, commits / seconds, releases / seconds, commits == 0 ? 0 : releases / commits);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Release create() {
+        User user = users.get(ThreadLocalRandom.current().nextInt(USERS));
+        LocalDate today = LocalDate.now();
+        return committer.save(Release.builder()
+                .description("Supermercado")
+                .user(user)
+                .value(new BigDecimal("152.37"))
+                .mes(today.getMonthValue())
+                .ano(today.getYear())
+                .type(ReleaseTypeEnum.DESPESA)
+                .releaseDate(today)
+                .build());
+    }
+
+    private long releases() {
+        return releaseRepository.count();
+    }
+
+    private double commits() {
+        return registry.counter(ReleaseGroupCommitter.COMMIT_COUNTER).count();
+    }
+}
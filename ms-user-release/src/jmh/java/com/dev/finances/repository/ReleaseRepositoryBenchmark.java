@@ -0,0 +1,125 @@
+package com.dev.finances.repository;
+
+import com.dev.finances.FinancesApplication;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReleaseRepositoryBenchmark {
+
+    private static final int USERS = 10;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"1000"})
+    private int releasesPerUser;
+
+    private ConfigurableApplicationContext context;
+    private ReleaseRepository repository;
+    private Long userId;
+    private Long releaseId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(FinancesApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.cloud.config.enabled=false",
+                        "release.search.index.enabled=false",
+                        "release.daily-balance.rebuild-cron=-",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN")
+                .run();
+        repository = context.getBean(ReleaseRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+
+        LocalDate today = LocalDate.now();
+        for (int u = 0; u < USERS; u++) {
+            User user = userRepository.save(User.builder()
+                    .name("Usuário " + u)
+                    .email("usuario" + u + "@email.com")
+                    .password("senha")
+                    .build());
+            List<Release> releases = new ArrayList<>(releasesPerUser);
+            for (int i = 0; i < releasesPerUser; i++) {
+                LocalDate date = today.minusDays(i % 90);
+                releases.add(Release.builder()
+                        .description((i % 10 == 0 ? "Supermercado " : "Lançamento ") + i)
+                        .user(user)
+                        .value(BigDecimal.valueOf(1000L + i, 2))
+                        .mes(date.getMonthValue())
+                        .ano(date.getYear())
+                        .type(i % 3 == 0 ? ReleaseTypeEnum.RECEITA : ReleaseTypeEnum.DESPESA)
+                        .status(i % 2 == 0 ? ReleaseStatusEnum.EFETIVADO : ReleaseStatusEnum.PENDENTE)
+                        .createAt(date)
+                        .releaseDate(date)
+                        .build());
+            }
+            releaseId = repository.saveAll(releases).get(releasesPerUser / 2).getId();
+            userId = user.getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ReleasesDTO> paginated() {
+        return repository.findAll(userId, PageRequest.of(0, PAGE_SIZE, Sort.by("releaseDate", "id").descending()));
+    }
+
+    @Benchmark
+    public List<ReleasesDTO> cursorFirstPage() {
+        return repository.findFirstByCursor(userId, PageRequest.of(0, PAGE_SIZE + 1));
+    }
+
+    @Benchmark
+    public List<ReleasesDTO> lastReleases() {
+        LocalDate today = LocalDate.now();
+        return repository.lastReleases(userId, today.minusDays(30), today, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<ReleasesDTO> searchByDescription() {
+        return repository.search(userId, "%mercado%", null, null, null, null);
+    }
+
+    @Benchmark
+    public Optional<ReleasesDTO> findDtoById() {
+        return repository.findDtoById(releaseId);
+    }
+}
@@ -0,0 +1,66 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReleaseServiceImplBenchmark {
+
+    private final ReleaseServiceImpl service = new ReleaseServiceImpl(null, null, null, null, null, null, null);
+    private final Release valid = Release.builder()
+            .description("Supermercado")
+            .user(User.builder().id(1L).build())
+            .value(new BigDecimal("152.37"))
+            .type(ReleaseTypeEnum.DESPESA)
+            .releaseDate(LocalDate.of(2022, 3, 17))
+            .build();
+    private final Release invalid = Release.builder()
+            .description("Supermercado")
+            .user(User.builder().id(1L).build())
+            .value(BigDecimal.ZERO)
+            .build();
+
+    @Benchmark
+    public Release validate() {
+        service.validate(valid);
+        return valid;
+    }
+
+    @Benchmark
+    public String validateInvalid() {
+        try {
+            service.validate(invalid);
+            return null;
+        } catch (BusinessException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public ReleasesDTO projection() {
+        return new ReleasesDTO(1L, "Supermercado", 3, 2022, new BigDecimal("152.37"), 1L, ReleaseTypeEnum.DESPESA,
+                ReleaseStatusEnum.PENDENTE, valid.getReleaseDate());
+    }
+}
@@ -0,0 +1,260 @@
+package com.dev.finances.loadtest;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DatasetGenerator {
+
+    private static final String[] EXPENSES = {"Supermercado", "Aluguel", "Energia", "Água", "Internet", "Farmácia",
+            "Restaurante", "Combustível", "Academia", "Streaming", "Transporte", "Padaria", "Condomínio", "Celular"};
+    private static final String[] INCOMES = {"Salário", "Freelance", "Rendimentos", "Reembolso", "Venda", "Bônus"};
+    private static final String[] MERCHANTS = {"", " Centro", " Shopping", " Online", " Bairro", " 24h"};
+
+    private static final String INSERT_USER = "insert into financas.user (name, email, password) values (?, ?, ?)";
+    private static final String INSERT_RELEASE = "insert into financas.release " +
+            "(id, description, mes, ano, user_id, value, create_at, release_date, type, status) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BUCKETS = "insert into financas.release_daily_balance " +
+            "(user_id, balance_date, type, status, total, quantity) " +
+            "select user_id, create_at, type, status, sum(value), count(*) from financas.release " +
+            "where user_id between ? and ? group by user_id, create_at, type, status";
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int users;
+    private final long releases;
+    private final int threads;
+    private final int batchSize;
+    private final int years;
+    private final double skew;
+    private final long seed;
+    private final AtomicLong inserted = new AtomicLong();
+
+    DatasetGenerator(Arguments arguments) {
+        this.url = arguments.get("url", "jdbc:postgresql://localhost:5432/finances?reWriteBatchedInserts=true");
+        this.username = arguments.get("username", "postgres");
+        this.password = arguments.get("password", "postgres");
+        this.users = arguments.getInt("users", 10_000);
+        this.releases = arguments.getLong("releases", 50_000_000L);
+        this.threads = arguments.getInt("threads", Runtime.getRuntime().availableProcessors());
+        this.batchSize = arguments.getInt("batch", 5_000);
+        this.years = arguments.getInt("years", 3);
+        this.skew = Double.parseDouble(arguments.get("skew", "0.8"));
+        this.seed = arguments.getLong("seed", 42L);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new DatasetGenerator(new Arguments(args)).run();
+    }
+
+    void run() throws Exception {
+        long start = System.currentTimeMillis();
+        List<Long> userIds = insertUsers();
+        long[] counts = releasesPerUser(userIds.size());
+        long firstId = nextReleaseId();
+        log("Inserted " + userIds.size() + " users, loading " + releases + " releases with " + threads + " threads");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        long nextId = firstId;
+        int perThread = (userIds.size() + threads - 1) / threads;
+        for (int t = 0; t < threads; t++) {
+            int from = Math.min(t * perThread, userIds.size());
+            int to = Math.min(from + perThread, userIds.size());
+            long firstThreadId = nextId;
+            for (int u = from; u < to; u++)
+                nextId += counts[u];
+            int worker = t;
+            futures.add(executor.submit(() -> {
+                insertReleases(userIds.subList(from, to), counts, from, firstThreadId, seed + worker);
+                return null;
+            }));
+        }
+
+        Thread progress = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    Thread.sleep(10_000);
+                    long elapsed = Math.max(1, System.currentTimeMillis() - start);
+                    log(inserted.get() + " releases, " + inserted.get() * 1000 / elapsed + " rows/s");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        progress.setDaemon(true);
+        progress.start();
+
+        for (Future<?> future : futures)
+            future.get();
+        executor.shutdown();
+        progress.interrupt();
+
+        finish(nextId, userIds);
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        log("Loaded " + inserted.get() + " releases in " + elapsed / 1000 + " s (" + inserted.get() * 1000 / elapsed
+                + " rows/s), user ids " + userIds.get(0) + " to " + userIds.get(userIds.size() - 1));
+    }
+
+    private List<Long> insertUsers() throws SQLException {
+        String prefix = "loadtest-" + seed + "-" + System.currentTimeMillis() + "-";
+        try (Connection connection = connect();
+             PreparedStatement insert = connection.prepareStatement(INSERT_USER)) {
+            for (int i = 0; i < users; i++) {
+                insert.setString(1, "Usuário " + i);
+                insert.setString(2, prefix + i + "@finances.dev");
+                insert.setString(3, "loadtest");
+                insert.addBatch();
+                if ((i + 1) % batchSize == 0)
+                    insert.executeBatch();
+            }
+            insert.executeBatch();
+            connection.commit();
+
+            List<Long> ids = new ArrayList<>(users);
+            try (PreparedStatement select = connection.prepareStatement(
+                    "select id from financas.user where email like ? order by id")) {
+                select.setString(1, prefix + "%");
+                try (ResultSet result = select.executeQuery()) {
+                    while (result.next())
+                        ids.add(result.getLong(1));
+                }
+            }
+            return ids;
+        }
+    }
+
+    private long[] releasesPerUser(int userCount) {
+        double[] weights = new double[userCount];
+        double total = 0;
+        for (int i = 0; i < userCount; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, skew);
+            total += weights[i];
+        }
+
+        List<Integer> ranks = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++)
+            ranks.add(i);
+        Collections.shuffle(ranks, new Random(seed));
+
+        long[] counts = new long[userCount];
+        long assigned = 0;
+        for (int i = 0; i < userCount; i++) {
+            counts[i] = (long) Math.floor(releases * weights[ranks.get(i)] / total);
+            assigned += counts[i];
+        }
+        for (int i = 0; assigned < releases; i = (i + 1) % userCount, assigned++)
+            counts[i]++;
+        return counts;
+    }
+
+    private void insertReleases(List<Long> userIds, long[] counts, int offset, long firstId, long workerSeed) throws SQLException {
+        Random random = new Random(workerSeed);
+        LocalDate today = LocalDate.now();
+        int days = years * 365;
+        long id = firstId;
+        try (Connection connection = connect();
+             PreparedStatement insert = connection.prepareStatement(INSERT_RELEASE)) {
+            int pending = 0;
+            for (int u = 0; u < userIds.size(); u++) {
+                Long userId = userIds.get(u);
+                for (long r = 0; r < counts[offset + u]; r++) {
+                    double position = random.nextDouble();
+                    LocalDate releaseDate = today.minusDays((long) (days * position * position));
+                    LocalDate createAt = releaseDate.plusDays(random.nextInt(3));
+                    if (createAt.isAfter(today))
+                        createAt = today;
+                    boolean income = random.nextDouble() < 0.3;
+                    String[] vocabulary = income ? INCOMES : EXPENSES;
+
+                    insert.setLong(1, id++);
+                    insert.setString(2, vocabulary[random.nextInt(vocabulary.length)] + MERCHANTS[random.nextInt(MERCHANTS.length)]);
+                    insert.setInt(3, releaseDate.getMonthValue());
+                    insert.setInt(4, releaseDate.getYear());
+                    insert.setLong(5, userId);
+                    insert.setBigDecimal(6, value(random, income));
+                    insert.setDate(7, java.sql.Date.valueOf(createAt));
+                    insert.setDate(8, java.sql.Date.valueOf(releaseDate));
+                    insert.setString(9, (income ? ReleaseTypeEnum.RECEITA : ReleaseTypeEnum.DESPESA).name());
+                    insert.setString(10, status(random, releaseDate, today).name());
+                    insert.addBatch();
+
+                    if (++pending == batchSize) {
+                        insert.executeBatch();
+                        connection.commit();
+                        inserted.addAndGet(pending);
+                        pending = 0;
+                    }
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+            inserted.addAndGet(pending);
+        }
+    }
+
+    private BigDecimal value(Random random, boolean income) {
+        double median = income ? 2500 : 80;
+        double sigma = income ? 0.6 : 1.0;
+        double value = Math.max(0.01, median * Math.exp(sigma * random.nextGaussian()));
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    private ReleaseStatusEnum status(Random random, LocalDate releaseDate, LocalDate today) {
+        double draw = random.nextDouble();
+        if (releaseDate.isAfter(today.minusDays(30)))
+            return draw < 0.5 ? ReleaseStatusEnum.PENDENTE : draw < 0.95 ? ReleaseStatusEnum.EFETIVADO : ReleaseStatusEnum.CANCELADO;
+        return draw < 0.9 ? ReleaseStatusEnum.EFETIVADO : draw < 0.95 ? ReleaseStatusEnum.PENDENTE : ReleaseStatusEnum.CANCELADO;
+    }
+
+    private long nextReleaseId() throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("select coalesce(max(id), 0) from financas.release")) {
+            result.next();
+            return result.getLong(1) + 1;
+        }
+    }
+
+    private void finish(long nextId, List<Long> userIds) throws SQLException {
+        try (Connection connection = connect()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("alter sequence financas.release_seq restart with " + (nextId + 50));
+            }
+            try (PreparedStatement buckets = connection.prepareStatement(INSERT_BUCKETS)) {
+                buckets.setLong(1, userIds.get(0));
+                buckets.setLong(2, userIds.get(userIds.size() - 1));
+                log("Rebuilt " + buckets.executeUpdate() + " daily balance buckets");
+            }
+            connection.commit();
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, username, password);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private static void log(String message) {
+        System.out.println("[dataset] " + message);
+    }
+}
@@ -0,0 +1,184 @@
+package com.dev.finances.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongFunction;
+
+public class LoadDriver {
+
+    private static final Map<String, LongFunction<String>> ENDPOINTS = new LinkedHashMap<>();
+
+    static {
+        ENDPOINTS.put("releases", userId -> "/api/releases?userId=" + userId + "&description=mercado");
+        ENDPOINTS.put("paginated", userId -> "/api/releases/" + userId + "/releases-paginated?page=0&size=20");
+        ENDPOINTS.put("last-releases", userId -> "/api/releases/last-releases/" + userId);
+        ENDPOINTS.put("balance", userId -> "/api/user/" + userId + "/balance");
+        ENDPOINTS.put("extract", userId -> "/api/user/" + userId + "/extract?releaseType=DESPESA");
+    }
+
+    private final String baseUrl;
+    private final String token;
+    private final long firstUserId;
+    private final long lastUserId;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final List<String> mix = new ArrayList<>();
+    private final HttpClient client;
+
+    LoadDriver(Arguments arguments) {
+        this.baseUrl = arguments.get("base-url", "http://localhost:8080");
+        this.token = arguments.get("token", null);
+        this.firstUserId = arguments.getLong("first-user", 1L);
+        this.lastUserId = arguments.getLong("last-user", 10_000L);
+        this.concurrency = arguments.getInt("concurrency", 32);
+        this.warmup = arguments.getDuration("warmup", Duration.ofSeconds(30));
+        this.duration = arguments.getDuration("duration", Duration.ofSeconds(120));
+        for (String entry : arguments.get("mix", "releases:1,paginated:3,last-releases:3,balance:2,extract:1").split(",")) {
+            String[] parts = entry.split(":");
+            if (!ENDPOINTS.containsKey(parts[0]))
+                throw new IllegalArgumentException("Unknown endpoint " + parts[0] + ", use one of " + ENDPOINTS.keySet());
+            for (int i = 0; i < Integer.parseInt(parts[1]); i++)
+                mix.add(parts[0]);
+        }
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver(new Arguments(args)).run();
+    }
+
+    void run() throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long stopAt = measureFrom + duration.toNanos();
+        List<Worker> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(measureFrom, stopAt);
+            worker.setName("load-driver-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+        System.out.println("[load] " + concurrency + " clients against " + baseUrl + ", users " + firstUserId + " to "
+                + lastUserId + ", warm-up " + warmup.getSeconds() + " s, measuring " + duration.getSeconds() + " s");
+        for (Worker worker : workers)
+            worker.join();
+
+        Map<String, Recorder> merged = new LinkedHashMap<>();
+        for (Worker worker : workers)
+            worker.recorders.forEach((endpoint, recorder) -> merged.computeIfAbsent(endpoint, key -> new Recorder()).merge(recorder));
+        report(merged);
+    }
+
+    private void report(Map<String, Recorder> recorders) {
+        double seconds = duration.toNanos() / 1e9;
+        System.out.println(String.format("%-14s %10s %8s %10s %10s %10s %10s %10s",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        Recorder total = new Recorder();
+        recorders.forEach((endpoint, recorder) -> {
+            print(endpoint, recorder, seconds);
+            total.merge(recorder);
+        });
+        print("total", total, seconds);
+    }
+
+    private void print(String endpoint, Recorder recorder, double seconds) {
+        long[] latencies = recorder.sorted();
+        System.out.println(String.format("%-14s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f",
+                endpoint, latencies.length, recorder.errors, latencies.length / seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0)
+            return 0;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private HttpRequest request(String endpoint, long userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + ENDPOINTS.get(endpoint).apply(userId)))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (token != null)
+            builder.header("Authorization", "Bearer " + token);
+        return builder.build();
+    }
+
+    private class Worker extends Thread {
+
+        private final long measureFrom;
+        private final long stopAt;
+        private final Map<String, Recorder> recorders = new LinkedHashMap<>();
+
+        Worker(long measureFrom, long stopAt) {
+            this.measureFrom = measureFrom;
+            this.stopAt = stopAt;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (true) {
+                String endpoint = mix.get(random.nextInt(mix.size()));
+                HttpRequest request = request(endpoint, random.nextLong(firstUserId, lastUserId + 1));
+                long start = System.nanoTime();
+                if (start >= stopAt)
+                    return;
+
+                boolean success;
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    success = response.statusCode() < 400;
+                } catch (Exception e) {
+                    success = false;
+                }
+
+                long end = System.nanoTime();
+                if (start >= measureFrom && end <= stopAt)
+                    recorders.computeIfAbsent(endpoint, key -> new Recorder()).record(end - start, success);
+            }
+        }
+    }
+
+    private static class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean success) {
+            if (!success) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length)
+                latencies = Arrays.copyOf(latencies, count * 2);
+            latencies[count++] = nanos;
+        }
+
+        void merge(Recorder other) {
+            for (int i = 0; i < other.count; i++)
+                record(other.latencies[i], true);
+            errors += other.errors;
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.dev.finances.analytics;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+public enum ColumnLayout {
+
+    HEAP {
+        @Override
+        LongBuffer longs(int capacity) {
+            return LongBuffer.wrap(new long[capacity]);
+        }
+
+        @Override
+        IntBuffer ints(int capacity) {
+            return IntBuffer.wrap(new int[capacity]);
+        }
+
+        @Override
+        ByteBuffer bytes(int capacity) {
+            return ByteBuffer.wrap(new byte[capacity]);
+        }
+    },
+
+    OFF_HEAP {
+        @Override
+        LongBuffer longs(int capacity) {
+            return direct(Math.multiplyExact(capacity, Long.BYTES)).asLongBuffer();
+        }
+
+        @Override
+        IntBuffer ints(int capacity) {
+            return direct(Math.multiplyExact(capacity, Integer.BYTES)).asIntBuffer();
+        }
+
+        @Override
+        ByteBuffer bytes(int capacity) {
+            return direct(capacity);
+        }
+
+        private ByteBuffer direct(int bytes) {
+            return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+        }
+    };
+
+    abstract LongBuffer longs(int capacity);
+
+    abstract IntBuffer ints(int capacity);
+
+    abstract ByteBuffer bytes(int capacity);
+}
@@ -0,0 +1,125 @@
+package com.dev.finances.analytics;
+
+import com.dev.finances.model.enums.AnalyticsGroupEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.concurrent.RecursiveTask;
+
+class ColumnScan extends RecursiveTask<GroupTotals> {
+
+    static final byte ANY = -1;
+    static final int LEAF_SLOTS = 1 << 16;
+
+    private final ReleaseColumns columns;
+    private final long[] cohort;
+    private final int fromDay;
+    private final int toDay;
+    private final byte type;
+    private final byte status;
+    private final AnalyticsGroupEnum groupBy;
+    private final int from;
+    private final int to;
+
+    ColumnScan(ReleaseColumns columns, long[] cohort, int fromDay, int toDay, byte type, byte status,
+               AnalyticsGroupEnum groupBy, int from, int to) {
+        this.columns = columns;
+        this.cohort = cohort;
+        this.fromDay = fromDay;
+        this.toDay = toDay;
+        this.type = type;
+        this.status = status;
+        this.groupBy = groupBy;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected GroupTotals compute() {
+        if (to - from <= LEAF_SLOTS)
+            return scan();
+        int middle = (from + to) >>> 1;
+        ColumnScan left = split(from, middle);
+        left.fork();
+        GroupTotals right = split(middle, to).compute();
+        return left.join().merge(right);
+    }
+
+    private ColumnScan split(int splitFrom, int splitTo) {
+        return new ColumnScan(columns, cohort, fromDay, toDay, type, status, groupBy, splitFrom, splitTo);
+    }
+
+    private GroupTotals scan() {
+        LongBuffer userIds = columns.userIds();
+        LongBuffer cents = columns.cents();
+        IntBuffer days = columns.days();
+        ByteBuffer types = columns.types();
+        ByteBuffer statuses = columns.statuses();
+        GroupTotals totals = newTotals(groupBy);
+
+        for (int slot = from; slot < to; slot++) {
+            byte rowStatus = statuses.get(slot);
+            if (rowStatus < 0 || (status != ANY && rowStatus != status))
+                continue;
+            byte rowType = types.get(slot);
+            if (rowType < 0 || (type != ANY && rowType != type))
+                continue;
+            int day = days.get(slot);
+            if (day < fromDay || day > toDay)
+                continue;
+            long userId = userIds.get(slot);
+            if (cohort != null && Arrays.binarySearch(cohort, userId) < 0)
+                continue;
+
+            long key;
+            switch (groupBy) {
+                case MONTH:
+                    key = epochMonth(day);
+                    break;
+                case TYPE:
+                    key = rowType;
+                    break;
+                case STATUS:
+                    key = rowStatus;
+                    break;
+                case USER:
+                    key = userId;
+                    break;
+                default:
+                    key = 0;
+            }
+            totals.add(key, cents.get(slot));
+        }
+        return totals;
+    }
+
+    static GroupTotals newTotals(AnalyticsGroupEnum groupBy) {
+        switch (groupBy) {
+            case TYPE:
+                return GroupTotals.dense(ReleaseTypeEnum.values().length);
+            case STATUS:
+                return GroupTotals.dense(ReleaseStatusEnum.values().length);
+            case MONTH:
+            case USER:
+                return GroupTotals.sparse();
+            default:
+                return GroupTotals.dense(1);
+        }
+    }
+
+    static int epochMonth(int epochDay) {
+        int shifted = epochDay + 719468;
+        int era = (shifted >= 0 ? shifted : shifted - 146096) / 146097;
+        int dayOfEra = shifted - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 12 + month - 1;
+    }
+}
@@ -0,0 +1,82 @@
+package com.dev.finances.analytics;
+
+import java.util.Arrays;
+
+class GroupTotals {
+
+    private final LongIntHashMap index;
+    private long[] keys;
+    private long[] sums;
+    private long[] counts;
+    private int groups;
+
+    private GroupTotals(LongIntHashMap index, int capacity) {
+        this.index = index;
+        this.keys = new long[capacity];
+        this.sums = new long[capacity];
+        this.counts = new long[capacity];
+    }
+
+    static GroupTotals dense(int groups) {
+        GroupTotals totals = new GroupTotals(null, groups);
+        for (int i = 0; i < groups; i++)
+            totals.keys[i] = i;
+        totals.groups = groups;
+        return totals;
+    }
+
+    static GroupTotals sparse() {
+        return new GroupTotals(new LongIntHashMap(64), 64);
+    }
+
+    void add(long key, long cents) {
+        add(key, cents, 1);
+    }
+
+    GroupTotals merge(GroupTotals other) {
+        for (int i = 0; i < other.groups; i++)
+            add(other.keys[i], other.sums[i], other.counts[i]);
+        return this;
+    }
+
+    int groups() {
+        return groups;
+    }
+
+    long key(int group) {
+        return keys[group];
+    }
+
+    long sum(int group) {
+        return sums[group];
+    }
+
+    long count(int group) {
+        return counts[group];
+    }
+
+    private void add(long key, long cents, long count) {
+        int group;
+        if (index == null) {
+            group = (int) key;
+        } else {
+            group = index.get(key);
+            if (group == LongIntHashMap.MISSING) {
+                group = newGroup(key);
+            }
+        }
+        sums[group] += cents;
+        counts[group] += count;
+    }
+
+    private int newGroup(long key) {
+        if (groups == keys.length) {
+            keys = Arrays.copyOf(keys, groups << 1);
+            sums = Arrays.copyOf(sums, groups << 1);
+            counts = Arrays.copyOf(counts, groups << 1);
+        }
+        keys[groups] = key;
+        index.put(key, groups);
+        return groups++;
+    }
+}
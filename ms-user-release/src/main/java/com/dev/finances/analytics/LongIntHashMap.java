@@ -0,0 +1,104 @@
+package com.dev.finances.analytics;
+
+import java.util.Arrays;
+
+class LongIntHashMap {
+
+    static final int MISSING = -1;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final double LOAD_FACTOR = 0.6;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    LongIntHashMap(int expected) {
+        allocate(tableSize(expected));
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(long key) {
+        for (int index = index(key); ; index = (index + 1) & mask) {
+            long current = keys[index];
+            if (current == key)
+                return values[index];
+            if (current == EMPTY)
+                return MISSING;
+        }
+    }
+
+    void put(long key, int value) {
+        if (size >= threshold)
+            rehash(keys.length << 1);
+        for (int index = index(key); ; index = (index + 1) & mask) {
+            long current = keys[index];
+            if (current == key) {
+                values[index] = value;
+                return;
+            }
+            if (current == EMPTY) {
+                keys[index] = key;
+                values[index] = value;
+                size++;
+                return;
+            }
+        }
+    }
+
+    int remove(long key) {
+        int index = index(key);
+        while (keys[index] != key) {
+            if (keys[index] == EMPTY)
+                return MISSING;
+            index = (index + 1) & mask;
+        }
+        int removed = values[index];
+        size--;
+        int gap = index;
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = index(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = EMPTY;
+        return removed;
+    }
+
+    private int index(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY)
+                put(oldKeys[i], oldValues[i]);
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSize(int expected) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expected / LOAD_FACTOR), 2) - 1) << 1;
+        return Math.max(capacity, 16);
+    }
+}
@@ -0,0 +1,23 @@
+package com.dev.finances.analytics;
+
+import com.dev.finances.model.enums.AnalyticsGroupEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+@Getter
+@Builder
+public class ReleaseAnalyticsQuery {
+
+    private final Collection<Long> userIds;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final ReleaseTypeEnum type;
+    private final ReleaseStatusEnum status;
+    @Builder.Default
+    private final AnalyticsGroupEnum groupBy = AnalyticsGroupEnum.TOTAL;
+}
@@ -0,0 +1,222 @@
+package com.dev.finances.analytics;
+
+import com.dev.finances.api.dto.ReleaseAnalyticsDTO;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.model.enums.AnalyticsGroupEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.repository.ArchivedReleaseRepository;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.repository.projection.ReleaseFact;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+@Log4j2
+@Component
+public class ReleaseAnalyticsStore {
+
+    private static final byte UNKNOWN = -2;
+
+    private final ReleaseRepository repository;
+    private final ArchivedReleaseRepository archiveRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final ColumnLayout layout;
+    private final int initialCapacity;
+    private final ForkJoinPool pool;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<ReleaseChangedEvent> pendingEvents = new ArrayList<>();
+    private ReleaseColumns columns;
+    private volatile boolean ready;
+    private boolean building;
+
+    public ReleaseAnalyticsStore(ReleaseRepository repository, ArchivedReleaseRepository archiveRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${release.analytics.enabled:false}") boolean enabled,
+                                 @Value("${release.analytics.off-heap:false}") boolean offHeap,
+                                 @Value("${release.analytics.initial-capacity:1048576}") int initialCapacity,
+                                 @Value("${release.analytics.parallelism:0}") int parallelism) {
+        this.repository = repository;
+        this.archiveRepository = archiveRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.layout = offHeap ? ColumnLayout.OFF_HEAP : ColumnLayout.HEAP;
+        this.initialCapacity = initialCapacity;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled)
+            return;
+        Thread builder = new Thread(this::rebuild, "release-analytics");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    public void rebuild() {
+        synchronized (pendingEvents) {
+            if (!enabled || building)
+                return;
+            building = true;
+        }
+        long start = System.currentTimeMillis();
+        ReleaseColumns rebuilt = new ReleaseColumns(layout, initialCapacity);
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ReleaseFact> releases = repository.streamFacts()) {
+                    releases.forEach(release -> load(rebuilt, release));
+                }
+                try (Stream<ReleaseFact> releases = archiveRepository.streamFacts()) {
+                    releases.forEach(release -> load(rebuilt, release));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Error to build release analytics columns", e);
+            synchronized (pendingEvents) {
+                pendingEvents.clear();
+                building = false;
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            synchronized (pendingEvents) {
+                pendingEvents.forEach(event -> apply(rebuilt, event));
+                pendingEvents.clear();
+                building = false;
+            }
+            columns = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Release analytics columns built with " + rebuilt.size() + " releases (" + layout + ") in "
+                + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReleaseChanged(ReleaseChangedEvent event) {
+        if (!enabled)
+            return;
+        lock.writeLock().lock();
+        try {
+            synchronized (pendingEvents) {
+                if (building)
+                    pendingEvents.add(event);
+            }
+            if (columns != null)
+                apply(columns, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<List<ReleaseAnalyticsDTO>> query(ReleaseAnalyticsQuery query) {
+        if (!enabled || !ready)
+            return Optional.empty();
+
+        long[] cohort = query.getUserIds() == null ? null
+                : query.getUserIds().stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        int fromDay = query.getFrom() == null ? Integer.MIN_VALUE : (int) query.getFrom().toEpochDay();
+        int toDay = query.getTo() == null ? Integer.MAX_VALUE : (int) query.getTo().toEpochDay();
+        byte type = query.getType() == null ? ColumnScan.ANY : (byte) query.getType().ordinal();
+        byte status = query.getStatus() == null ? ColumnScan.ANY : (byte) query.getStatus().ordinal();
+
+        GroupTotals totals;
+        lock.readLock().lock();
+        try {
+            totals = pool.invoke(new ColumnScan(columns, cohort, fromDay, toDay, type, status, query.getGroupBy(),
+                    0, columns.slots()));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Optional.of(toDtos(totals, query.getGroupBy()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private List<ReleaseAnalyticsDTO> toDtos(GroupTotals totals, AnalyticsGroupEnum groupBy) {
+        List<Integer> groups = new ArrayList<>(totals.groups());
+        for (int group = 0; group < totals.groups(); group++) {
+            if (totals.count(group) > 0)
+                groups.add(group);
+        }
+        groups.sort(Comparator.comparingLong(totals::key));
+
+        List<ReleaseAnalyticsDTO> result = new ArrayList<>(groups.size());
+        for (int group : groups) {
+            result.add(ReleaseAnalyticsDTO.builder()
+                    .group(label(groupBy, totals.key(group)))
+                    .total(BigDecimal.valueOf(totals.sum(group), 2))
+                    .count(totals.count(group))
+                    .build());
+        }
+        return result;
+    }
+
+    private String label(AnalyticsGroupEnum groupBy, long key) {
+        switch (groupBy) {
+            case MONTH:
+                return String.format("%02d/%d", Math.floorMod(key, 12) + 1, Math.floorDiv(key, 12));
+            case TYPE:
+                return ReleaseTypeEnum.values()[(int) key].name();
+            case STATUS:
+                return ReleaseStatusEnum.values()[(int) key].name();
+            case USER:
+                return String.valueOf(key);
+            default:
+                return AnalyticsGroupEnum.TOTAL.name();
+        }
+    }
+
+    private void load(ReleaseColumns target, ReleaseFact release) {
+        target.upsert(release.getId(), release.getUserId(), cents(release.getValue()), day(release.getReleaseDate()),
+                ordinal(release.getType()), ordinal(release.getStatus()));
+    }
+
+    private void apply(ReleaseColumns target, ReleaseChangedEvent event) {
+        if (event.isRemoval()) {
+            target.remove(event.getReleaseId());
+            return;
+        }
+        target.upsert(event.getReleaseId(), event.getUserId(), cents(event.getValue()), day(event.getReleaseDate()),
+                ordinal(event.getType()), ordinal(event.getStatus()));
+    }
+
+    private static long cents(BigDecimal value) {
+        return value == null ? 0 : value.setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValue();
+    }
+
+    private static int day(LocalDate date) {
+        return date == null ? Integer.MIN_VALUE : (int) date.toEpochDay();
+    }
+
+    private static byte ordinal(Enum<?> value) {
+        return value == null ? UNKNOWN : (byte) value.ordinal();
+    }
+}
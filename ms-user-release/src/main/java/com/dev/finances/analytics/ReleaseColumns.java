@@ -0,0 +1,120 @@
+package com.dev.finances.analytics;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+class ReleaseColumns {
+
+    static final byte FREE = -1;
+
+    private final ColumnLayout layout;
+    private final LongIntHashMap index;
+    private LongBuffer userIds;
+    private LongBuffer cents;
+    private IntBuffer days;
+    private ByteBuffer types;
+    private ByteBuffer statuses;
+    private int capacity;
+    private int slots;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    ReleaseColumns(ColumnLayout layout, int initialCapacity) {
+        this.layout = layout;
+        this.capacity = Math.max(initialCapacity, 16);
+        this.index = new LongIntHashMap(capacity);
+        this.userIds = layout.longs(capacity);
+        this.cents = layout.longs(capacity);
+        this.days = layout.ints(capacity);
+        this.types = layout.bytes(capacity);
+        this.statuses = layout.bytes(capacity);
+    }
+
+    void upsert(long id, long userId, long amount, int day, byte type, byte status) {
+        int slot = index.get(id);
+        if (slot == LongIntHashMap.MISSING) {
+            slot = allocate();
+            index.put(id, slot);
+        }
+        userIds.put(slot, userId);
+        cents.put(slot, amount);
+        days.put(slot, day);
+        types.put(slot, type);
+        statuses.put(slot, status);
+    }
+
+    void remove(long id) {
+        int slot = index.remove(id);
+        if (slot == LongIntHashMap.MISSING)
+            return;
+        statuses.put(slot, FREE);
+        if (freeCount == freeSlots.length)
+            freeSlots = Arrays.copyOf(freeSlots, freeCount << 1);
+        freeSlots[freeCount++] = slot;
+    }
+
+    int slots() {
+        return slots;
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    LongBuffer userIds() {
+        return userIds;
+    }
+
+    LongBuffer cents() {
+        return cents;
+    }
+
+    IntBuffer days() {
+        return days;
+    }
+
+    ByteBuffer types() {
+        return types;
+    }
+
+    ByteBuffer statuses() {
+        return statuses;
+    }
+
+    private int allocate() {
+        if (freeCount > 0)
+            return freeSlots[--freeCount];
+        if (slots == capacity)
+            grow();
+        return slots++;
+    }
+
+    private void grow() {
+        int grown = capacity > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE - 8 : capacity << 1;
+        if (grown <= capacity)
+            throw new IllegalStateException("Release analytics columns are full with " + capacity + " slots");
+        userIds = copy(userIds, layout.longs(grown));
+        cents = copy(cents, layout.longs(grown));
+        days = copy(days, layout.ints(grown));
+        types = copy(types, layout.bytes(grown));
+        statuses = copy(statuses, layout.bytes(grown));
+        capacity = grown;
+    }
+
+    private LongBuffer copy(LongBuffer source, LongBuffer target) {
+        target.put(source.duplicate().position(0).limit(slots));
+        return target.clear();
+    }
+
+    private IntBuffer copy(IntBuffer source, IntBuffer target) {
+        target.put(source.duplicate().position(0).limit(slots));
+        return target.clear();
+    }
+
+    private ByteBuffer copy(ByteBuffer source, ByteBuffer target) {
+        target.put(source.duplicate().position(0).limit(slots));
+        return target.clear();
+    }
+}
@@ -1,16 +1,36 @@
 package com.dev.finances.api.controller;
 
+import com.dev.finances.analytics.ReleaseAnalyticsQuery;
+import com.dev.finances.analytics.ReleaseAnalyticsStore;
+import com.dev.finances.api.dto.BulkIdsDTO;
+import com.dev.finances.api.dto.BulkResponseDTO;
+import com.dev.finances.api.dto.MultiGetResponseDTO;
+import com.dev.finances.api.dto.ReleaseSeriesDTO;
 import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.etag.ReleaseETag;
+import com.dev.finances.etag.ReleaseGenerations;
 import com.dev.finances.exception.BusinessException;
+import com.dev.finances.feed.ReleaseChangeFeed;
+import com.dev.finances.groupcommit.ReleaseGroupCommitter;
 import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.ReleaseSeries;
 import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.AnalyticsGroupEnum;
+import com.dev.finances.model.enums.ExportFormatEnum;
 import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.service.ReleaseBulkService;
+import com.dev.finances.service.ReleaseExportService;
+import com.dev.finances.service.ReleaseSeriesService;
 import com.dev.finances.service.ReleaseService;
 import com.dev.finances.service.UserService;
 import com.dev.finances.utils.DateUtils;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,20 +38,44 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/releases")
 @RequiredArgsConstructor
 public class ReleasesController {
 
+    private static final int EXPORT_BUFFER_SIZE = 8192;
+    private static final int BULK_MAX_SIZE = 500;
+    private static final String PAGINATED_SCOPE = "p";
+    private static final String LAST_RELEASES_SCOPE = "l";
+    private static final String CONCURRENT_UPDATE = "O lançamento foi alterado por outra requisição, consulte-o novamente.";
+
     private final ReleaseService service;
     private final UserService userService;
+    private final ReleaseExportService exportService;
+    private final ReleaseBulkService bulkService;
+    private final ReleaseChangeFeed changeFeed;
+    private final ReleaseSeriesService seriesService;
+    private final ReleaseGenerations generations;
+    private final ReleaseAnalyticsStore analyticsStore;
+    private final ReleaseGroupCommitter groupCommitter;
 
     @GetMapping
     public ResponseEntity search(
@@ -52,52 +96,213 @@ public class ReleasesController {
             releaseFilter.setUser(user.get());
         }
 
-        List<Release> lancamentos = service.find(releaseFilter);
+        List<ReleasesDTO> lancamentos = service.find(releaseFilter);
         return ResponseEntity.ok(lancamentos);
     }
 
     @GetMapping("{id}")
-    public ResponseEntity getRelease(@PathVariable("id") Long id) {
-        return service.findById(id)
-                .map(release -> new ResponseEntity(converter(release), HttpStatus.OK))
+    public ResponseEntity getRelease(@PathVariable("id") Long id,
+                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return service.findDtoById(id)
+                .map(release -> {
+                    if (release.getVersion() == null)
+                        return new ResponseEntity(release, HttpStatus.OK);
+                    ReleaseETag tag = ReleaseETag.release(id, release.getUserId(), release.getVersion());
+                    if (tag.matches(ifNoneMatch))
+                        return notModified(tag);
+                    return ResponseEntity.ok().eTag(tag.format()).body(release);
+                })
                 .orElseGet(() -> new ResponseEntity(HttpStatus.NOT_FOUND));
     }
 
+    @GetMapping("/analytics")
+    public ResponseEntity analytics(@RequestParam(value = "userIds", required = false) List<Long> userIds,
+                                    @RequestParam(value = "from", required = false) String from,
+                                    @RequestParam(value = "to", required = false) String to,
+                                    @RequestParam(value = "type", required = false) ReleaseTypeEnum type,
+                                    @RequestParam(value = "status", required = false) ReleaseStatusEnum status,
+                                    @RequestParam(value = "groupBy", defaultValue = "TOTAL") AnalyticsGroupEnum groupBy) {
+        LocalDate fromDate = DateUtils.dateFormatDefault(from);
+        LocalDate toDate = DateUtils.dateFormatDefault(to);
+        if ((from != null && fromDate == null) || (to != null && toDate == null))
+            return ResponseEntity.badRequest().body("Informe um período válido.");
+
+        ReleaseAnalyticsQuery query = ReleaseAnalyticsQuery.builder()
+                .userIds(userIds)
+                .from(fromDate)
+                .to(toDate)
+                .type(type)
+                .status(status)
+                .groupBy(groupBy)
+                .build();
+        return analyticsStore.query(query)
+                .map(rows -> new ResponseEntity(rows, HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity("Relatórios indisponíveis no momento.", HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @GetMapping("{userId}/by-ids")
+    public ResponseEntity findByIds(@PathVariable("userId") @NonNull Long userId,
+                                    @RequestParam("ids") List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > BULK_MAX_SIZE)
+            return ResponseEntity.badRequest().body("Informe entre 1 e " + BULK_MAX_SIZE + " lançamentos por requisição.");
+
+        List<ReleasesDTO> releases = service.findDtosByIds(userId, ids);
+        Set<Long> found = releases.stream().map(ReleasesDTO::getId).collect(Collectors.toSet());
+        List<Long> notFound = ids.stream().filter(id -> !found.contains(id)).distinct().collect(Collectors.toList());
+        return ResponseEntity.ok(new MultiGetResponseDTO<>(releases, notFound));
+    }
+
     @GetMapping("/last-releases/{userId}")
-    public ResponseEntity lastReleases(@PathVariable("userId") @NonNull Long userId) {
-        return ResponseEntity.ok(service.lastReleases(userId));
+    public ResponseEntity lastReleases(@PathVariable("userId") @NonNull Long userId,
+                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return generations.read(() -> {
+            ReleaseETag tag = generations.tag(LAST_RELEASES_SCOPE + LocalDate.now().toEpochDay(), userId);
+            if (tag.matches(ifNoneMatch))
+                return notModified(tag);
+            return ResponseEntity.ok().eTag(tag.format()).body(service.lastReleases(userId));
+        });
     }
 
     @GetMapping("{userId}/releases-paginated")
     public ResponseEntity releasesPaginated(@PathVariable("userId") @NonNull Long userId,
                                             @RequestParam("page") Integer page,
-                                            @RequestParam("size") Integer size) {
-        return ResponseEntity.ok(service.getReleasesPaginated(userId, page, size));
+                                            @RequestParam("size") Integer size,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return generations.read(() -> {
+            ReleaseETag tag = generations.tag(PAGINATED_SCOPE, userId);
+            if (tag.matches(ifNoneMatch))
+                return notModified(tag);
+            return ResponseEntity.ok().eTag(tag.format()).body(service.getReleasesPaginated(userId, page, size));
+        });
+    }
+
+    @GetMapping("{userId}/releases-cursor")
+    public ResponseEntity releasesByCursor(@PathVariable("userId") @NonNull Long userId,
+                                           @RequestParam(value = "cursor", required = false) String cursor,
+                                           @RequestParam("size") Integer size,
+                                           @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+        if (size < 1)
+            return ResponseEntity.badRequest().body("Informe um tamanho de página válido.");
+
+        try {
+            return ResponseEntity.ok(service.getReleasesByCursor(userId, cursor, size, withTotal));
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping(value = "{userId}/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> changes(@PathVariable("userId") @NonNull Long userId) {
+        if (!userService.getById(userId).isPresent())
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header("X-Accel-Buffering", "no")
+                .body(changeFeed.subscribe(userId));
+    }
+
+    @GetMapping("{userId}/export")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable("userId") @NonNull Long userId,
+                                                        @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormatEnum format,
+                                                        @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        if (!userService.getById(userId).isPresent())
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+
+        StreamingResponseBody body = output -> {
+            if (gzip) {
+                GZIPOutputStream gzipOutput = new GZIPOutputStream(output, EXPORT_BUFFER_SIZE);
+                exportService.export(userId, format, gzipOutput);
+                gzipOutput.finish();
+            } else {
+                exportService.export(userId, format, output);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"releases-" + userId + "." + format.getExtension() + "\"");
+        if (gzip)
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return response.body(body);
     }
 
     @PostMapping("/create-release")
     public ResponseEntity create(@RequestBody ReleasesDTO dto) {
         try {
             Release release = converter(dto);
-            release = service.save(release);
+            release = groupCommitter.save(release);
             return new ResponseEntity(release, HttpStatus.CREATED);
         } catch (BusinessException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    @PostMapping("/create-releases")
+    public ResponseEntity createAll(@RequestBody List<ReleasesDTO> dtos) {
+        if (dtos.isEmpty() || dtos.size() > BULK_MAX_SIZE)
+            return ResponseEntity.badRequest().body("Informe entre 1 e " + BULK_MAX_SIZE + " lançamentos por requisição.");
+
+        Map<Long, Optional<User>> users = new HashMap<>();
+        List<Release> releases = new ArrayList<>(dtos.size());
+        for (ReleasesDTO dto : dtos) {
+            Optional<User> user = dto.getUserId() == null ? Optional.empty()
+                    : users.computeIfAbsent(dto.getUserId(), userService::getById);
+            releases.add(converter(dto, user.orElse(null)));
+        }
+
+        BulkResponseDTO response = bulkService.saveAll(releases);
+        HttpStatus status = response.getSucceeded() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return new ResponseEntity(response, status);
+    }
+
+    @PostMapping("/create-series")
+    public ResponseEntity createSeries(@RequestBody ReleaseSeriesDTO dto) {
+        try {
+            User user = userService
+                    .getById(dto.getUserId())
+                    .orElseThrow(() -> new BusinessException("Usuário não encontrado para o Id informado."));
+            ReleaseSeries series = ReleaseSeries.builder()
+                    .description(dto.getDescription())
+                    .value(dto.getValue())
+                    .type(dto.getType())
+                    .user(user)
+                    .firstReleaseDate(DateUtils.dateFormatDefault(dto.getReleaseDate()))
+                    .installments(dto.getInstallments())
+                    .build();
+            return new ResponseEntity(toDto(seriesService.save(series)), HttpStatus.CREATED);
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/series/{id}")
+    public ResponseEntity stopSeries(@PathVariable("id") Long id) {
+        return seriesService.findById(id).map(series -> {
+            seriesService.stop(series);
+            return new ResponseEntity(HttpStatus.NO_CONTENT);
+        }).orElseGet(() ->
+                new ResponseEntity("Série de lançamentos não encontrada na base de dados.", HttpStatus.BAD_REQUEST));
+    }
+
     @PutMapping
-    public ResponseEntity update(@RequestBody ReleasesDTO dto) {
+    public ResponseEntity update(@RequestBody ReleasesDTO dto,
+                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         return service.findById(dto.getId()).map(entity -> {
 
             try {
+                if (!matchesIfMatch(entity, ifMatch))
+                    return new ResponseEntity(CONCURRENT_UPDATE, HttpStatus.PRECONDITION_FAILED);
                 Release release = converter(dto);
                 release.setId(entity.getId());
+                release.setVersion(entity.getVersion());
                 service.update(release);
 
                 return ResponseEntity.ok(release);
             } catch (BusinessException e) {
                 return ResponseEntity.badRequest().body(e.getMessage());
+            } catch (OptimisticLockingFailureException e) {
+                return new ResponseEntity(CONCURRENT_UPDATE, HttpStatus.PRECONDITION_FAILED);
             }
 
         }).orElseGet(() ->
@@ -106,7 +311,8 @@ public class ReleasesController {
 
     @PutMapping("{id}/update-status")
     public ResponseEntity updateStatus(@PathVariable("id") Long id,
-                                       @RequestParam("status") ReleaseStatusEnum status) {
+                                       @RequestParam("status") ReleaseStatusEnum status,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         return service.findById(id).map(entity -> {
             ReleaseStatusEnum selectedStatus = ReleaseStatusEnum.valueOf(status.name());
 
@@ -114,39 +320,87 @@ public class ReleasesController {
                 return ResponseEntity.badRequest().body("Não foi possível atualizar o status do lançamentos, informe um status válido");
             }
 
+            if (!matchesIfMatch(entity, ifMatch))
+                return new ResponseEntity(CONCURRENT_UPDATE, HttpStatus.PRECONDITION_FAILED);
+
             try {
-                entity.setStatus(selectedStatus);
-                service.update(entity);
+                service.updateStatus(entity, selectedStatus);
                 return ResponseEntity.ok(entity);
             } catch (BusinessException e) {
                 return ResponseEntity.badRequest().body(e.getMessage());
+            } catch (OptimisticLockingFailureException e) {
+                return new ResponseEntity(CONCURRENT_UPDATE, HttpStatus.PRECONDITION_FAILED);
             }
         }).orElseGet(() ->
                 new ResponseEntity("Lançamento não encontrado na base de dados.", HttpStatus.BAD_REQUEST));
     }
 
+    @PutMapping("/update-status")
+    public ResponseEntity updateStatusAll(@RequestBody BulkIdsDTO dto) {
+        return changeAll(dto, () -> bulkService.updateStatus(dto.getUserId(), dto.getIds(), dto.getStatus()));
+    }
+
+    @PostMapping("/delete-releases")
+    public ResponseEntity deleteAll(@RequestBody BulkIdsDTO dto) {
+        return changeAll(dto, () -> bulkService.deleteAll(dto.getUserId(), dto.getIds()));
+    }
+
     @DeleteMapping("{id}")
-    public ResponseEntity deletar(@PathVariable("id") Long id) {
+    public ResponseEntity deletar(@PathVariable("id") Long id,
+                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         return service.findById(id).map(entity -> {
-            service.delete(entity);
+            if (!matchesIfMatch(entity, ifMatch))
+                return new ResponseEntity(CONCURRENT_UPDATE, HttpStatus.PRECONDITION_FAILED);
+
+            try {
+                service.delete(entity);
+            } catch (OptimisticLockingFailureException e) {
+                return new ResponseEntity(CONCURRENT_UPDATE, HttpStatus.PRECONDITION_FAILED);
+            }
             return new ResponseEntity(HttpStatus.NO_CONTENT);
         }).orElseGet(() ->
                 new ResponseEntity("Lançamento não encontrado na base de dados.", HttpStatus.BAD_REQUEST));
     }
 
-    private ReleasesDTO converter(Release release) {
-        return ReleasesDTO.builder()
-                .id(release.getId())
-                .description(release.getDescription())
-                .value(release.getValue())
-                .mouth(release.getMes())
-                .year(release.getAno())
-                .status(release.getStatus())
-                .type(release.getType())
-                .releaseDate(DateUtils.dateFormatDefault(release.getReleaseDate()))
-                .userId(release.getUser().getId())
-                .build();
+    private ResponseEntity changeAll(BulkIdsDTO dto, Supplier<BulkResponseDTO> change) {
+        if (dto.getIds() == null || dto.getIds().isEmpty() || dto.getIds().size() > BULK_MAX_SIZE)
+            return ResponseEntity.badRequest().body("Informe entre 1 e " + BULK_MAX_SIZE + " lançamentos por requisição.");
+        if (dto.getUserId() == null || !userService.getById(dto.getUserId()).isPresent())
+            return ResponseEntity.badRequest().body("Usuário não encontrado para o Id informado.");
+
+        try {
+            BulkResponseDTO response = change.get();
+            HttpStatus status = response.getSucceeded() > 0 ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+            return new ResponseEntity(response, status);
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 
+    private ResponseEntity notModified(ReleaseETag tag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag.format()).build();
+    }
+
+    private boolean matchesIfMatch(Release entity, String ifMatch) {
+        if (ifMatch == null || ReleaseETag.isAny(ifMatch))
+            return true;
+        return entity.getVersion() != null && ReleaseETag.parseAll(ifMatch).stream()
+                .anyMatch(tag -> tag.isRelease(entity.getId()) && tag.getGeneration() == entity.getVersion());
+    }
+
+    private ReleaseSeriesDTO toDto(ReleaseSeries series) {
+        return ReleaseSeriesDTO.builder()
+                .id(series.getId())
+                .description(series.getDescription())
+                .value(series.getValue())
+                .userId(series.getUser().getId())
+                .type(series.getType())
+                .releaseDate(DateUtils.dateFormatDefault(series.getFirstReleaseDate()))
+                .installments(series.getInstallments())
+                .generated(series.getGeneratedCount())
+                .nextReleaseDate(series.isComplete() ? null : DateUtils.dateFormatDefault(series.getNextReleaseDate()))
+                .active(series.getActive())
+                .build();
     }
 
     private Release converter(ReleasesDTO dto) {
@@ -154,6 +408,10 @@ public class ReleasesController {
                 .getById(dto.getUserId())
                 .orElseThrow(() -> new BusinessException("Usuário não encontrado para o Id informado."));
 
+        return converter(dto, user);
+    }
+
+    Release converter(ReleasesDTO dto, User user) {
         Release release = new Release();
         release.setId(dto.getId());
         release.setDescription(dto.getDescription());
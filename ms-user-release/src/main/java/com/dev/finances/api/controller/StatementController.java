@@ -0,0 +1,57 @@
+package com.dev.finances.api.controller;
+
+import com.dev.finances.api.dto.StatementImportStatusDTO;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.StatementFormatEnum;
+import com.dev.finances.service.StatementImportService;
+import com.dev.finances.service.UserService;
+import com.dev.finances.statement.StatementImportJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/statements")
+@RequiredArgsConstructor
+public class StatementController {
+
+    private final StatementImportService service;
+    private final UserService userService;
+
+    @PostMapping("{userId}")
+    public ResponseEntity importStatement(@PathVariable("userId") Long userId,
+                                          @RequestParam("format") StatementFormatEnum format,
+                                          @RequestParam("file") MultipartFile file) {
+        Optional<User> user = userService.getById(userId);
+        if (!user.isPresent())
+            return ResponseEntity.badRequest().body("Usuário não encontrado para o Id informado.");
+
+        if (file.isEmpty())
+            return ResponseEntity.badRequest().body("Informe um arquivo de extrato.");
+
+        try (InputStream input = file.getInputStream()) {
+            StatementImportJob job = service.start(user.get(), format, input);
+            return new ResponseEntity(StatementImportStatusDTO.of(job), HttpStatus.ACCEPTED);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body("Não foi possível ler o arquivo de extrato.");
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity status(@PathVariable("jobId") String jobId) {
+        return service.findJob(jobId)
+                .map(job -> ResponseEntity.ok(StatementImportStatusDTO.of(job)))
+                .orElseGet(() -> new ResponseEntity(HttpStatus.NOT_FOUND));
+    }
+}
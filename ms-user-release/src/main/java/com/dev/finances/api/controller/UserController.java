@@ -4,8 +4,10 @@ import com.dev.finances.api.dto.UserAuthenticated;
 import com.dev.finances.api.dto.UserDTO;
 import com.dev.finances.exception.AuthenticationException;
 import com.dev.finances.exception.BusinessException;
+import com.dev.finances.exception.DashboardTimeoutException;
 import com.dev.finances.model.entity.User;
 import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.service.DashboardService;
 import com.dev.finances.service.ReleaseService;
 import com.dev.finances.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -29,6 +32,7 @@ public class UserController {
 
     private final UserService service;
     private final ReleaseService releaseService;
+    private final DashboardService dashboardService;
 
     @PostMapping("/auth")
     public ResponseEntity auth(@RequestBody UserDTO dto) {
@@ -85,4 +89,29 @@ public class UserController {
         return ResponseEntity.ok(extract);
     }
 
+    @PutMapping("{id}/auto-settle")
+    public ResponseEntity updateAutoSettle(@PathVariable("id") Long id,
+                                           @RequestParam("enabled") boolean enabled) {
+        try {
+            service.updateAutoSettle(id, enabled);
+            return new ResponseEntity(HttpStatus.NO_CONTENT);
+        } catch (BusinessException e) {
+            return new ResponseEntity(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @GetMapping("{id}/dashboard")
+    public ResponseEntity getDashboard(@PathVariable("id") Long id) {
+        Optional<User> user = service.getById(id);
+
+        if (!user.isPresent())
+            return new ResponseEntity(HttpStatus.NOT_FOUND);
+
+        try {
+            return ResponseEntity.ok(dashboardService.getDashboard(id));
+        } catch (DashboardTimeoutException e) {
+            return new ResponseEntity(e.getMessage(), HttpStatus.GATEWAY_TIMEOUT);
+        }
+    }
+
 }
@@ -0,0 +1,20 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkIdsDTO {
+
+	private Long userId;
+	private List<Long> ids;
+	private ReleaseStatusEnum status;
+}
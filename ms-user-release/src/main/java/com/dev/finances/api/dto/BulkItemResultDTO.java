@@ -0,0 +1,18 @@
+package com.dev.finances.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkItemResultDTO {
+
+	private Integer index;
+	private Long id;
+	private boolean success;
+	private String message;
+}
@@ -0,0 +1,16 @@
+package com.dev.finances.api.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class BulkResponseDTO {
+    private final List<BulkItemResultDTO> items;
+    private final Integer succeeded;
+    private final Integer failed;
+    private final Long elapsedMillis;
+    private final Long rowsPerSecond;
+}
@@ -0,0 +1,14 @@
+package com.dev.finances.api.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class CursorPageResponseDTO<T> {
+    private final List<T> items;
+    private final String nextCursor;
+    private final Long totalRecords;
+}
@@ -0,0 +1,19 @@
+package com.dev.finances.api.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@RequiredArgsConstructor
+public class DashboardDTO {
+    private final BigDecimal balance;
+    private final BigDecimal receitas;
+    private final BigDecimal despesas;
+    private final List<ReleasesDTO> lastReleases;
+    private final Map<String, Long> latencyMillis;
+    private final Long elapsedMillis;
+}
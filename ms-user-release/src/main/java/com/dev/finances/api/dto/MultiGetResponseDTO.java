@@ -0,0 +1,13 @@
+package com.dev.finances.api.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class MultiGetResponseDTO<T> {
+    private final List<T> items;
+    private final List<Long> notFound;
+}
@@ -0,0 +1,19 @@
+package com.dev.finances.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReleaseAnalyticsDTO {
+
+	private String group;
+	private BigDecimal total;
+	private long count;
+}
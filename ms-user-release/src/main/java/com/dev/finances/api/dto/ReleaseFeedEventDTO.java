@@ -0,0 +1,25 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.model.enums.ReleaseActionEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class ReleaseFeedEventDTO {
+    private final ReleaseActionEnum action;
+    private final Long releaseId;
+    private final String description;
+    private final Integer mes;
+    private final Integer ano;
+    private final BigDecimal value;
+    private final ReleaseTypeEnum type;
+    private final ReleaseStatusEnum status;
+    private final LocalDate releaseDate;
+    private final BigDecimal balance;
+}
@@ -0,0 +1,20 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.model.enums.ReleaseActionEnum;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ReleaseOutboxMessageDTO {
+    private final Long id;
+    private final Long userId;
+    private final Long releaseId;
+    private final ReleaseActionEnum action;
+    private final LocalDateTime createdAt;
+    @JsonRawValue
+    private final String release;
+}
@@ -0,0 +1,27 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReleaseSeriesDTO {
+
+	private Long id;
+	private String description;
+	private BigDecimal value;
+	private Long userId;
+	private ReleaseTypeEnum type;
+	private String releaseDate;
+	private Integer installments;
+	private Integer generated;
+	private String nextReleaseDate;
+	private Boolean active;
+}
@@ -1,11 +1,12 @@
 package com.dev.finances.api.dto;
 
 import java.math.BigDecimal;
-import java.util.Date;
+import java.time.LocalDate;
 
 import com.dev.finances.model.enums.ReleaseStatusEnum;
 import com.dev.finances.model.enums.ReleaseTypeEnum;
 import com.dev.finances.utils.DateUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,9 +27,15 @@ public class ReleasesDTO {
 	private ReleaseTypeEnum type;
 	private ReleaseStatusEnum status;
 	private String releaseDate;
+	@JsonIgnore
+	private LocalDate releaseLocalDate;
+	@JsonIgnore
+	private LocalDate createAt;
+	@JsonIgnore
+	private Long version;
 
 	public ReleasesDTO (Long id,  String description, Integer mouth, Integer year, BigDecimal value, Long userId,  ReleaseTypeEnum type,
-						ReleaseStatusEnum status, Date releaseDate) {
+						ReleaseStatusEnum status, LocalDate releaseDate) {
 		this.id = id;
 		this.description = description;
 		this.mouth = mouth;
@@ -38,5 +45,18 @@ public class ReleasesDTO {
 		this.type = type;
 		this.status = status;
 		this.releaseDate = DateUtils.dateFormatDefault(releaseDate);
+		this.releaseLocalDate = releaseDate;
+	}
+
+	public ReleasesDTO (Long id,  String description, Integer mouth, Integer year, BigDecimal value, Long userId,  ReleaseTypeEnum type,
+						ReleaseStatusEnum status, LocalDate releaseDate, LocalDate createAt) {
+		this(id, description, mouth, year, value, userId, type, status, releaseDate);
+		this.createAt = createAt;
+	}
+
+	public ReleasesDTO (Long id,  String description, Integer mouth, Integer year, BigDecimal value, Long userId,  ReleaseTypeEnum type,
+						ReleaseStatusEnum status, LocalDate releaseDate, LocalDate createAt, Long version) {
+		this(id, description, mouth, year, value, userId, type, status, releaseDate, createAt);
+		this.version = version;
 	}
 }
@@ -0,0 +1,42 @@
+package com.dev.finances.api.dto;
+
+import com.dev.finances.model.enums.ImportStatusEnum;
+import com.dev.finances.statement.StatementImportJob;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class StatementImportStatusDTO {
+
+	private String id;
+	private Long userId;
+	private ImportStatusEnum status;
+	private Long parsed;
+	private Long imported;
+	private Long duplicated;
+	private Long rejected;
+	private Long rowsPerSecond;
+	private List<String> errors;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+
+	public static StatementImportStatusDTO of(StatementImportJob job) {
+		return StatementImportStatusDTO.builder()
+				.id(job.getId())
+				.userId(job.getUserId())
+				.status(job.getStatus())
+				.parsed(job.getParsed().get())
+				.imported(job.getImported().get())
+				.duplicated(job.getDuplicated().get())
+				.rejected(job.getRejected().get())
+				.rowsPerSecond(job.getRowsPerSecond())
+				.errors(job.getErrors())
+				.startedAt(job.getStartedAt())
+				.finishedAt(job.getFinishedAt())
+				.build();
+	}
+}
@@ -1,27 +1,84 @@
 package com.dev.finances.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
-public class DataSourceConfig {
+public class DataSourceConfig implements DisposableBean {
 
     private final RemoteSecurityConfig remoteSecurityConfig;
+    private final MeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
 
-    public DataSourceConfig(RemoteSecurityConfig remoteSecurityConfig){
+    public DataSourceConfig(RemoteSecurityConfig remoteSecurityConfig, ObjectProvider<MeterRegistry> meterRegistry){
         this.remoteSecurityConfig = remoteSecurityConfig;
+        this.meterRegistry = meterRegistry.getIfAvailable();
     }
 
     @Bean
     public DataSource getDataSource() {
-        DataSourceBuilder dataSourceBuilder = DataSourceBuilder.create();
-        dataSourceBuilder.driverClassName(remoteSecurityConfig.getDriverClassName());
-        dataSourceBuilder.url(remoteSecurityConfig.getUrl());
-        dataSourceBuilder.username(remoteSecurityConfig.getUsername());
-        dataSourceBuilder.password(remoteSecurityConfig.getPassword());
-        return dataSourceBuilder.build();
+        HikariDataSource primary = pool(ReplicaRoutingDataSource.PRIMARY, remoteSecurityConfig.getUrl(),
+                remoteSecurityConfig.getUsername(), remoteSecurityConfig.getPassword());
+        if (remoteSecurityConfig.getReplicas().isEmpty())
+            return primary;
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (RemoteSecurityConfig.Replica replica : remoteSecurityConfig.getReplicas()) {
+            replicas.add(pool("replica-" + (replicas.size() + 1), replica.getUrl(),
+                    replica.getUsername() == null ? remoteSecurityConfig.getUsername() : replica.getUsername(),
+                    replica.getPassword() == null ? remoteSecurityConfig.getPassword() : replica.getPassword()));
+        }
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, remoteSecurityConfig.getReplicaMaxLag(),
+                remoteSecurityConfig.getReplicaLagQuery());
+        if (meterRegistry != null) {
+            for (HikariDataSource replica : replicas) {
+                Gauge.builder("datasource.replica.lag", routingDataSource, routing -> routing.getReplicaLag().get(replica.getPoolName()))
+                        .baseUnit("milliseconds")
+                        .tag("pool", replica.getPoolName())
+                        .register(meterRegistry);
+            }
+        }
+        routingDataSource.checkReplicas();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica-check-interval:5000}")
+    public void checkReplicas() {
+        if (routingDataSource != null)
+            routingDataSource.checkReplicas();
+    }
+
+    @Override
+    public void destroy() {
+        if (routingDataSource != null)
+            routingDataSource.close();
+    }
+
+    private HikariDataSource pool(String name, String url, String username, String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(remoteSecurityConfig.getDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName(name);
+        if (meterRegistry != null)
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
     }
 }
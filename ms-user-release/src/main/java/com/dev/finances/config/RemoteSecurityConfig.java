@@ -6,6 +6,10 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 @ConfigurationProperties("datasource")
 @NoArgsConstructor
@@ -13,9 +17,25 @@ import org.springframework.stereotype.Component;
 @Setter
 public class RemoteSecurityConfig {
 
+    public static final String POSTGRES_LAG_QUERY = "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 " +
+            "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0) end";
+
     private String url;
     private String username;
     private String password;
     private String driverClassName;
+    private List<Replica> replicas = new ArrayList<>();
+    private Duration replicaMaxLag = Duration.ofSeconds(5);
+    private String replicaLagQuery = POSTGRES_LAG_QUERY;
+
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
 
-}
\ No newline at end of file
+    }
+}
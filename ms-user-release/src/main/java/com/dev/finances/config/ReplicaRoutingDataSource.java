@@ -0,0 +1,102 @@
+package com.dev.finances.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Log4j2
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<ReplicaPool> replicas = new ArrayList<>();
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, Duration maxLag, String lagQuery) {
+        this.primary = primary;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (HikariDataSource replica : replicas) {
+            this.replicas.add(new ReplicaPool(replica));
+            targets.put(replica.getPoolName(), replica);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly())
+            return PRIMARY;
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaPool replica = replicas.get((start + i) % size);
+            if (replica.healthy)
+                return replica.dataSource.getPoolName();
+        }
+        return PRIMARY;
+    }
+
+    public void checkReplicas() {
+        for (ReplicaPool replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery(lagQuery)) {
+                replica.lagMillis = result.next() ? result.getLong(1) : Long.MAX_VALUE;
+            } catch (Exception e) {
+                replica.lagMillis = Long.MAX_VALUE;
+                log.warn("Error to check lag of replica " + replica.dataSource.getPoolName() + ": " + e.getMessage());
+            }
+
+            boolean healthy = replica.lagMillis <= maxLag.toMillis();
+            if (healthy != replica.healthy)
+                log.info("Replica " + replica.dataSource.getPoolName() + (healthy ? " is serving reads" : " removed from reads")
+                        + ", lag " + replica.lagMillis + " ms");
+            replica.healthy = healthy;
+        }
+    }
+
+    public Map<String, Long> getReplicaLag() {
+        Map<String, Long> lag = new HashMap<>();
+        replicas.forEach(replica -> lag.put(replica.dataSource.getPoolName(), replica.lagMillis));
+        return lag;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    private static class ReplicaPool {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagMillis = Long.MAX_VALUE;
+
+        ReplicaPool(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
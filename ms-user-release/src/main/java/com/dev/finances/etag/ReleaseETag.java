@@ -0,0 +1,79 @@
+package com.dev.finances.etag;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class ReleaseETag {
+
+    private static final String SEPARATOR = ".";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+    private static final String RELEASE_SCOPE = "r";
+
+    private final String scope;
+    private final Long userId;
+    private final long generation;
+
+    public String format() {
+        return "\"" + scope + SEPARATOR + userId + SEPARATOR + generation + "\"";
+    }
+
+    public boolean matches(String header) {
+        if (header == null)
+            return false;
+        String tag = format();
+        for (String value : header.split(",")) {
+            String candidate = value.trim();
+            if (candidate.equals(ANY) || candidate.equals(tag))
+                return true;
+        }
+        return false;
+    }
+
+    public boolean isRelease(Long id) {
+        return scope.equals(releaseScope(id));
+    }
+
+    public static ReleaseETag release(Long id, Long userId, long version) {
+        return new ReleaseETag(releaseScope(id), userId, version);
+    }
+
+    private static String releaseScope(Long id) {
+        return RELEASE_SCOPE + id;
+    }
+
+    public static boolean isAny(String header) {
+        return header != null && header.trim().equals(ANY);
+    }
+
+    public static List<ReleaseETag> parseAll(String header) {
+        List<ReleaseETag> tags = new ArrayList<>();
+        if (header == null)
+            return tags;
+        for (String value : header.split(",")) {
+            ReleaseETag tag = parse(value);
+            if (tag != null)
+                tags.add(tag);
+        }
+        return tags;
+    }
+
+    public static ReleaseETag parse(String value) {
+        String tag = value.trim();
+        if (tag.startsWith(WEAK_PREFIX) || tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\""))
+            return null;
+        String[] parts = tag.substring(1, tag.length() - 1).split("\\.");
+        if (parts.length != 3)
+            return null;
+        try {
+            return new ReleaseETag(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.dev.finances.etag;
+
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.event.ReleasesArchivedEvent;
+import com.dev.finances.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class ReleaseGenerations {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final Cache<Long, AtomicLong> known;
+
+    public ReleaseGenerations(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                              @Value("${release.generation.cache-ttl-ms:1000}") long cacheTtlMillis,
+                              @Value("${release.generation.cache-size:100000}") long cacheSize) {
+        this.userRepository = userRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.known = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtlMillis, TimeUnit.MILLISECONDS)
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    public long current(Long userId) {
+        Long generation = readTransaction.execute(status -> userRepository.findReleaseGeneration(userId).orElse(0L));
+        long value = generation == null ? 0 : generation;
+        known.get(userId, id -> new AtomicLong(value)).accumulateAndGet(value, Math::max);
+        return value;
+    }
+
+    public long cached(Long userId) {
+        AtomicLong generation = known.getIfPresent(userId);
+        return generation == null ? current(userId) : generation.get();
+    }
+
+    public ReleaseETag tag(String scope, Long userId) {
+        return new ReleaseETag(scope, userId, current(userId));
+    }
+
+    public <T> T read(Supplier<T> read) {
+        return readTransaction.execute(status -> read.get());
+    }
+
+    @EventListener
+    public void onReleaseChanged(ReleaseChangedEvent event) {
+        count(event.getUserId());
+        if (!event.getPreviousUserId().equals(event.getUserId()))
+            count(event.getPreviousUserId());
+    }
+
+    @EventListener
+    public void onReleasesArchived(ReleasesArchivedEvent event) {
+        event.getReleaseIdsByUser().keySet().forEach(this::count);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void count(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writeTransaction.executeWithoutResult(status -> userRepository.incrementReleaseGeneration(userId, 1));
+            advance(userId, 1);
+            return;
+        }
+
+        Map<Long, Long> changes = (Map<Long, Long>) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            Map<Long, Long> pending = new TreeMap<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    pending.forEach(userRepository::incrementReleaseGeneration);
+                }
+
+                @Override
+                public void afterCommit() {
+                    pending.forEach(ReleaseGenerations.this::advance);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReleaseGenerations.this);
+                }
+            });
+            changes = pending;
+        }
+        changes.merge(userId, 1L, Long::sum);
+    }
+
+    private void advance(Long userId, long changes) {
+        AtomicLong generation = known.getIfPresent(userId);
+        if (generation != null)
+            generation.addAndGet(changes);
+    }
+}
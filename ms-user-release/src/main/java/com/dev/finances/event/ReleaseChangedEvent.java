@@ -0,0 +1,69 @@
+package com.dev.finances.event;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.enums.ReleaseActionEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class ReleaseChangedEvent {
+
+    private final ReleaseActionEnum action;
+    private final Long releaseId;
+    private final Long userId;
+    private final Long previousUserId;
+    private final String description;
+    private final Integer mes;
+    private final Integer ano;
+    private final BigDecimal value;
+    private final ReleaseTypeEnum type;
+    private final ReleaseStatusEnum status;
+    private final LocalDate createAt;
+    private final LocalDate releaseDate;
+
+    public static ReleaseChangedEvent of(ReleaseActionEnum action, Release release, Long previousUserId) {
+        Long userId = release.getUser() == null ? previousUserId : release.getUser().getId();
+        return ReleaseChangedEvent.builder()
+                .action(action)
+                .releaseId(release.getId())
+                .userId(userId)
+                .previousUserId(previousUserId == null ? userId : previousUserId)
+                .description(release.getDescription())
+                .mes(release.getMes())
+                .ano(release.getAno())
+                .value(release.getValue())
+                .type(release.getType())
+                .status(release.getStatus())
+                .createAt(release.getCreateAt())
+                .releaseDate(release.getReleaseDate())
+                .build();
+    }
+
+    public static ReleaseChangedEvent of(ReleaseActionEnum action, ReleasesDTO release) {
+        return ReleaseChangedEvent.builder()
+                .action(action)
+                .releaseId(release.getId())
+                .userId(release.getUserId())
+                .previousUserId(release.getUserId())
+                .description(release.getDescription())
+                .mes(release.getMouth())
+                .ano(release.getYear())
+                .value(release.getValue())
+                .type(release.getType())
+                .status(release.getStatus())
+                .createAt(release.getCreateAt())
+                .releaseDate(release.getReleaseLocalDate())
+                .build();
+    }
+
+    public boolean isRemoval() {
+        return action == ReleaseActionEnum.REMOVIDO;
+    }
+}
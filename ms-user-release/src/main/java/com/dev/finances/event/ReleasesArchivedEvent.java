@@ -0,0 +1,14 @@
+package com.dev.finances.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@RequiredArgsConstructor
+public class ReleasesArchivedEvent {
+
+    private final Map<Long, List<Long>> releaseIdsByUser;
+}
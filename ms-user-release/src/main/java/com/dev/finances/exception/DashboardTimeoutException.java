@@ -0,0 +1,8 @@
+package com.dev.finances.exception;
+
+public class DashboardTimeoutException extends RuntimeException {
+
+	public DashboardTimeoutException(String msg, Throwable cause) {
+		super(msg, cause);
+	}
+}
@@ -0,0 +1,30 @@
+package com.dev.finances.feed;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class FeedEvent {
+
+    private static final long RECONNECT_MILLIS = 3000;
+
+    static final FeedEvent CONNECTED = new FeedEvent(null, null, null, "connected");
+    static final FeedEvent HEARTBEAT = new FeedEvent(null, null, null, "heartbeat");
+
+    private final String id;
+    private final String name;
+    private final String json;
+    private final String comment;
+
+    static FeedEvent of(long id, String name, String json) {
+        return new FeedEvent(String.valueOf(id), name, json, null);
+    }
+
+    SseEventBuilder toSse() {
+        if (comment != null)
+            return SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment(comment);
+        return SseEmitter.event().id(id).name(name).data(json);
+    }
+}
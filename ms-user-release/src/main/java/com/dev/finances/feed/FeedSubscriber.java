@@ -0,0 +1,78 @@
+package com.dev.finances.feed;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+@Log4j2
+class FeedSubscriber {
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final Queue<FeedEvent> buffer;
+    private final Consumer<FeedSubscriber> onClose;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    FeedSubscriber(Long userId, SseEmitter emitter, int bufferSize, Consumer<FeedSubscriber> onClose) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.onClose = onClose;
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    boolean offer(FeedEvent event) {
+        if (closed)
+            return false;
+        if (buffer.offer(event))
+            return true;
+        log.warn("Closing release feed of user " + userId + ": " + buffer.size() + " events pending");
+        close();
+        return false;
+    }
+
+    void drain(Executor executor) {
+        if (!closed && !buffer.isEmpty() && draining.compareAndSet(false, true))
+            executor.execute(() -> send(executor));
+    }
+
+    void close() {
+        if (closed)
+            return;
+        closed = true;
+        buffer.clear();
+        onClose.accept(this);
+        try {
+            emitter.complete();
+        } catch (RuntimeException e) {
+            log.debug("Error to complete release feed of user " + userId, e);
+        }
+    }
+
+    private void send(Executor executor) {
+        try {
+            FeedEvent event;
+            while (!closed && (event = buffer.poll()) != null)
+                emitter.send(event.toSse());
+        } catch (Exception e) {
+            log.debug("Error to send release feed of user " + userId, e);
+            close();
+        } finally {
+            draining.set(false);
+        }
+        drain(executor);
+    }
+}
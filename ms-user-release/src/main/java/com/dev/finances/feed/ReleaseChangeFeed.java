@@ -0,0 +1,188 @@
+package com.dev.finances.feed;
+
+import com.dev.finances.api.dto.ReleaseFeedEventDTO;
+import com.dev.finances.api.dto.ReleaseOutboxMessageDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.utils.DateUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Log4j2
+@Component
+public class ReleaseChangeFeed {
+
+    private final ReleaseService releaseService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate primaryTransaction;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final ExecutorService dispatcher;
+    private final Map<Long, Set<FeedSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Queue<ReleaseOutboxMessageDTO>> pendingEvents = new ConcurrentHashMap<>();
+    private final Set<Long> scheduledUsers = ConcurrentHashMap.newKeySet();
+
+    public ReleaseChangeFeed(ReleaseService releaseService, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                             @Value("${release.feed.timeout-ms:1800000}") long timeoutMillis,
+                             @Value("${release.feed.buffer-size:64}") int bufferSize,
+                             @Value("${release.feed.threads:4}") int threads) {
+        this.releaseService = releaseService;
+        this.objectMapper = objectMapper;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "release-feed-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        return subscribe(userId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(Long userId, SseEmitter emitter) {
+        FeedSubscriber subscriber = new FeedSubscriber(userId, emitter, bufferSize, this::unsubscribe);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriber.offer(FeedEvent.CONNECTED);
+        subscriber.drain(dispatcher);
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @EventListener
+    public void onOutboxMessage(ReleaseOutboxMessageDTO message) {
+        enqueue(message.getUserId(), message);
+    }
+
+    @Scheduled(fixedDelayString = "${release.feed.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Set<FeedSubscriber> userSubscribers : subscribers.values()) {
+            for (FeedSubscriber subscriber : userSubscribers) {
+                if (subscriber.offer(FeedEvent.HEARTBEAT))
+                    subscriber.drain(dispatcher);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(FeedSubscriber::close));
+        dispatcher.shutdownNow();
+    }
+
+    private void enqueue(Long userId, ReleaseOutboxMessageDTO event) {
+        if (!subscribers.containsKey(userId))
+            return;
+        pendingEvents.compute(userId, (id, pending) -> {
+            Queue<ReleaseOutboxMessageDTO> queue = pending == null ? new ConcurrentLinkedQueue<>() : pending;
+            queue.add(event);
+            return queue;
+        });
+        if (scheduledUsers.add(userId))
+            dispatcher.execute(() -> dispatch(userId));
+    }
+
+    private void dispatch(Long userId) {
+        do {
+            Queue<ReleaseOutboxMessageDTO> pending = pendingEvents.get(userId);
+            List<ReleaseOutboxMessageDTO> events = new ArrayList<>();
+            ReleaseOutboxMessageDTO event;
+            while (pending != null && (event = pending.poll()) != null)
+                events.add(event);
+            publish(userId, events);
+            scheduledUsers.remove(userId);
+            discardPending(userId);
+        } while (hasPending(userId) && scheduledUsers.add(userId));
+    }
+
+    private void publish(Long userId, List<ReleaseOutboxMessageDTO> events) {
+        Set<FeedSubscriber> userSubscribers = subscribers.get(userId);
+        if (events.isEmpty() || userSubscribers == null)
+            return;
+
+        BigDecimal balance;
+        try {
+            balance = primaryTransaction.execute(status -> releaseService.getBalanceByUser(userId));
+        } catch (RuntimeException e) {
+            log.error("Error to load balance of user " + userId + " for the release feed", e);
+            balance = null;
+        }
+
+        for (ReleaseOutboxMessageDTO changed : events) {
+            FeedEvent feedEvent;
+            try {
+                ReleasesDTO release = objectMapper.readValue(changed.getRelease(), ReleasesDTO.class);
+                ReleaseFeedEventDTO payload = ReleaseFeedEventDTO.builder()
+                        .action(changed.getAction())
+                        .releaseId(changed.getReleaseId())
+                        .description(release.getDescription())
+                        .mes(release.getMouth())
+                        .ano(release.getYear())
+                        .value(release.getValue())
+                        .type(release.getType())
+                        .status(release.getStatus())
+                        .releaseDate(DateUtils.dateFormatDefault(release.getReleaseDate()))
+                        .balance(balance)
+                        .build();
+                feedEvent = FeedEvent.of(changed.getId(), changed.getAction().name(), objectMapper.writeValueAsString(payload));
+            } catch (JsonProcessingException e) {
+                log.error("Error to serialize release feed event of release " + changed.getReleaseId(), e);
+                continue;
+            }
+            userSubscribers.forEach(subscriber -> subscriber.offer(feedEvent));
+        }
+        userSubscribers.forEach(subscriber -> subscriber.drain(dispatcher));
+    }
+
+    private boolean hasPending(Long userId) {
+        Queue<ReleaseOutboxMessageDTO> pending = pendingEvents.get(userId);
+        return pending != null && !pending.isEmpty();
+    }
+
+    private void discardPending(Long userId) {
+        pendingEvents.computeIfPresent(userId, (id, pending) ->
+                pending.isEmpty() || !subscribers.containsKey(id) ? null : pending);
+    }
+
+    private void unsubscribe(FeedSubscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.getUserId(), (userId, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        discardPending(subscriber.getUserId());
+    }
+
+    int getPendingUserCount() {
+        return pendingEvents.size();
+    }
+}
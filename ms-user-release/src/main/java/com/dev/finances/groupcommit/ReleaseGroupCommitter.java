@@ -0,0 +1,248 @@
+package com.dev.finances.groupcommit;
+
+import com.dev.finances.api.dto.BulkItemResultDTO;
+import com.dev.finances.api.dto.BulkResponseDTO;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.service.ReleaseBulkService;
+import com.dev.finances.service.ReleaseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Log4j2
+@Component
+public class ReleaseGroupCommitter {
+
+    public static final String COMMIT_COUNTER = "finances.group-commit.commits";
+    public static final String FALLBACK_COUNTER = "finances.group-commit.fallbacks";
+    public static final String BATCH_SUMMARY = "finances.group-commit.batch-size";
+    public static final String FLUSH_TIMER = "finances.group-commit.flush";
+    public static final String QUEUE_GAUGE = "finances.group-commit.queue";
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final ReleaseService releaseService;
+    private final ReleaseBulkService bulkService;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long maxWaitNanos;
+    private final long timeoutMillis;
+    private final BlockingQueue<PendingRelease> queue;
+    private final Counter commitCounter;
+    private final Counter fallbackCounter;
+    private final DistributionSummary batchSummary;
+    private final Timer flushTimer;
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ReleaseGroupCommitter(ReleaseService releaseService, ReleaseBulkService bulkService, MeterRegistry registry,
+                                 @Value("${release.group-commit.enabled:false}") boolean enabled,
+                                 @Value("${release.group-commit.max-batch:100}") int maxBatch,
+                                 @Value("${release.group-commit.max-wait-ms:5}") long maxWaitMillis,
+                                 @Value("${release.group-commit.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${release.group-commit.timeout-ms:10000}") long timeoutMillis) {
+        this.releaseService = releaseService;
+        this.bulkService = bulkService;
+        this.enabled = enabled;
+        this.maxBatch = maxBatch;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.timeoutMillis = timeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.commitCounter = registry.counter(COMMIT_COUNTER);
+        this.fallbackCounter = registry.counter(FALLBACK_COUNTER);
+        this.batchSummary = registry.summary(BATCH_SUMMARY);
+        this.flushTimer = registry.timer(FLUSH_TIMER);
+        registry.gauge(QUEUE_GAUGE, queue, BlockingQueue::size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running)
+            return;
+        running = true;
+        flusher = new Thread(this::run, "release-group-commit");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    @EventListener(ContextClosedEvent.class)
+    public void stop() throws InterruptedException {
+        Thread current;
+        synchronized (this) {
+            runningLock.writeLock().lock();
+            try {
+                running = false;
+            } finally {
+                runningLock.writeLock().unlock();
+            }
+            current = flusher;
+        }
+        if (current != null)
+            current.join(TimeUnit.SECONDS.toMillis(5));
+
+        List<PendingRelease> left = new ArrayList<>();
+        queue.drainTo(left);
+        left.stream().filter(PendingRelease::claim).forEach(this::saveAlone);
+    }
+
+    public Release save(Release release) {
+        PendingRelease pending = enqueue(release);
+        if (pending == null)
+            return releaseService.save(release);
+
+        try {
+            return await(pending, timeoutMillis);
+        } catch (TimeoutException e) {
+            if (pending.claim())
+                throw new IllegalStateException("Group commit of release did not finish in " + timeoutMillis + " ms", e);
+        }
+        try {
+            return await(pending, Long.MAX_VALUE);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PendingRelease enqueue(Release release) {
+        runningLock.readLock().lock();
+        try {
+            if (!running)
+                return null;
+
+            releaseService.validate(release);
+            PendingRelease pending = new PendingRelease(release);
+            if (!queue.offer(pending)) {
+                fallbackCounter.increment();
+                return null;
+            }
+            return pending;
+        } finally {
+            runningLock.readLock().unlock();
+        }
+    }
+
+    private Release await(PendingRelease pending, long millis) throws TimeoutException {
+        try {
+            return pending.result.get(millis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for group commit of release", e);
+        }
+    }
+
+    private void run() {
+        List<PendingRelease> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingRelease first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatch) {
+                    queue.drainTo(batch, maxBatch - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatch || remaining <= 0)
+                        break;
+                    PendingRelease next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null)
+                        break;
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.result.completeExceptionally(e));
+                return;
+            } catch (RuntimeException e) {
+                log.error("Error to group commit releases", e);
+                batch.forEach(pending -> pending.result.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void flush(List<PendingRelease> batch) {
+        batch.removeIf(pending -> !pending.claim());
+        if (batch.isEmpty())
+            return;
+
+        List<Release> releases = new ArrayList<>(batch.size());
+        batch.forEach(pending -> releases.add(pending.release));
+
+        long start = System.nanoTime();
+        BulkResponseDTO response;
+        try {
+            response = bulkService.saveAll(releases);
+        } catch (RuntimeException e) {
+            log.warn("Group commit of " + batch.size() + " releases failed, saving them one by one", e);
+            batch.forEach(this::saveAlone);
+            return;
+        }
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        commitCounter.increment();
+        batchSummary.record(batch.size());
+
+        for (int index = 0; index < batch.size(); index++) {
+            BulkItemResultDTO result = response.getItems().get(index);
+            PendingRelease pending = batch.get(index);
+            if (result.isSuccess())
+                pending.result.complete(pending.release);
+            else
+                pending.result.completeExceptionally(new BusinessException(result.getMessage()));
+        }
+    }
+
+    private void saveAlone(PendingRelease pending) {
+        pending.release.setId(null);
+        pending.release.setVersion(null);
+        try {
+            pending.result.complete(releaseService.save(pending.release));
+            commitCounter.increment();
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    static class PendingRelease {
+
+        private final Release release;
+        private final CompletableFuture<Release> result = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        PendingRelease(Release release) {
+            this.release = release;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
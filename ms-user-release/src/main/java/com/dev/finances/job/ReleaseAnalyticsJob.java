@@ -0,0 +1,18 @@
+package com.dev.finances.job;
+
+import com.dev.finances.analytics.ReleaseAnalyticsStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ReleaseAnalyticsJob {
+
+    private final ReleaseAnalyticsStore analyticsStore;
+
+    @Scheduled(cron = "${release.analytics.rebuild-cron:-}")
+    public void rebuild() {
+        analyticsStore.rebuild();
+    }
+}
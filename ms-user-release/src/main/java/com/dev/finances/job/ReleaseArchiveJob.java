@@ -0,0 +1,45 @@
+package com.dev.finances.job;
+
+import com.dev.finances.service.ReleaseArchiveService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Log4j2
+@Component
+public class ReleaseArchiveJob {
+
+    private final ReleaseArchiveService archiveService;
+    private final int batchSize;
+
+    public ReleaseArchiveJob(ReleaseArchiveService archiveService,
+                             @Value("${release.archive.batch-size:1000}") int batchSize) {
+        this.archiveService = archiveService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${release.archive.cron:-}")
+    public void archive() {
+        long start = System.currentTimeMillis();
+        long archived = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Long> ids;
+            try {
+                ids = archiveService.archive(afterId, batchSize);
+            } catch (RuntimeException ex) {
+                log.error("Error to archive releases after id: " + afterId, ex);
+                break;
+            }
+            if (ids.isEmpty())
+                break;
+            archived += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        log.info("Archived " + archived + " releases before " + archiveService.getHorizon() + " in "
+                + (System.currentTimeMillis() - start) + " ms");
+    }
+}
@@ -0,0 +1,32 @@
+package com.dev.finances.job;
+
+import com.dev.finances.repository.UserRepository;
+import com.dev.finances.service.ReleaseDailyBalanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ReleaseDailyBalanceJob {
+
+    private final ReleaseDailyBalanceService dailyBalanceService;
+    private final UserRepository userRepository;
+
+    @Scheduled(cron = "${release.daily-balance.rebuild-cron:-}")
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+        int users = 0;
+        for (Long userId : userRepository.findAllIds()) {
+            try {
+                dailyBalanceService.rebuild(userId);
+                users++;
+            } catch (RuntimeException ex) {
+                log.error("Error to rebuild daily balance of user: " + userId, ex);
+            }
+        }
+        log.info("Daily balance rebuilt for " + users + " users in " + (System.currentTimeMillis() - start) + " ms");
+    }
+}
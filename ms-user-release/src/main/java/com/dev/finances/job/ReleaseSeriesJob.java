@@ -0,0 +1,64 @@
+package com.dev.finances.job;
+
+import com.dev.finances.service.ReleaseSeriesService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Log4j2
+@Component
+public class ReleaseSeriesJob {
+
+    private final ReleaseSeriesService seriesService;
+    private final int batchSize;
+
+    public ReleaseSeriesJob(ReleaseSeriesService seriesService,
+                            @Value("${release.series.batch-size:500}") int batchSize) {
+        this.seriesService = seriesService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${release.series.cron:-}")
+    public void extend() {
+        long start = System.currentTimeMillis();
+        long extended = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Long> ids;
+            try {
+                ids = seriesService.extend(afterId, batchSize);
+                extended += ids.size();
+            } catch (RuntimeException ex) {
+                log.error("Error to extend release series after id: " + afterId + ", extending them one by one", ex);
+                try {
+                    ids = seriesService.findDueIds(afterId, batchSize);
+                } catch (RuntimeException e) {
+                    log.error("Error to find release series due after id: " + afterId, e);
+                    break;
+                }
+                extended += extendOneByOne(ids);
+            }
+            if (ids.isEmpty())
+                break;
+            afterId = ids.get(ids.size() - 1);
+        }
+        log.info("Extended " + extended + " release series until " + seriesService.getUntil() + " in "
+                + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    private int extendOneByOne(List<Long> ids) {
+        int extended = 0;
+        for (Long id : ids) {
+            try {
+                seriesService.extend(id);
+                extended++;
+            } catch (RuntimeException ex) {
+                log.error("Error to extend release series: " + id, ex);
+            }
+        }
+        return extended;
+    }
+}
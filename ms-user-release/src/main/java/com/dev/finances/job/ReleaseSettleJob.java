@@ -0,0 +1,117 @@
+package com.dev.finances.job;
+
+import com.dev.finances.repository.projection.ReleaseOwner;
+import com.dev.finances.service.ReleaseSettleService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@Log4j2
+@Component
+public class ReleaseSettleJob {
+
+    public static final String SETTLED_COUNTER = "finances.settle.releases";
+    public static final String CHUNK_TIMER = "finances.settle.chunk";
+    public static final String FAILURE_COUNTER = "finances.settle.failures";
+    public static final String SKIPPED_COUNTER = "finances.settle.skipped";
+
+    private final ReleaseSettleService settleService;
+    private final int batchSize;
+    private final int maxFailures;
+    private final Counter settledCounter;
+    private final Counter failureCounter;
+    private final Counter skippedCounter;
+    private final Timer chunkTimer;
+    private Long failingAfterId;
+    private int consecutiveFailures;
+
+    public ReleaseSettleJob(ReleaseSettleService settleService, MeterRegistry registry,
+                            @Value("${release.settle.batch-size:500}") int batchSize,
+                            @Value("${release.settle.max-failures:3}") int maxFailures) {
+        this.settleService = settleService;
+        this.batchSize = batchSize;
+        this.maxFailures = maxFailures;
+        this.settledCounter = registry.counter(SETTLED_COUNTER);
+        this.failureCounter = registry.counter(FAILURE_COUNTER);
+        this.skippedCounter = registry.counter(SKIPPED_COUNTER);
+        this.chunkTimer = registry.timer(CHUNK_TIMER);
+    }
+
+    @Scheduled(cron = "${release.settle.cron:-}")
+    public void settle() {
+        long start = System.nanoTime();
+        long settled = 0;
+        Long afterId = settleService.getCheckpoint();
+        while (true) {
+            try {
+                List<ReleaseOwner> due = settleService.findDue(afterId, batchSize);
+                if (due.isEmpty()) {
+                    settleService.saveCheckpoint(0L);
+                    break;
+                }
+                long chunkStart = System.nanoTime();
+                int count;
+                try {
+                    count = settleService.settle(due);
+                } catch (RuntimeException ex) {
+                    failureCounter.increment();
+                    log.error("Error to settle releases after id: " + afterId + ", settling them one by one", ex);
+                    count = settleOneByOne(afterId, due);
+                    if (count < 0)
+                        break;
+                }
+                chunkTimer.record(System.nanoTime() - chunkStart, TimeUnit.NANOSECONDS);
+                settledCounter.increment(count);
+                settled += count;
+                afterId = due.get(due.size() - 1).getId();
+                settleService.saveCheckpoint(afterId);
+            } catch (RuntimeException ex) {
+                failureCounter.increment();
+                log.error("Error to settle releases after id: " + afterId, ex);
+                break;
+            }
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+        log.info("Settled " + settled + " releases in " + elapsedNanos / 1_000_000 + " ms ("
+                + settled * 1_000_000_000L / elapsedNanos + " rows/s)");
+    }
+
+    private int settleOneByOne(Long afterId, List<ReleaseOwner> due) {
+        int count = 0;
+        List<Long> failed = new ArrayList<>();
+        for (ReleaseOwner release : due) {
+            try {
+                count += settleService.settle(Collections.singletonList(release));
+            } catch (RuntimeException ex) {
+                failed.add(release.getId());
+            }
+        }
+
+        if (failed.size() == due.size()) {
+            consecutiveFailures = Objects.equals(afterId, failingAfterId) ? consecutiveFailures + 1 : 1;
+            failingAfterId = afterId;
+            if (consecutiveFailures < maxFailures) {
+                log.error("Error to settle every release after id: " + afterId + ", retrying on the next run ("
+                        + consecutiveFailures + " of " + maxFailures + " attempts)");
+                return -1;
+            }
+        }
+        consecutiveFailures = 0;
+        failingAfterId = null;
+        if (!failed.isEmpty()) {
+            skippedCounter.increment(failed.size());
+            log.error("Skipping releases that failed to settle: " + failed);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,138 @@
+package com.dev.finances.metrics;
+
+import com.dev.finances.api.dto.CursorPageResponseDTO;
+import com.dev.finances.api.dto.PaginatedResponseDTO;
+import com.dev.finances.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    public static final String SERVICE_TIMER = "finances.service";
+    public static final String REPOSITORY_TIMER = "finances.repository";
+    public static final String ROWS_SUMMARY = "finances.rows";
+    public static final String VALIDATION_COUNTER = "finances.validation.failures";
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_BUSINESS_ERROR = "business_error";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> rows = new ConcurrentHashMap<>();
+    private final Map<String, Counter> validationFailures = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.dev.finances.service.impl.*ServiceImpl.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, "service", joinPoint);
+    }
+
+    @Around("execution(public * com.dev.finances.repository.*Repository.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, "repository", joinPoint);
+    }
+
+    private Object time(String name, String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String owner = owner(joinPoint, signature);
+        String method = signature.getName();
+        long start = System.nanoTime();
+        String outcome = OUTCOME_SUCCESS;
+        String exception = "none";
+        try {
+            Object result = joinPoint.proceed();
+            Integer size = size(result);
+            if (size != null)
+                rows(layer, owner, method).record(size);
+            return result;
+        } catch (BusinessException e) {
+            outcome = OUTCOME_BUSINESS_ERROR;
+            exception = e.getClass().getSimpleName();
+            validationFailure(owner, method).increment();
+            throw e;
+        } catch (Throwable e) {
+            outcome = OUTCOME_ERROR;
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timer(name, owner, method, outcome, exception).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private String owner(ProceedingJoinPoint joinPoint, MethodSignature signature) {
+        Class<?> type = signature.getDeclaringType();
+        if (type.getPackage().getName().startsWith("com.dev.finances"))
+            return type.getSimpleName();
+        for (Class<?> candidate : joinPoint.getThis().getClass().getInterfaces()) {
+            if (candidate.getPackage().getName().startsWith("com.dev.finances"))
+                return candidate.getSimpleName();
+        }
+        return type.getSimpleName();
+    }
+
+    private Timer timer(String name, String owner, String method, String outcome, String exception) {
+        return timers.computeIfAbsent(name + '|' + owner + '|' + method + '|' + outcome + '|' + exception,
+                key -> Timer.builder(name)
+                        .tag("class", owner)
+                        .tag("method", method)
+                        .tag("outcome", outcome)
+                        .tag("exception", exception)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(100_000))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(registry));
+    }
+
+    private DistributionSummary rows(String layer, String owner, String method) {
+        return rows.computeIfAbsent(layer + '|' + owner + '|' + method,
+                key -> DistributionSummary.builder(ROWS_SUMMARY)
+                        .baseUnit("rows")
+                        .tag("layer", layer)
+                        .tag("class", owner)
+                        .tag("method", method)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(1.0)
+                        .maximumExpectedValue(100_000.0)
+                        .register(registry));
+    }
+
+    private Counter validationFailure(String owner, String method) {
+        return validationFailures.computeIfAbsent(owner + '|' + method,
+                key -> Counter.builder(VALIDATION_COUNTER)
+                        .tag("class", owner)
+                        .tag("method", method)
+                        .register(registry));
+    }
+
+    private Integer size(Object result) {
+        if (result instanceof Collection)
+            return ((Collection<?>) result).size();
+        if (result instanceof Slice)
+            return ((Slice<?>) result).getNumberOfElements();
+        if (result instanceof PaginatedResponseDTO)
+            return ((PaginatedResponseDTO<?>) result).getItems().size();
+        if (result instanceof CursorPageResponseDTO)
+            return ((CursorPageResponseDTO<?>) result).getItems().size();
+        return null;
+    }
+}
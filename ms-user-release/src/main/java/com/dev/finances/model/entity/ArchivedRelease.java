@@ -0,0 +1,63 @@
+package com.dev.finances.model.entity;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.convert.threeten.Jsr310JpaConverters;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "release_archive", schema = "financas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedRelease {
+
+	@Id
+	@Column
+	private Long id;
+
+	@Column(nullable = false)
+	private String description;
+
+	@Column
+	private Integer mes;
+
+	@Column
+	private Integer ano;
+
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column
+	private BigDecimal value;
+
+	@Column
+	@Convert(converter = Jsr310JpaConverters.LocalDateConverter.class)
+	private LocalDate createAt;
+
+	@Column(nullable = false)
+	@Convert(converter = Jsr310JpaConverters.LocalDateConverter.class)
+	private LocalDate releaseDate;
+
+	@Column
+	@Enumerated(value = EnumType.STRING)
+	private ReleaseTypeEnum type;
+
+	@Column
+	@Enumerated(value = EnumType.STRING)
+	private ReleaseStatusEnum status;
+}
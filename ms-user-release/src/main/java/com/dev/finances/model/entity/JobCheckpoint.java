@@ -0,0 +1,37 @@
+package com.dev.finances.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "job_checkpoint", schema = "financas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCheckpoint {
+
+	@Id
+	@Column
+	private String name;
+
+	@Column(nullable = false)
+	private Long lastId;
+
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+
+	@Column
+	private String leaseOwner;
+
+	@Column
+	private LocalDateTime leaseUntil;
+}
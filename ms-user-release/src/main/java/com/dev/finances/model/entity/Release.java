@@ -18,10 +18,11 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Date;
 
 
 @Entity
@@ -33,7 +34,8 @@ import java.util.Date;
 public class Release {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "release_seq")
+	@SequenceGenerator(name = "release_seq", sequenceName = "release_seq", schema = "financas", allocationSize = 50)
 	@Column
 	private Long id;
 
@@ -58,7 +60,8 @@ public class Release {
 	private LocalDate createAt;
 
 	@Column(nullable = false)
-	private Date releaseDate;
+	@Convert(converter = Jsr310JpaConverters.LocalDateConverter.class)
+	private LocalDate releaseDate;
 
 	@Column
 	@Enumerated(value = EnumType.STRING)
@@ -67,4 +70,8 @@ public class Release {
 	@Column
 	@Enumerated(value = EnumType.STRING)
 	private ReleaseStatusEnum status;
+
+	@Version
+	@Column(nullable = false)
+	private Long version;
 }
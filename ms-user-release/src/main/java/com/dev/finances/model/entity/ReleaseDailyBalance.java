@@ -0,0 +1,58 @@
+package com.dev.finances.model.entity;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.convert.threeten.Jsr310JpaConverters;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "release_daily_balance", schema = "financas",
+		uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "type", "status", "balance_date"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseDailyBalance {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "balance_date", nullable = false)
+	@Convert(converter = Jsr310JpaConverters.LocalDateConverter.class)
+	private LocalDate balanceDate;
+
+	@Column(nullable = false)
+	@Enumerated(value = EnumType.STRING)
+	private ReleaseTypeEnum type;
+
+	@Column(nullable = false)
+	@Enumerated(value = EnumType.STRING)
+	private ReleaseStatusEnum status;
+
+	@Column(nullable = false)
+	private BigDecimal total;
+
+	@Column(nullable = false)
+	private Long quantity;
+}
@@ -0,0 +1,58 @@
+package com.dev.finances.model.entity;
+
+import com.dev.finances.model.enums.ReleaseActionEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "release_outbox", schema = "financas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseOutbox {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "release_outbox_seq")
+	@SequenceGenerator(name = "release_outbox_seq", sequenceName = "release_outbox_seq", schema = "financas", allocationSize = 1)
+	@Column
+	private Long id;
+
+	@Column(nullable = false)
+	private Long userId;
+
+	@Column(nullable = false)
+	private Long releaseId;
+
+	@Column(nullable = false)
+	@Enumerated(value = EnumType.STRING)
+	private ReleaseActionEnum action;
+
+	@Column(nullable = false)
+	private String payload;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(nullable = false)
+	private Integer attempts;
+
+	@Column
+	private LocalDateTime parkedAt;
+
+	@Column
+	private String lastError;
+}
@@ -0,0 +1,75 @@
+package com.dev.finances.model.entity;
+
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.convert.threeten.Jsr310JpaConverters;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "release_series", schema = "financas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReleaseSeries {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column
+	private Long id;
+
+	@Column(nullable = false)
+	private String description;
+
+	@ManyToOne
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Column(nullable = false)
+	private BigDecimal value;
+
+	@Column(nullable = false)
+	@Enumerated(value = EnumType.STRING)
+	private ReleaseTypeEnum type;
+
+	@Column(nullable = false)
+	@Convert(converter = Jsr310JpaConverters.LocalDateConverter.class)
+	private LocalDate firstReleaseDate;
+
+	@Column
+	private Integer installments;
+
+	@Column(nullable = false)
+	private Integer generatedCount;
+
+	@Column(nullable = false)
+	@Convert(converter = Jsr310JpaConverters.LocalDateConverter.class)
+	private LocalDate nextReleaseDate;
+
+	@Column(nullable = false)
+	private Boolean active;
+
+	@Column(nullable = false)
+	@Convert(converter = Jsr310JpaConverters.LocalDateConverter.class)
+	private LocalDate createAt;
+
+	public boolean isComplete() {
+		return !active || (installments != null && generatedCount >= installments);
+	}
+}
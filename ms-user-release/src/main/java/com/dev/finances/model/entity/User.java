@@ -45,6 +45,9 @@ public class User {
     @Column
     private String password;
 
+    @Column(nullable = false)
+    private boolean autoSettle;
+
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(name = "user_role", schema = "financas",
             joinColumns = @JoinColumn(name = "user_id"),
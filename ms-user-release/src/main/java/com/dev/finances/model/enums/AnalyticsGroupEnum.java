@@ -0,0 +1,9 @@
+package com.dev.finances.model.enums;
+
+public enum AnalyticsGroupEnum {
+	TOTAL,
+	MONTH,
+	TYPE,
+	STATUS,
+	USER
+}
@@ -0,0 +1,8 @@
+package com.dev.finances.model.enums;
+
+public enum ImportStatusEnum {
+	PENDENTE,
+	PROCESSANDO,
+	CONCLUIDO,
+	FALHOU
+}
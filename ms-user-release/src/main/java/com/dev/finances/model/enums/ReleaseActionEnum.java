@@ -0,0 +1,8 @@
+package com.dev.finances.model.enums;
+
+public enum ReleaseActionEnum {
+	CRIADO,
+	ATUALIZADO,
+	STATUS_ATUALIZADO,
+	REMOVIDO
+}
@@ -0,0 +1,6 @@
+package com.dev.finances.model.enums;
+
+public enum StatementFormatEnum {
+	CSV,
+	OFX
+}
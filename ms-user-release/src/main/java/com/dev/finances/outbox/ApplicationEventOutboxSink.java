@@ -0,0 +1,20 @@
+package com.dev.finances.outbox;
+
+import com.dev.finances.api.dto.ReleaseOutboxMessageDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ApplicationEventOutboxSink implements ReleaseOutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void deliver(List<ReleaseOutboxMessageDTO> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
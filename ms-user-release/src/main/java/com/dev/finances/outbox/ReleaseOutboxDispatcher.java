@@ -0,0 +1,266 @@
+package com.dev.finances.outbox;
+
+import com.dev.finances.api.dto.ReleaseOutboxMessageDTO;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.model.entity.JobCheckpoint;
+import com.dev.finances.model.entity.ReleaseOutbox;
+import com.dev.finances.repository.JobCheckpointRepository;
+import com.dev.finances.repository.ReleaseOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Log4j2
+@Component
+public class ReleaseOutboxDispatcher {
+
+    public static final String DISPATCHED_COUNTER = "finances.outbox.dispatched";
+    public static final String FAILURE_COUNTER = "finances.outbox.failures";
+    public static final String PARKED_COUNTER = "finances.outbox.parked";
+    public static final String BATCH_TIMER = "finances.outbox.batch";
+    public static final String LAG_GAUGE = "finances.outbox.lag";
+    static final String CHECKPOINT = "release-outbox";
+    private static final int MAX_BACKOFF_SHIFT = 6;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ReleaseOutboxRepository repository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final List<ReleaseOutboxSink> sinks;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final long pollMillis;
+    private final long retryMillis;
+    private final int maxAttempts;
+    private final long leaseMillis;
+    private final String owner = UUID.randomUUID().toString();
+    private final Counter dispatchedCounter;
+    private final Counter failureCounter;
+    private final Counter parkedCounter;
+    private final Timer batchTimer;
+    private final Semaphore signal = new Semaphore(0);
+    private volatile long oldestPendingMillis;
+    private volatile long isolateThroughId;
+    private volatile boolean running;
+    private Thread worker;
+
+    public ReleaseOutboxDispatcher(ReleaseOutboxRepository repository, JobCheckpointRepository checkpointRepository,
+                                   List<ReleaseOutboxSink> sinks, PlatformTransactionManager transactionManager,
+                                   MeterRegistry registry,
+                                   @Value("${release.outbox.dispatcher.enabled:true}") boolean enabled,
+                                   @Value("${release.outbox.batch-size:100}") int batchSize,
+                                   @Value("${release.outbox.linger-ms:50}") long lingerMillis,
+                                   @Value("${release.outbox.poll-ms:1000}") long pollMillis,
+                                   @Value("${release.outbox.retry-ms:1000}") long retryMillis,
+                                   @Value("${release.outbox.max-attempts:10}") int maxAttempts,
+                                   @Value("${release.outbox.lease-ms:30000}") long leaseMillis) {
+        this.repository = repository;
+        this.checkpointRepository = checkpointRepository;
+        this.sinks = sinks;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.pollMillis = pollMillis;
+        this.retryMillis = retryMillis;
+        this.maxAttempts = maxAttempts;
+        this.leaseMillis = leaseMillis;
+        this.dispatchedCounter = registry.counter(DISPATCHED_COUNTER);
+        this.failureCounter = registry.counter(FAILURE_COUNTER);
+        this.parkedCounter = registry.counter(PARKED_COUNTER);
+        this.batchTimer = registry.timer(BATCH_TIMER);
+        registry.gauge(LAG_GAUGE, this, ReleaseOutboxDispatcher::getLagSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running)
+            return;
+        running = true;
+        worker = new Thread(this::run, "release-outbox-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    @EventListener(ContextClosedEvent.class)
+    public void stop() throws InterruptedException {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = worker;
+            worker = null;
+        }
+        if (current != null) {
+            current.interrupt();
+            current.join(TimeUnit.SECONDS.toMillis(5));
+            try {
+                releaseLease();
+            } catch (RuntimeException e) {
+                log.warn("Error to release the outbox lease, it expires in " + leaseMillis + " ms", e);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReleaseChanged(ReleaseChangedEvent event) {
+        if (signal.availablePermits() == 0)
+            signal.release();
+    }
+
+    public double getLagSeconds() {
+        long oldest = oldestPendingMillis;
+        return oldest == 0 ? 0 : Math.max(System.currentTimeMillis() - oldest, 0) / 1000.0;
+    }
+
+    public long dispatch() {
+        if (!acquireLease())
+            return pollMillis;
+
+        boolean isolating = isolateThroughId > 0;
+        List<ReleaseOutbox> batch = repository.findBatch(PageRequest.of(0, isolating ? 1 : batchSize));
+        if (batch.isEmpty()) {
+            oldestPendingMillis = 0;
+            return pollMillis;
+        }
+
+        long oldest = batch.get(0).getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        oldestPendingMillis = oldest;
+        long age = System.currentTimeMillis() - oldest;
+        if (!isolating && batch.size() < batchSize && age < lingerMillis)
+            return lingerMillis - age;
+
+        long start = System.nanoTime();
+        List<ReleaseOutboxMessageDTO> messages = batch.stream().map(this::toMessage).collect(Collectors.toList());
+        try {
+            for (ReleaseOutboxSink sink : sinks)
+                sink.deliver(messages);
+        } catch (RuntimeException e) {
+            recordFailure(batch, e);
+            throw e;
+        }
+        transaction.execute(status ->
+                repository.deleteByIds(batch.stream().map(ReleaseOutbox::getId).collect(Collectors.toList())));
+
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        dispatchedCounter.increment(batch.size());
+        if (isolating) {
+            if (batch.get(0).getId() >= isolateThroughId)
+                isolateThroughId = 0;
+            return 0L;
+        }
+        if (batch.size() < batchSize) {
+            oldestPendingMillis = 0;
+            return pollMillis;
+        }
+        return 0L;
+    }
+
+    private boolean acquireLease() {
+        return Boolean.TRUE.equals(transaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            JobCheckpoint checkpoint = checkpointRepository.findLockedByName(CHECKPOINT)
+                    .orElseGet(() -> JobCheckpoint.builder().name(CHECKPOINT).lastId(0L).build());
+            if (!owner.equals(checkpoint.getLeaseOwner()) && checkpoint.getLeaseUntil() != null
+                    && checkpoint.getLeaseUntil().isAfter(now))
+                return false;
+            checkpoint.setLeaseOwner(owner);
+            checkpoint.setLeaseUntil(now.plus(leaseMillis, ChronoUnit.MILLIS));
+            checkpoint.setUpdatedAt(now);
+            checkpointRepository.save(checkpoint);
+            return true;
+        }));
+    }
+
+    private void releaseLease() {
+        transaction.execute(status -> {
+            checkpointRepository.findLockedByName(CHECKPOINT)
+                    .filter(checkpoint -> owner.equals(checkpoint.getLeaseOwner()))
+                    .ifPresent(checkpoint -> {
+                        checkpoint.setLeaseUntil(LocalDateTime.now());
+                        checkpointRepository.save(checkpoint);
+                    });
+            return null;
+        });
+    }
+
+    private void recordFailure(List<ReleaseOutbox> batch, RuntimeException error) {
+        if (batch.size() > 1) {
+            isolateThroughId = batch.get(batch.size() - 1).getId();
+            return;
+        }
+        ReleaseOutbox message = batch.get(0);
+        int attempts = message.getAttempts() + 1;
+        LocalDateTime parkedAt = attempts >= maxAttempts ? LocalDateTime.now() : null;
+        transaction.execute(status -> repository.recordFailure(message.getId(), attempts, describe(error), parkedAt));
+        if (parkedAt != null) {
+            if (message.getId() >= isolateThroughId)
+                isolateThroughId = 0;
+            parkedCounter.increment();
+            log.error("Parking release outbox message " + message.getId() + " of user " + message.getUserId()
+                    + " after " + attempts + " failed attempts", error);
+        }
+    }
+
+    private String describe(RuntimeException error) {
+        String description = error.getClass().getName() + ": " + error.getMessage();
+        return description.length() > MAX_ERROR_LENGTH ? description.substring(0, MAX_ERROR_LENGTH) : description;
+    }
+
+    private void run() {
+        int failures = 0;
+        while (running) {
+            try {
+                long wait = dispatch();
+                failures = 0;
+                if (wait > 0 && signal.tryAcquire(wait, TimeUnit.MILLISECONDS))
+                    signal.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                failureCounter.increment();
+                long backoff = retryMillis << Math.min(failures++, MAX_BACKOFF_SHIFT);
+                log.error("Error to dispatch release outbox, retrying in " + backoff + " ms", e);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private ReleaseOutboxMessageDTO toMessage(ReleaseOutbox outbox) {
+        return ReleaseOutboxMessageDTO.builder()
+                .id(outbox.getId())
+                .userId(outbox.getUserId())
+                .releaseId(outbox.getReleaseId())
+                .action(outbox.getAction())
+                .createdAt(outbox.getCreatedAt())
+                .release(outbox.getPayload())
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.dev.finances.outbox;
+
+import com.dev.finances.api.dto.ReleaseOutboxMessageDTO;
+
+import java.util.List;
+
+public interface ReleaseOutboxSink {
+
+    void deliver(List<ReleaseOutboxMessageDTO> messages);
+}
@@ -0,0 +1,73 @@
+package com.dev.finances.outbox;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.model.entity.ReleaseOutbox;
+import com.dev.finances.model.enums.ReleaseActionEnum;
+import com.dev.finances.repository.ReleaseOutboxRepository;
+import com.dev.finances.utils.DateUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Component
+public class ReleaseOutboxWriter {
+
+    private final ReleaseOutboxRepository repository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public ReleaseOutboxWriter(ReleaseOutboxRepository repository, ObjectMapper objectMapper,
+                               @Value("${release.outbox.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onReleaseChanged(ReleaseChangedEvent event) {
+        if (!enabled)
+            return;
+        String payload = payload(event);
+        if (!event.getPreviousUserId().equals(event.getUserId()))
+            append(event.getPreviousUserId(), event.getReleaseId(), ReleaseActionEnum.REMOVIDO, payload);
+        append(event.getUserId(), event.getReleaseId(), event.getAction(), payload);
+    }
+
+    private void append(Long userId, Long releaseId, ReleaseActionEnum action, String payload) {
+        repository.save(ReleaseOutbox.builder()
+                .userId(userId)
+                .releaseId(releaseId)
+                .action(action)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .attempts(0)
+                .build());
+    }
+
+    private String payload(ReleaseChangedEvent event) {
+        ReleasesDTO release = ReleasesDTO.builder()
+                .id(event.getReleaseId())
+                .description(event.getDescription())
+                .mouth(event.getMes())
+                .year(event.getAno())
+                .value(event.getValue())
+                .userId(event.getUserId())
+                .type(event.getType())
+                .status(event.getStatus())
+                .releaseDate(DateUtils.dateFormatDefault(event.getReleaseDate()))
+                .build();
+        try {
+            return objectMapper.writeValueAsString(release);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error to serialize release " + event.getReleaseId(), e);
+        }
+    }
+}
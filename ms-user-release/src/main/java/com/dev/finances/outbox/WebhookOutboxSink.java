@@ -0,0 +1,34 @@
+package com.dev.finances.outbox;
+
+import com.dev.finances.api.dto.ReleaseOutboxMessageDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty("release.outbox.webhook.url")
+public class WebhookOutboxSink implements ReleaseOutboxSink {
+
+    private final RestTemplate restTemplate;
+    private final String url;
+
+    public WebhookOutboxSink(RestTemplateBuilder restTemplateBuilder,
+                             @Value("${release.outbox.webhook.url}") String url,
+                             @Value("${release.outbox.webhook.timeout-ms:5000}") long timeoutMillis) {
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(timeoutMillis))
+                .setReadTimeout(Duration.ofMillis(timeoutMillis))
+                .build();
+        this.url = url;
+    }
+
+    @Override
+    public void deliver(List<ReleaseOutboxMessageDTO> messages) {
+        restTemplate.postForEntity(url, messages, Void.class);
+    }
+}
@@ -0,0 +1,54 @@
+package com.dev.finances.recent;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+class RecentRelease {
+
+    private final Long id;
+    private final String description;
+    private final Integer mes;
+    private final Integer ano;
+    private final BigDecimal value;
+    private final ReleaseTypeEnum type;
+    private final ReleaseStatusEnum status;
+    private final LocalDate createAt;
+    private final LocalDate releaseDate;
+
+    static RecentRelease of(ReleaseChangedEvent event) {
+        return RecentRelease.builder()
+                .id(event.getReleaseId())
+                .description(event.getDescription())
+                .mes(event.getMes())
+                .ano(event.getAno())
+                .value(event.getValue())
+                .type(event.getType())
+                .status(event.getStatus())
+                .createAt(event.getCreateAt())
+                .releaseDate(event.getReleaseDate())
+                .build();
+    }
+
+    static RecentRelease of(ReleasesDTO release) {
+        return RecentRelease.builder()
+                .id(release.getId())
+                .description(release.getDescription())
+                .mes(release.getMouth())
+                .ano(release.getYear())
+                .value(release.getValue())
+                .type(release.getType())
+                .status(release.getStatus())
+                .createAt(release.getCreateAt())
+                .releaseDate(release.getReleaseLocalDate())
+                .build();
+    }
+}
@@ -0,0 +1,237 @@
+package com.dev.finances.recent;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+class RecentReleaseRing {
+
+    static final int MAGIC = 0x52524C53;
+    static final int VERSION = 4;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 256;
+    static final int DESCRIPTION_SIZE = 220;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int COUNT_OFFSET = 16;
+    private static final int OVERFLOW_OFFSET = 20;
+    private static final int INITIALIZED_OFFSET = 21;
+    private static final int GENERATION_OFFSET = 24;
+
+    private static final int ID = 0;
+    private static final int CENTS = 8;
+    private static final int RELEASE_DATE = 16;
+    private static final int CREATE_AT = 24;
+    private static final int ANO = 28;
+    private static final int MES = 30;
+    private static final int TYPE = 31;
+    private static final int STATUS = 32;
+    private static final int FLAGS = 33;
+    private static final int DESCRIPTION_LENGTH = 34;
+    private static final int DESCRIPTION = 36;
+
+    private static final byte FLAG_REMOVED = 1;
+    private static final byte FLAG_TRUNCATED = 2;
+    private static final short NO_ANO = Short.MIN_VALUE;
+
+    private final Long userId;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+    private boolean closed;
+
+    RecentReleaseRing(Long userId, Path file, int capacity) throws IOException {
+        this.userId = userId;
+        this.capacity = capacity;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+        }
+        if (buffer.getInt(MAGIC_OFFSET) != MAGIC || buffer.getInt(VERSION_OFFSET) != VERSION
+                || buffer.getInt(CAPACITY_OFFSET) != capacity)
+            reset();
+    }
+
+    synchronized boolean isCurrent(long generation) {
+        return !closed && buffer.get(INITIALIZED_OFFSET) == 1 && buffer.getLong(GENERATION_OFFSET) == generation;
+    }
+
+    synchronized void seed(List<RecentRelease> releases, long generation) {
+        if (closed)
+            return;
+        reset();
+        int skip = Math.max(0, releases.size() - capacity);
+        releases.stream()
+                .sorted(Comparator.comparing(RecentRelease::getId))
+                .skip(skip)
+                .forEach(this::append);
+        buffer.put(OVERFLOW_OFFSET, (byte) (releases.size() >= capacity ? 1 : 0));
+        buffer.putLong(GENERATION_OFFSET, generation);
+        buffer.put(INITIALIZED_OFFSET, (byte) 1);
+    }
+
+    synchronized void advance() {
+        if (!closed)
+            buffer.putLong(GENERATION_OFFSET, buffer.getLong(GENERATION_OFFSET) + 1);
+    }
+
+    synchronized void close() {
+        if (closed)
+            return;
+        closed = true;
+        buffer.force();
+    }
+
+    synchronized void put(RecentRelease release) {
+        if (closed || buffer.get(INITIALIZED_OFFSET) != 1)
+            return;
+        int slot = find(release.getId());
+        if (slot < 0)
+            append(release);
+        else
+            write(slot, release, (byte) 0);
+    }
+
+    synchronized void remove(Long id) {
+        if (closed || buffer.get(INITIALIZED_OFFSET) != 1)
+            return;
+        int slot = find(id);
+        if (slot >= 0) {
+            int offset = offset(slot);
+            buffer.put(offset + FLAGS, (byte) (buffer.get(offset + FLAGS) | FLAG_REMOVED));
+        }
+    }
+
+    synchronized Optional<List<ReleasesDTO>> find(LocalDate startDate, LocalDate endDate) {
+        int count = buffer.getInt(COUNT_OFFSET);
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+        long oldest = Long.MAX_VALUE;
+        List<ReleasesDTO> releases = new ArrayList<>();
+        for (int slot = 0; slot < count; slot++) {
+            int offset = offset(slot);
+            int createAt = buffer.getInt(offset + CREATE_AT);
+            oldest = Math.min(oldest, createAt);
+            if (createAt < start || createAt > end || (buffer.get(offset + FLAGS) & FLAG_REMOVED) != 0)
+                continue;
+            if ((buffer.get(offset + FLAGS) & FLAG_TRUNCATED) != 0)
+                return Optional.empty();
+            releases.add(read(offset));
+        }
+
+        if (buffer.get(OVERFLOW_OFFSET) == 1 && releases.size() < capacity && oldest >= start)
+            return Optional.empty();
+
+        releases.sort(Comparator.comparing(ReleasesDTO::getId).reversed());
+        return Optional.of(releases);
+    }
+
+    private void reset() {
+        for (int i = 0; i < HEADER_SIZE; i++)
+            buffer.put(i, (byte) 0);
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+    }
+
+    private void append(RecentRelease release) {
+        int count = buffer.getInt(COUNT_OFFSET);
+        if (count < capacity) {
+            write(count, release, (byte) 0);
+            buffer.putInt(COUNT_OFFSET, count + 1);
+            return;
+        }
+
+        int slot = evictable();
+        int offset = offset(slot);
+        if ((buffer.get(offset + FLAGS) & FLAG_REMOVED) == 0) {
+            buffer.put(OVERFLOW_OFFSET, (byte) 1);
+            if (buffer.getLong(offset + ID) > release.getId())
+                return;
+        }
+        write(slot, release, (byte) 0);
+    }
+
+    private int evictable() {
+        int oldest = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            int offset = offset(slot);
+            if ((buffer.get(offset + FLAGS) & FLAG_REMOVED) != 0)
+                return slot;
+            if (buffer.getLong(offset + ID) < buffer.getLong(offset(oldest) + ID))
+                oldest = slot;
+        }
+        return oldest;
+    }
+
+    private int find(Long id) {
+        int count = buffer.getInt(COUNT_OFFSET);
+        for (int slot = 0; slot < count; slot++) {
+            if (buffer.getLong(offset(slot) + ID) == id)
+                return slot;
+        }
+        return -1;
+    }
+
+    private void write(int slot, RecentRelease release, byte flags) {
+        int offset = offset(slot);
+        byte[] description = release.getDescription() == null ? new byte[0]
+                : release.getDescription().getBytes(StandardCharsets.UTF_8);
+        if (description.length > DESCRIPTION_SIZE)
+            flags |= FLAG_TRUNCATED;
+        int length = Math.min(description.length, DESCRIPTION_SIZE);
+
+        buffer.putLong(offset + ID, release.getId());
+        buffer.putLong(offset + CENTS, release.getValue() == null ? 0
+                : release.getValue().setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact());
+        buffer.putLong(offset + RELEASE_DATE, release.getReleaseDate() == null ? Long.MIN_VALUE : release.getReleaseDate().toEpochDay());
+        buffer.putInt(offset + CREATE_AT, (int) release.getCreateAt().toEpochDay());
+        buffer.putShort(offset + ANO, release.getAno() == null ? NO_ANO : release.getAno().shortValue());
+        buffer.put(offset + MES, (byte) (release.getMes() == null ? 0 : release.getMes()));
+        buffer.put(offset + TYPE, (byte) (release.getType() == null ? 0 : release.getType().ordinal() + 1));
+        buffer.put(offset + STATUS, (byte) (release.getStatus() == null ? 0 : release.getStatus().ordinal() + 1));
+        buffer.put(offset + FLAGS, flags);
+        buffer.putShort(offset + DESCRIPTION_LENGTH, (short) length);
+        for (int i = 0; i < length; i++)
+            buffer.put(offset + DESCRIPTION + i, description[i]);
+    }
+
+    private ReleasesDTO read(int offset) {
+        byte[] description = new byte[buffer.getShort(offset + DESCRIPTION_LENGTH)];
+        for (int i = 0; i < description.length; i++)
+            description[i] = buffer.get(offset + DESCRIPTION + i);
+
+        long releaseDate = buffer.getLong(offset + RELEASE_DATE);
+        short ano = buffer.getShort(offset + ANO);
+        byte mes = buffer.get(offset + MES);
+        byte type = buffer.get(offset + TYPE);
+        byte status = buffer.get(offset + STATUS);
+        return new ReleasesDTO(buffer.getLong(offset + ID),
+                new String(description, StandardCharsets.UTF_8),
+                mes == 0 ? null : (int) mes,
+                ano == NO_ANO ? null : (int) ano,
+                BigDecimal.valueOf(buffer.getLong(offset + CENTS), 2),
+                userId,
+                type == 0 ? null : ReleaseTypeEnum.values()[type - 1],
+                status == 0 ? null : ReleaseStatusEnum.values()[status - 1],
+                releaseDate == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(releaseDate));
+    }
+
+    private int offset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+}
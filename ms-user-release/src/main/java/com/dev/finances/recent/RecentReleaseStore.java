@@ -0,0 +1,156 @@
+package com.dev.finances.recent;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.etag.ReleaseGenerations;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.event.ReleasesArchivedEvent;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Log4j2
+@Component
+public class RecentReleaseStore {
+
+    private static final int LOCK_STRIPES = 256;
+
+    private final ReleaseGenerations generations;
+    private final boolean enabled;
+    private final Path directory;
+    private final int capacity;
+    private final Map<Long, RecentReleaseRing> rings;
+    private final List<RecentReleaseRing> evicted = new ArrayList<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public RecentReleaseStore(ReleaseGenerations generations,
+                              @Value("${release.recent.enabled:true}") boolean enabled,
+                              @Value("${release.recent.dir:${java.io.tmpdir}/user-release/recent}") String directory,
+                              @Value("${release.recent.capacity:100}") int capacity,
+                              @Value("${release.recent.max-open:1000}") int maxOpen) {
+        this.generations = generations;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.capacity = capacity;
+        this.rings = new LinkedHashMap<Long, RecentReleaseRing>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, RecentReleaseRing> eldest) {
+                if (size() <= maxOpen)
+                    return false;
+                evicted.add(eldest.getValue());
+                return true;
+            }
+        };
+        for (int i = 0; i < LOCK_STRIPES; i++)
+            locks[i] = new Object();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Optional<List<ReleasesDTO>> find(Long userId, LocalDate startDate, LocalDate endDate) {
+        if (!enabled)
+            return Optional.empty();
+        long generation = generations.cached(userId);
+        synchronized (lock(userId)) {
+            RecentReleaseRing ring = ring(userId);
+            if (ring == null || !ring.isCurrent(generation))
+                return Optional.empty();
+            return ring.find(startDate, endDate);
+        }
+    }
+
+    public List<ReleasesDTO> load(Long userId, Supplier<List<ReleasesDTO>> query) {
+        if (!enabled)
+            return query.get();
+        return generations.read(() -> {
+            long generation = generations.current(userId);
+            List<ReleasesDTO> releases = query.get();
+            seed(userId, releases, generation);
+            return releases;
+        });
+    }
+
+    public void seed(Long userId, List<ReleasesDTO> releases, long generation) {
+        if (!enabled)
+            return;
+        synchronized (lock(userId)) {
+            RecentReleaseRing ring = ring(userId);
+            if (ring != null)
+                ring.seed(releases.stream().map(RecentRelease::of).collect(Collectors.toList()), generation);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReleaseChanged(ReleaseChangedEvent event) {
+        if (!enabled)
+            return;
+        if (!event.getPreviousUserId().equals(event.getUserId()))
+            apply(event.getPreviousUserId(), ring -> ring.remove(event.getReleaseId()));
+
+        apply(event.getUserId(), ring -> {
+            if (event.isRemoval())
+                ring.remove(event.getReleaseId());
+            else if (event.getCreateAt() != null)
+                ring.put(RecentRelease.of(event));
+        });
+    }
+
+    @TransactionalEventListener
+    public void onReleasesArchived(ReleasesArchivedEvent event) {
+        if (!enabled)
+            return;
+        event.getReleaseIdsByUser().forEach((userId, ids) -> apply(userId, ring -> ids.forEach(ring::remove)));
+    }
+
+    private void apply(Long userId, Consumer<RecentReleaseRing> change) {
+        synchronized (lock(userId)) {
+            RecentReleaseRing ring = ring(userId);
+            if (ring == null)
+                return;
+            change.accept(ring);
+            ring.advance();
+        }
+    }
+
+    private Object lock(Long userId) {
+        return locks[Math.floorMod(userId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private RecentReleaseRing ring(Long userId) {
+        List<RecentReleaseRing> closing;
+        RecentReleaseRing ring;
+        synchronized (rings) {
+            ring = rings.get(userId);
+            if (ring != null)
+                return ring;
+            try {
+                Files.createDirectories(directory);
+                ring = new RecentReleaseRing(userId, directory.resolve("user-" + userId + ".ring"), capacity);
+                rings.put(userId, ring);
+            } catch (IOException e) {
+                log.error("Error to open recent releases of user " + userId, e);
+                return null;
+            }
+            closing = new ArrayList<>(evicted);
+            evicted.clear();
+        }
+        closing.forEach(RecentReleaseRing::close);
+        return ring;
+    }
+}
@@ -0,0 +1,86 @@
+package com.dev.finances.repository;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.entity.ArchivedRelease;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.repository.projection.ReleaseFact;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public interface ArchivedReleaseRepository extends JpaRepository<ArchivedRelease, Long> {
+
+    String SELECT_COLUMNS = " select new com.dev.finances.api.dto.ReleasesDTO(a.id, a.description, a.mes, a.ano, a.value, a.userId, a.type, a.status, a.releaseDate) ";
+    String WHERE_USER = " a.userId = :userId ";
+    String ORDER_BY_CURSOR = " order by a.releaseDate desc, a.id desc ";
+
+    @Query(value = SELECT_COLUMNS + "from ArchivedRelease a where a.id = :id")
+    Optional<ReleasesDTO> findDtoById(@Param("id") Long id);
+
+    @Query(value = SELECT_COLUMNS + "from ArchivedRelease a where " + WHERE_USER + " and a.id in :ids order by a.id")
+    List<ReleasesDTO> findDtosByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Query(value = SELECT_COLUMNS + "from ArchivedRelease a where " + WHERE_USER +
+            " and lower(a.description) like :description " +
+            " and (:mes is null or a.mes = :mes) " +
+            " and (:ano is null or a.ano = :ano) " +
+            " and (:type is null or a.type = :type) " +
+            " and (:status is null or a.status = :status) order by a.id")
+    List<ReleasesDTO> search(@Param("userId") Long userId,
+                             @Param("description") String description,
+                             @Param("mes") Integer mes,
+                             @Param("ano") Integer ano,
+                             @Param("type") ReleaseTypeEnum type,
+                             @Param("status") ReleaseStatusEnum status);
+
+    @Query(value = SELECT_COLUMNS + "from ArchivedRelease a where " + WHERE_USER)
+    List<ReleasesDTO> findAll(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = SELECT_COLUMNS + "from ArchivedRelease a where " + WHERE_USER + ORDER_BY_CURSOR)
+    List<ReleasesDTO> findFirstByCursor(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = SELECT_COLUMNS + "from ArchivedRelease a where " + WHERE_USER +
+            " and (a.releaseDate < :releaseDate or (a.releaseDate = :releaseDate and a.id < :id)) " + ORDER_BY_CURSOR)
+    List<ReleasesDTO> findAfterCursor(@Param("userId") Long userId,
+                                      @Param("releaseDate") LocalDate releaseDate,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query(value = SELECT_COLUMNS + "from ArchivedRelease a where " + WHERE_USER + " order by a.id")
+    Stream<ReleasesDTO> streamByUser(@Param("userId") Long userId);
+
+    @Query(value = SELECT_COLUMNS + "from ArchivedRelease a where " + WHERE_USER + " and a.releaseDate in :dates")
+    List<ReleasesDTO> findByReleaseDates(@Param("userId") Long userId, @Param("dates") Collection<LocalDate> dates);
+
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query(value = "select a.id as id, a.userId as userId, a.value as value, a.releaseDate as releaseDate, " +
+            "a.type as type, a.status as status from ArchivedRelease a")
+    Stream<ReleaseFact> streamFacts();
+
+    @Modifying
+    @Query(value = "insert into ArchivedRelease (id, description, mes, ano, userId, value, createAt, releaseDate, type, status) " +
+            "select l.id, l.description, l.mes, l.ano, l.user.id, l.value, l.createAt, l.releaseDate, l.type, l.status " +
+            "from Release l where l.id in :ids")
+    int copyFrom(@Param("ids") Collection<Long> ids);
+}
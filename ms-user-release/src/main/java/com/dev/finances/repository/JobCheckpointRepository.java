@@ -0,0 +1,17 @@
+package com.dev.finances.repository;
+
+import com.dev.finances.model.entity.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "select c from JobCheckpoint c where c.name = :name")
+    Optional<JobCheckpoint> findLockedByName(@Param("name") String name);
+}
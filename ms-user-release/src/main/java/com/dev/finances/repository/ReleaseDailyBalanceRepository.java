@@ -0,0 +1,44 @@
+package com.dev.finances.repository;
+
+import com.dev.finances.model.entity.ReleaseDailyBalance;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface ReleaseDailyBalanceRepository extends JpaRepository<ReleaseDailyBalance, Long> {
+
+    String INSERT_BUCKETS = " insert into ReleaseDailyBalance (userId, balanceDate, type, status, total, quantity) " +
+            " select l.user.id, l.createAt, l.type, l.status, sum(l.value), count(l.id) from Release l ";
+    String GROUP_BY_BUCKET = " group by l.user.id, l.createAt, l.type, l.status ";
+
+    @Query(value = "select sum(b.total) from ReleaseDailyBalance b where b.userId = :userId and b.type = :type and b.status = :status " +
+            "and b.balanceDate between :startDate and :endDate")
+    BigDecimal getBalanceByReleaseTypeUserAndStatus(
+            @Param("userId") Long userId,
+            @Param("type") ReleaseTypeEnum type,
+            @Param("status") ReleaseStatusEnum status,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query(value = "delete from ReleaseDailyBalance b where b.userId = :userId and b.balanceDate = :balanceDate")
+    int deleteByUserAndDate(@Param("userId") Long userId, @Param("balanceDate") LocalDate balanceDate);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = INSERT_BUCKETS + "where l.user.id = :userId and l.createAt = :balanceDate " + GROUP_BY_BUCKET)
+    int insertByUserAndDate(@Param("userId") Long userId, @Param("balanceDate") LocalDate balanceDate);
+
+    @Modifying
+    @Query(value = "delete from ReleaseDailyBalance b where b.userId = :userId")
+    int deleteByUser(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = INSERT_BUCKETS + "where l.user.id = :userId and l.createAt is not null " + GROUP_BY_BUCKET)
+    int insertByUser(@Param("userId") Long userId);
+}
@@ -0,0 +1,27 @@
+package com.dev.finances.repository;
+
+import com.dev.finances.model.entity.ReleaseOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReleaseOutboxRepository extends JpaRepository<ReleaseOutbox, Long> {
+
+    @Query(value = "select o from ReleaseOutbox o where o.parkedAt is null order by o.id")
+    List<ReleaseOutbox> findBatch(Pageable pageable);
+
+    @Modifying
+    @Query(value = "delete from ReleaseOutbox o where o.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "update ReleaseOutbox o set o.attempts = :attempts, o.lastError = :error, o.parkedAt = :parkedAt where o.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("attempts") int attempts, @Param("error") String error,
+                      @Param("parkedAt") LocalDateTime parkedAt);
+}
@@ -4,35 +4,154 @@ import com.dev.finances.api.dto.ReleasesDTO;
 import com.dev.finances.model.entity.Release;
 import com.dev.finances.model.enums.ReleaseStatusEnum;
 import com.dev.finances.model.enums.ReleaseTypeEnum;
-import org.springframework.data.domain.Page;
+import com.dev.finances.repository.projection.ReleaseBucket;
+import com.dev.finances.repository.projection.ReleaseCounts;
+import com.dev.finances.repository.projection.ReleaseDescription;
+import com.dev.finances.repository.projection.ReleaseFact;
+import com.dev.finances.repository.projection.ReleaseOwner;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-import java.math.BigDecimal;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface ReleaseRepository extends JpaRepository<Release, Long> {
 
-    String WHERE_RELEASE_TYPE_USER_AND_STATUS = " u.id = :userId and l.type = :type and l.status = :status group by u ";
     String SELECT_COLUMNS_FIND_ALL = " select new com.dev.finances.api.dto.ReleasesDTO(l.id, l.description, l.mes, l.ano, l.value, l.user.id, l.type, l.status, l.releaseDate) ";
+    String SELECT_COLUMNS_RECENT = " select new com.dev.finances.api.dto.ReleasesDTO(l.id, l.description, l.mes, l.ano, l.value, l.user.id, l.type, l.status, l.releaseDate, l.createAt) ";
+    String SELECT_COLUMNS_VERSIONED = " select new com.dev.finances.api.dto.ReleasesDTO(l.id, l.description, l.mes, l.ano, l.value, l.user.id, l.type, l.status, l.releaseDate, l.createAt, l.version) ";
     String WHERE_FIND_ALL = " l.user.id = :userId ";
+    String ORDER_BY_CURSOR = " order by l.releaseDate desc, l.id desc ";
+
+    @Query(value = SELECT_COLUMNS_RECENT + "from Release l where " + WHERE_FIND_ALL + " and l.createAt between :startDate and :endDate order by l.id desc")
+    List<ReleasesDTO> lastReleases(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, Pageable pageable);
+
+    @Query(value = SELECT_COLUMNS_VERSIONED + "from Release l where l.id = :id")
+    Optional<ReleasesDTO> findDtoById(@Param("id") Long id);
+
+    @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where " + WHERE_FIND_ALL + " and l.id in :ids order by l.id")
+    List<ReleasesDTO> findDtosByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Query(value = SELECT_COLUMNS_RECENT + "from Release l where " + WHERE_FIND_ALL + " and l.id in :ids order by l.id")
+    List<ReleasesDTO> findDtosWithCreateAtByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where " + WHERE_FIND_ALL +
+            " and lower(l.description) like :description " +
+            " and (:mes is null or l.mes = :mes) " +
+            " and (:ano is null or l.ano = :ano) " +
+            " and (:type is null or l.type = :type) " +
+            " and (:status is null or l.status = :status) order by l.id")
+    List<ReleasesDTO> search(@Param("userId") Long userId,
+                             @Param("description") String description,
+                             @Param("mes") Integer mes,
+                             @Param("ano") Integer ano,
+                             @Param("type") ReleaseTypeEnum type,
+                             @Param("status") ReleaseStatusEnum status);
+
+    @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where " + WHERE_FIND_ALL)
+    List<ReleasesDTO> findAll(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where " + WHERE_FIND_ALL + ORDER_BY_CURSOR)
+    List<ReleasesDTO> findFirstByCursor(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where " + WHERE_FIND_ALL +
+            " and (l.releaseDate < :releaseDate or (l.releaseDate = :releaseDate and l.id < :id)) " + ORDER_BY_CURSOR)
+    List<ReleasesDTO> findAfterCursor(@Param("userId") Long userId,
+                                      @Param("releaseDate") LocalDate releaseDate,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where " + WHERE_FIND_ALL + " order by l.id")
+    Stream<ReleasesDTO> streamByUser(@Param("userId") Long userId);
+
+    @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where " + WHERE_FIND_ALL + " and l.releaseDate in :dates")
+    List<ReleasesDTO> findByReleaseDates(@Param("userId") Long userId, @Param("dates") Collection<LocalDate> dates);
+
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query(value = "select l.id as id, l.user.id as userId, l.description as description from Release l")
+    Stream<ReleaseDescription> streamDescriptions();
+
+    @Query(value = "select l.id as id, l.user.id as userId, l.description as description from Release l where " + WHERE_FIND_ALL)
+    List<ReleaseDescription> findDescriptionsByUser(@Param("userId") Long userId);
+
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query(value = "select l.id as id, l.user.id as userId, l.value as value, l.releaseDate as releaseDate, " +
+            "l.type as type, l.status as status from Release l")
+    Stream<ReleaseFact> streamFacts();
+
+    @Query(value = "select count(l.id) from Release l where " + WHERE_FIND_ALL)
+    long countByUser(@Param("userId") Long userId);
+
+    @Query(value = "select (select count(*) from financas.release r where r.user_id = :userId) as hot, " +
+            "(select count(*) from financas.release_archive a where a.user_id = :userId) as archived", nativeQuery = true)
+    ReleaseCounts countByUserWithArchive(@Param("userId") Long userId);
+
+    @Query(value = "select l.user.id as userId, l.createAt as createAt from Release l where l.id = :id")
+    Optional<ReleaseBucket> findBucketById(@Param("id") Long id);
+
+    @Query(value = "select l.version from Release l where l.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "select l.id as id, l.user.id as userId from Release l where l.id > :afterId and l.status in :statuses " +
+            " and l.releaseDate < :horizon and l.createAt < :horizon " +
+            " and (l.ano is null or l.ano < :year or (l.ano = :year and l.mes is not null and l.mes < :month)) order by l.id")
+    List<ReleaseOwner> findArchivable(@Param("afterId") Long afterId,
+                                 @Param("statuses") Collection<ReleaseStatusEnum> statuses,
+                                 @Param("horizon") LocalDate horizon,
+                                 @Param("year") Integer year,
+                                 @Param("month") Integer month,
+                                 Pageable pageable);
+
+    @Modifying
+    @Query(value = "delete from Release l where l.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "select l.id as id, l.user.id as userId from Release l join l.user u where l.id > :afterId " +
+            " and l.status = :status and l.releaseDate <= :date and u.autoSettle = true order by l.id")
+    List<ReleaseOwner> findAutoSettleCandidates(@Param("afterId") Long afterId,
+                                                @Param("status") ReleaseStatusEnum status,
+                                                @Param("date") LocalDate date,
+                                                Pageable pageable);
+
+    @Query(value = SELECT_COLUMNS_RECENT + "from Release l join l.user u where l.id in :ids " +
+            " and l.status = :status and l.releaseDate <= :date and u.autoSettle = true order by l.id")
+    List<ReleasesDTO> findAutoSettleDtosByIds(@Param("ids") Collection<Long> ids,
+                                              @Param("status") ReleaseStatusEnum status,
+                                              @Param("date") LocalDate date);
 
-    @Query(value = "select sum(l.value) from Release l join l.user u where l.createAt between :startDate and :endDate and " + WHERE_RELEASE_TYPE_USER_AND_STATUS)
-    BigDecimal getBalanceByReleaseTypeUserAndStatus(
-            @Param("userId") Long userId,
-            @Param("type") ReleaseTypeEnum type,
-            @Param("status") ReleaseStatusEnum status,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate);
+    @Modifying
+    @Query(value = "update Release l set l.status = :status, l.version = l.version + 1 where l.id in :ids")
+    int settleByIds(@Param("ids") Collection<Long> ids, @Param("status") ReleaseStatusEnum status);
 
-    @Query(value = "select l from Release l join l.user u where u.id = :userId and l.createAt between :startDate and :endDate order by l.id desc")
-    List<Optional<Release>> lastReleases(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    @Modifying
+    @Query(value = "update Release l set l.status = :status, l.version = l.version + 1 where " + WHERE_FIND_ALL + " and l.id in :ids")
+    int updateStatusByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids, @Param("status") ReleaseStatusEnum status);
 
-    @Query(value = SELECT_COLUMNS_FIND_ALL + "from Release l where " + WHERE_FIND_ALL,
-            countQuery = "select count(l.id) from Release l where " + WHERE_FIND_ALL)
-    Page<ReleasesDTO> findAll(@Param("userId") Long userId, Pageable pageable);
+    @Modifying
+    @Query(value = "delete from Release l where " + WHERE_FIND_ALL + " and l.id in :ids")
+    int deleteByUserAndIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,34 @@
+package com.dev.finances.repository;
+
+import com.dev.finances.model.entity.ReleaseSeries;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReleaseSeriesRepository extends JpaRepository<ReleaseSeries, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "select s from ReleaseSeries s where s.id > :afterId and s.active = true and s.installments is null " +
+            " and s.nextReleaseDate <= :until order by s.id")
+    List<ReleaseSeries> findDue(@Param("afterId") Long afterId, @Param("until") LocalDate until, Pageable pageable);
+
+    @Query(value = "select s.id from ReleaseSeries s where s.id > :afterId and s.active = true and s.installments is null " +
+            " and s.nextReleaseDate <= :until order by s.id")
+    List<Long> findDueIds(@Param("afterId") Long afterId, @Param("until") LocalDate until, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "select s from ReleaseSeries s where s.id = :id and s.active = true and s.installments is null " +
+            " and s.nextReleaseDate <= :until")
+    List<ReleaseSeries> findDueById(@Param("id") Long id, @Param("until") LocalDate until);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update ReleaseSeries s set s.active = false where s.id = :id")
+    int deactivate(@Param("id") Long id);
+}
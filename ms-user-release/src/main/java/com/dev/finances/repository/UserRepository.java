@@ -1,14 +1,39 @@
  package com.dev.finances.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.dev.finances.model.entity.User;
+import com.dev.finances.repository.projection.UserGeneration;
+
+import javax.persistence.LockModeType;
 
 public interface UserRepository extends JpaRepository<User, Long>{
 	
 	boolean existsByEmail(String email);
 	
 	Optional<User> findByEmail(String email);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query(value = "select u from User u where u.id = :id")
+	Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+	@Query(value = "select u.id from User u order by u.id")
+	List<Long> findAllIds();
+
+	@Query(value = "select u.release_generation from financas.user u where u.id = :id", nativeQuery = true)
+	Optional<Long> findReleaseGeneration(@Param("id") Long id);
+
+	@Query(value = "select u.id as id, u.release_generation as releaseGeneration from financas.user u", nativeQuery = true)
+	List<UserGeneration> findReleaseGenerations();
+
+	@Modifying
+	@Query(value = "update financas.user set release_generation = release_generation + :changes where id = :id", nativeQuery = true)
+	int incrementReleaseGeneration(@Param("id") Long id, @Param("changes") long changes);
 }
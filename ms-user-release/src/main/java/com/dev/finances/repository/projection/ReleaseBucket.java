@@ -0,0 +1,10 @@
+package com.dev.finances.repository.projection;
+
+import java.time.LocalDate;
+
+public interface ReleaseBucket {
+
+    Long getUserId();
+
+    LocalDate getCreateAt();
+}
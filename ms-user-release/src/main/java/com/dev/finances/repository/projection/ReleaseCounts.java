@@ -0,0 +1,8 @@
+package com.dev.finances.repository.projection;
+
+public interface ReleaseCounts {
+
+    long getHot();
+
+    long getArchived();
+}
@@ -0,0 +1,10 @@
+package com.dev.finances.repository.projection;
+
+public interface ReleaseDescription {
+
+    Long getId();
+
+    Long getUserId();
+
+    String getDescription();
+}
@@ -0,0 +1,22 @@
+package com.dev.finances.repository.projection;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface ReleaseFact {
+
+    Long getId();
+
+    Long getUserId();
+
+    BigDecimal getValue();
+
+    LocalDate getReleaseDate();
+
+    ReleaseTypeEnum getType();
+
+    ReleaseStatusEnum getStatus();
+}
@@ -0,0 +1,8 @@
+package com.dev.finances.repository.projection;
+
+public interface ReleaseOwner {
+
+    Long getId();
+
+    Long getUserId();
+}
@@ -0,0 +1,238 @@
+package com.dev.finances.search;
+
+import com.dev.finances.etag.ReleaseGenerations;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.event.ReleasesArchivedEvent;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.repository.UserRepository;
+import com.dev.finances.repository.projection.ReleaseDescription;
+import com.dev.finances.repository.projection.UserGeneration;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Log4j2
+@Component
+public class ReleaseDescriptionIndex {
+
+    private final ReleaseRepository repository;
+    private final UserRepository userRepository;
+    private final ReleaseGenerations generations;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final Map<Long, UserIndex> users = new ConcurrentHashMap<>();
+    private final List<ReleaseChangedEvent> pendingEvents = new ArrayList<>();
+    private volatile boolean ready;
+    private boolean building;
+
+    public ReleaseDescriptionIndex(ReleaseRepository repository, UserRepository userRepository,
+                                   ReleaseGenerations generations, PlatformTransactionManager transactionManager,
+                                   @Value("${release.search.index.enabled:true}") boolean enabled) {
+        this.repository = repository;
+        this.userRepository = userRepository;
+        this.generations = generations;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled)
+            return;
+        Thread builder = new Thread(this::rebuild, "release-description-index");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    public void rebuild() {
+        synchronized (pendingEvents) {
+            building = true;
+            ready = false;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            users.clear();
+            AtomicLong rows = new AtomicLong();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                for (UserGeneration user : userRepository.findReleaseGenerations())
+                    users.put(user.getId(), new UserIndex(user.getReleaseGeneration()));
+                try (Stream<ReleaseDescription> releases = repository.streamDescriptions()) {
+                    releases.forEach(release -> {
+                        UserIndex index = users.get(release.getUserId());
+                        if (index != null)
+                            index.put(release.getId(), release.getDescription());
+                        rows.incrementAndGet();
+                    });
+                }
+            });
+            log.info("Release description index built with " + rows + " releases in " + (System.currentTimeMillis() - start) + " ms");
+        } catch (RuntimeException e) {
+            log.error("Error to build release description index", e);
+        }
+
+        synchronized (pendingEvents) {
+            pendingEvents.forEach(this::apply);
+            pendingEvents.clear();
+            building = false;
+            ready = true;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReleaseChanged(ReleaseChangedEvent event) {
+        if (!enabled)
+            return;
+        synchronized (pendingEvents) {
+            if (building) {
+                pendingEvents.add(event);
+                return;
+            }
+        }
+        apply(event);
+    }
+
+    @TransactionalEventListener
+    public void onReleasesArchived(ReleasesArchivedEvent event) {
+        if (!enabled)
+            return;
+        event.getReleaseIdsByUser().forEach((userId, ids) -> apply(userId, index -> ids.forEach(index::remove)));
+    }
+
+    public Optional<List<Long>> search(Long userId, String text) {
+        if (!enabled || !ready)
+            return Optional.empty();
+        long generation = generations.cached(userId);
+        UserIndex index = users.get(userId);
+        if (index == null || !index.isCurrent(generation))
+            index = reindex(userId);
+        return Optional.of(index.search(normalize(text)));
+    }
+
+    private UserIndex reindex(Long userId) {
+        UserIndex index = readOnlyTransaction.execute(status -> {
+            UserIndex loaded = new UserIndex(generations.current(userId));
+            repository.findDescriptionsByUser(userId).forEach(release -> loaded.put(release.getId(), release.getDescription()));
+            return loaded;
+        });
+        users.put(userId, index);
+        return index;
+    }
+
+    private void apply(ReleaseChangedEvent event) {
+        if (!event.getPreviousUserId().equals(event.getUserId()))
+            apply(event.getPreviousUserId(), index -> index.remove(event.getReleaseId()));
+
+        apply(event.getUserId(), index -> {
+            if (event.isRemoval())
+                index.remove(event.getReleaseId());
+            else
+                index.put(event.getReleaseId(), event.getDescription());
+        });
+    }
+
+    private void apply(Long userId, Consumer<UserIndex> change) {
+        UserIndex index = users.get(userId);
+        if (index == null)
+            return;
+        change.accept(index);
+        index.advance();
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static long trigram(String text, int index) {
+        return ((long) text.charAt(index) << 32) | ((long) text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+
+    static class UserIndex {
+
+        private final Map<Long, String> descriptions = new HashMap<>();
+        private final Map<Long, Set<Long>> postings = new HashMap<>();
+        private long generation;
+
+        UserIndex(long generation) {
+            this.generation = generation;
+        }
+
+        synchronized boolean isCurrent(long generation) {
+            return this.generation == generation;
+        }
+
+        synchronized void advance() {
+            generation++;
+        }
+
+        synchronized void put(Long id, String description) {
+            remove(id);
+            String normalized = normalize(description);
+            descriptions.put(id, normalized);
+            for (int i = 0; i + 3 <= normalized.length(); i++)
+                postings.computeIfAbsent(trigram(normalized, i), key -> new HashSet<>()).add(id);
+        }
+
+        synchronized void remove(Long id) {
+            String normalized = descriptions.remove(id);
+            if (normalized == null)
+                return;
+            for (int i = 0; i + 3 <= normalized.length(); i++) {
+                long key = trigram(normalized, i);
+                Set<Long> ids = postings.get(key);
+                if (ids != null && ids.remove(id) && ids.isEmpty())
+                    postings.remove(key);
+            }
+        }
+
+        synchronized List<Long> search(String text) {
+            List<Long> result = new ArrayList<>();
+            if (text.length() < 3) {
+                descriptions.forEach((id, description) -> {
+                    if (description.contains(text))
+                        result.add(id);
+                });
+                Collections.sort(result);
+                return result;
+            }
+
+            List<Set<Long>> sets = new ArrayList<>();
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                Set<Long> ids = postings.get(trigram(text, i));
+                if (ids == null)
+                    return result;
+                sets.add(ids);
+            }
+            sets.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+            for (Long id : sets.get(0)) {
+                boolean candidate = true;
+                for (int i = 1; i < sets.size() && candidate; i++)
+                    candidate = sets.get(i).contains(id);
+                if (candidate && descriptions.get(id).contains(text))
+                    result.add(id);
+            }
+            Collections.sort(result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.dev.finances.service;
+
+import com.dev.finances.api.dto.DashboardDTO;
+
+public interface DashboardService {
+
+	DashboardDTO getDashboard(Long userId);
+}
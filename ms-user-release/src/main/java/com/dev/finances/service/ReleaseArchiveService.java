@@ -0,0 +1,13 @@
+package com.dev.finances.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReleaseArchiveService {
+
+	LocalDate getHorizon();
+
+	boolean mayContain(Integer ano, Integer mes);
+
+	List<Long> archive(Long afterId, int batchSize);
+}
@@ -0,0 +1,16 @@
+package com.dev.finances.service;
+
+import com.dev.finances.api.dto.BulkResponseDTO;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+
+import java.util.List;
+
+public interface ReleaseBulkService {
+
+	BulkResponseDTO saveAll(List<Release> releases);
+
+	BulkResponseDTO updateStatus(Long userId, List<Long> ids, ReleaseStatusEnum status);
+
+	BulkResponseDTO deleteAll(Long userId, List<Long> ids);
+}
@@ -0,0 +1,21 @@
+package com.dev.finances.service;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface ReleaseDailyBalanceService {
+
+	void lock(Long userId);
+
+	void refresh(Long userId, LocalDate... days);
+
+	void refreshAll(Long userId, Collection<LocalDate> days);
+
+	void rebuild(Long userId);
+
+	BigDecimal getBalance(Long userId, ReleaseTypeEnum type, ReleaseStatusEnum status, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,11 @@
+package com.dev.finances.service;
+
+import com.dev.finances.model.enums.ExportFormatEnum;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ReleaseExportService {
+
+	long export(Long userId, ExportFormatEnum format, OutputStream output) throws IOException;
+}
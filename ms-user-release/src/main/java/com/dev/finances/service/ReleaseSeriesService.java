@@ -0,0 +1,24 @@
+package com.dev.finances.service;
+
+import com.dev.finances.model.entity.ReleaseSeries;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReleaseSeriesService {
+
+	ReleaseSeries save(ReleaseSeries series);
+
+	Optional<ReleaseSeries> findById(Long id);
+
+	void stop(ReleaseSeries series);
+
+	LocalDate getUntil();
+
+	List<Long> extend(Long afterId, int batchSize);
+
+	List<Long> findDueIds(Long afterId, int batchSize);
+
+	void extend(Long id);
+}
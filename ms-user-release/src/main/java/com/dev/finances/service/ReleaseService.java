@@ -1,5 +1,6 @@
 package com.dev.finances.service;
 
+import com.dev.finances.api.dto.CursorPageResponseDTO;
 import com.dev.finances.api.dto.PaginatedResponseDTO;
 import com.dev.finances.api.dto.ReleasesDTO;
 import com.dev.finances.model.entity.Release;
@@ -18,13 +19,17 @@ public interface ReleaseService {
 	
 	void delete(Release release);
 	
-	List<Release> find(Release releaseFilter);
+	List<ReleasesDTO> find(Release releaseFilter);
 	
 	void updateStatus(Release release, ReleaseStatusEnum status);
 	
 	void validate(Release release);
 	
 	Optional<Release> findById(Long id);
+
+	Optional<ReleasesDTO> findDtoById(Long id);
+
+	List<ReleasesDTO> findDtosByIds(Long userId, List<Long> ids);
 	
 	BigDecimal getBalanceByUser(Long id);
 
@@ -33,4 +38,6 @@ public interface ReleaseService {
 	BigDecimal getExtractByReleaseType(Long userId, ReleaseTypeEnum releaseType);
 
 	PaginatedResponseDTO<ReleasesDTO> getReleasesPaginated(Long userId, Integer page, Integer size);
+
+	CursorPageResponseDTO<ReleasesDTO> getReleasesByCursor(Long userId, String cursor, Integer size, boolean withTotal);
 }
@@ -0,0 +1,16 @@
+package com.dev.finances.service;
+
+import com.dev.finances.repository.projection.ReleaseOwner;
+
+import java.util.List;
+
+public interface ReleaseSettleService {
+
+	List<ReleaseOwner> findDue(Long afterId, int batchSize);
+
+	int settle(List<ReleaseOwner> releases);
+
+	Long getCheckpoint();
+
+	void saveCheckpoint(Long lastId);
+}
@@ -0,0 +1,16 @@
+package com.dev.finances.service;
+
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.StatementFormatEnum;
+import com.dev.finances.statement.StatementImportJob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+public interface StatementImportService {
+
+	StatementImportJob start(User user, StatementFormatEnum format, InputStream input) throws IOException;
+
+	Optional<StatementImportJob> findJob(String jobId);
+}
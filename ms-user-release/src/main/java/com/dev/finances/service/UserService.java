@@ -15,5 +15,7 @@ public interface UserService {
 	
 	Optional<User> getById(Long id);
 
+	void updateAutoSettle(Long id, boolean autoSettle);
+
 	User findByEmail(String email);
 }
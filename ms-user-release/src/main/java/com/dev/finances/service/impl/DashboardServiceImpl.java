@@ -0,0 +1,122 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.DashboardDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.exception.DashboardTimeoutException;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.service.DashboardService;
+import com.dev.finances.service.ReleaseService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Log4j2
+@Service
+public class DashboardServiceImpl implements DashboardService {
+
+    static final String RECEITAS = "receitas";
+    static final String DESPESAS = "despesas";
+    static final String LAST_RELEASES = "lastReleases";
+
+    private final ReleaseService releaseService;
+    private final ExecutorService sections;
+    private final long timeoutMillis;
+
+    public DashboardServiceImpl(ReleaseService releaseService,
+                                @Value("${dashboard.threads:8}") int threads,
+                                @Value("${dashboard.queue-capacity:64}") int queueCapacity,
+                                @Value("${dashboard.timeout-ms:5000}") long timeoutMillis) {
+        this.releaseService = releaseService;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger sequence = new AtomicInteger();
+        this.sections = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "dashboard-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public DashboardDTO getDashboard(Long userId) {
+        long start = System.nanoTime();
+        Map<String, Long> latencies = new ConcurrentHashMap<>();
+
+        Future<BigDecimal> receitas = section(RECEITAS, latencies,
+                () -> releaseService.getExtractByReleaseType(userId, ReleaseTypeEnum.RECEITA));
+        Future<BigDecimal> despesas = section(DESPESAS, latencies,
+                () -> releaseService.getExtractByReleaseType(userId, ReleaseTypeEnum.DESPESA));
+        Future<List<ReleasesDTO>> lastReleases = section(LAST_RELEASES, latencies,
+                () -> releaseService.lastReleases(userId));
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        BigDecimal totalReceitas = await(userId, receitas, deadline, receitas, despesas, lastReleases);
+        BigDecimal totalDespesas = await(userId, despesas, deadline, receitas, despesas, lastReleases);
+        List<ReleasesDTO> last = await(userId, lastReleases, deadline, receitas, despesas, lastReleases);
+
+        Map<String, Long> breakdown = new LinkedHashMap<>();
+        for (String section : new String[]{RECEITAS, DESPESAS, LAST_RELEASES})
+            breakdown.put(section, latencies.get(section));
+        return new DashboardDTO(totalReceitas.subtract(totalDespesas), totalReceitas, totalDespesas,
+                last, breakdown, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sections.shutdownNow();
+    }
+
+    private <T> Future<T> section(String name, Map<String, Long> latencies, Supplier<T> query) {
+        return sections.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                return query.get();
+            } finally {
+                latencies.put(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        });
+    }
+
+    private <T> T await(Long userId, Future<T> future, long deadline, Future<?>... all) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            cancel(all);
+            log.warn("Dashboard of user " + userId + " not loaded in " + timeoutMillis + " ms");
+            throw new DashboardTimeoutException("O painel não foi carregado em " + timeoutMillis + " ms, tente novamente.", e);
+        } catch (InterruptedException e) {
+            cancel(all);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading dashboard of user " + userId, e);
+        } catch (ExecutionException e) {
+            cancel(all);
+            log.error("Error to load dashboard of user " + userId, e.getCause());
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void cancel(Future<?>... futures) {
+        for (Future<?> future : futures)
+            future.cancel(true);
+    }
+}
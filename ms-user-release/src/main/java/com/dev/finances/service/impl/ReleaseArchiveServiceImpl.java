@@ -0,0 +1,71 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.event.ReleasesArchivedEvent;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.repository.ArchivedReleaseRepository;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.repository.projection.ReleaseOwner;
+import com.dev.finances.service.ReleaseArchiveService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+public class ReleaseArchiveServiceImpl implements ReleaseArchiveService {
+
+    private static final List<ReleaseStatusEnum> SETTLED = Arrays.asList(ReleaseStatusEnum.EFETIVADO, ReleaseStatusEnum.CANCELADO);
+
+    private final ReleaseRepository repository;
+    private final ArchivedReleaseRepository archiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int horizonDays;
+
+    public ReleaseArchiveServiceImpl(ReleaseRepository repository, ArchivedReleaseRepository archiveRepository,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${release.archive.horizon-days:365}") int horizonDays) {
+        if (horizonDays <= 30)
+            throw new IllegalArgumentException("release.archive.horizon-days must be greater than 30");
+        this.repository = repository;
+        this.archiveRepository = archiveRepository;
+        this.eventPublisher = eventPublisher;
+        this.horizonDays = horizonDays;
+    }
+
+    @Override
+    public LocalDate getHorizon() {
+        return LocalDate.now().minusDays(horizonDays);
+    }
+
+    @Override
+    public boolean mayContain(Integer ano, Integer mes) {
+        LocalDate horizon = getHorizon();
+        if (ano == null || ano < horizon.getYear())
+            return true;
+        return ano == horizon.getYear() && (mes == null || mes < horizon.getMonthValue());
+    }
+
+    @Override
+    @Transactional
+    public List<Long> archive(Long afterId, int batchSize) {
+        LocalDate horizon = getHorizon();
+        List<ReleaseOwner> releases = repository.findArchivable(afterId, SETTLED, horizon, horizon.getYear(), horizon.getMonthValue(),
+                PageRequest.of(0, batchSize));
+        List<Long> ids = releases.stream().map(ReleaseOwner::getId).collect(Collectors.toList());
+        if (!ids.isEmpty()) {
+            archiveRepository.copyFrom(ids);
+            repository.deleteByIds(ids);
+            Map<Long, List<Long>> idsByUser = releases.stream().collect(Collectors.groupingBy(ReleaseOwner::getUserId,
+                    Collectors.mapping(ReleaseOwner::getId, Collectors.toList())));
+            eventPublisher.publishEvent(new ReleasesArchivedEvent(idsByUser));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,176 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.BulkItemResultDTO;
+import com.dev.finances.api.dto.BulkResponseDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.enums.ReleaseActionEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.service.ReleaseBulkService;
+import com.dev.finances.service.ReleaseDailyBalanceService;
+import com.dev.finances.service.ReleaseService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+@Log4j2
+@Service
+public class ReleaseBulkServiceImpl implements ReleaseBulkService {
+
+    private static final int ID_CHUNK_SIZE = 1000;
+    private static final String RELEASE_NOT_FOUND = "Lançamento não encontrado na base de dados.";
+
+    private final ReleaseService releaseService;
+    private final ReleaseRepository repository;
+    private final ReleaseDailyBalanceService dailyBalanceService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public ReleaseBulkServiceImpl(ReleaseService releaseService, ReleaseRepository repository,
+                                  ReleaseDailyBalanceService dailyBalanceService, EntityManager entityManager,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.releaseService = releaseService;
+        this.repository = repository;
+        this.dailyBalanceService = dailyBalanceService;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public BulkResponseDTO saveAll(List<Release> releases) {
+        long start = System.nanoTime();
+        List<BulkItemResultDTO> results = new ArrayList<>(releases.size());
+        List<Release> accepted = new ArrayList<>(releases.size());
+        SortedSet<Long> userIds = new TreeSet<>();
+        LocalDate today = LocalDate.now();
+
+        for (int index = 0; index < releases.size(); index++) {
+            Release release = releases.get(index);
+            try {
+                releaseService.validate(release);
+                release.setId(null);
+                release.setStatus(ReleaseStatusEnum.PENDENTE);
+                release.setCreateAt(today);
+                accepted.add(release);
+                userIds.add(release.getUser().getId());
+                results.add(BulkItemResultDTO.builder().index(index).success(true).build());
+            } catch (BusinessException e) {
+                results.add(BulkItemResultDTO.builder().index(index).success(false).message(e.getMessage()).build());
+            }
+        }
+
+        userIds.forEach(dailyBalanceService::lock);
+
+        for (int offset = 0; offset < accepted.size(); offset += batchSize) {
+            repository.saveAll(accepted.subList(offset, Math.min(offset + batchSize, accepted.size())));
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        userIds.forEach(userId -> dailyBalanceService.refresh(userId, today));
+        accepted.forEach(release -> eventPublisher.publishEvent(
+                ReleaseChangedEvent.of(ReleaseActionEnum.CRIADO, release, release.getUser().getId())));
+
+        int acceptedIndex = 0;
+        for (BulkItemResultDTO result : results) {
+            if (result.isSuccess())
+                result.setId(accepted.get(acceptedIndex++).getId());
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+        long rowsPerSecond = accepted.size() * 1_000_000_000L / elapsedNanos;
+        log.info("Bulk insert of " + accepted.size() + " releases took " + elapsedNanos / 1_000_000 + " ms (" + rowsPerSecond + " rows/s)");
+
+        return new BulkResponseDTO(results, accepted.size(), releases.size() - accepted.size(),
+                elapsedNanos / 1_000_000, rowsPerSecond);
+    }
+
+    @Override
+    @Transactional
+    public BulkResponseDTO updateStatus(Long userId, List<Long> ids, ReleaseStatusEnum status) {
+        if (status == null)
+            throw new BusinessException("Não foi possível atualizar o status do lançamentos, informe um status válido");
+        return change(userId, ids, status);
+    }
+
+    @Override
+    @Transactional
+    public BulkResponseDTO deleteAll(Long userId, List<Long> ids) {
+        return change(userId, ids, null);
+    }
+
+    private BulkResponseDTO change(Long userId, List<Long> ids, ReleaseStatusEnum status) {
+        long start = System.nanoTime();
+        dailyBalanceService.lock(userId);
+
+        List<Long> uniqueIds = ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        Map<Long, ReleasesDTO> found = new HashMap<>(uniqueIds.size() * 2);
+        List<ReleasesDTO> changed = new ArrayList<>(uniqueIds.size());
+        Set<LocalDate> days = new HashSet<>();
+
+        for (int offset = 0; offset < uniqueIds.size(); offset += ID_CHUNK_SIZE) {
+            List<Long> changedIds = new ArrayList<>();
+            for (ReleasesDTO release : repository.findDtosWithCreateAtByIds(userId,
+                    uniqueIds.subList(offset, Math.min(offset + ID_CHUNK_SIZE, uniqueIds.size())))) {
+                found.put(release.getId(), release);
+                if (status != null && release.getStatus() == status)
+                    continue;
+                changedIds.add(release.getId());
+                changed.add(release);
+                days.add(release.getCreateAt());
+            }
+            if (changedIds.isEmpty())
+                continue;
+            if (status == null)
+                repository.deleteByUserAndIds(userId, changedIds);
+            else
+                repository.updateStatusByIds(userId, changedIds, status);
+        }
+
+        dailyBalanceService.refreshAll(userId, days);
+
+        ReleaseActionEnum action = status == null ? ReleaseActionEnum.REMOVIDO : ReleaseActionEnum.STATUS_ATUALIZADO;
+        for (ReleasesDTO release : changed) {
+            if (status != null)
+                release.setStatus(status);
+            eventPublisher.publishEvent(ReleaseChangedEvent.of(action, release));
+        }
+
+        List<BulkItemResultDTO> results = new ArrayList<>(ids.size());
+        for (int index = 0; index < ids.size(); index++) {
+            Long id = ids.get(index);
+            boolean success = found.containsKey(id);
+            results.add(BulkItemResultDTO.builder().index(index).id(id).success(success)
+                    .message(success ? null : RELEASE_NOT_FOUND).build());
+        }
+        int succeeded = (int) results.stream().filter(BulkItemResultDTO::isSuccess).count();
+
+        long elapsedNanos = Math.max(System.nanoTime() - start, 1);
+        long rowsPerSecond = changed.size() * 1_000_000_000L / elapsedNanos;
+        log.info("Bulk " + action + " of " + changed.size() + " releases took " + elapsedNanos / 1_000_000 + " ms (" + rowsPerSecond + " rows/s)");
+
+        return new BulkResponseDTO(results, succeeded, ids.size() - succeeded, elapsedNanos / 1_000_000, rowsPerSecond);
+    }
+}
@@ -0,0 +1,72 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.repository.ReleaseDailyBalanceRepository;
+import com.dev.finances.repository.UserRepository;
+import com.dev.finances.service.ReleaseDailyBalanceService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+@Service
+public class ReleaseDailyBalanceServiceImpl implements ReleaseDailyBalanceService {
+
+    private static final int MAX_REFRESHED_DAYS = 32;
+
+    private final ReleaseDailyBalanceRepository repository;
+    private final UserRepository userRepository;
+
+    public ReleaseDailyBalanceServiceImpl(ReleaseDailyBalanceRepository repository, UserRepository userRepository) {
+        this.repository = repository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(Long userId) {
+        userRepository.findByIdForUpdate(userId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Long userId, LocalDate... days) {
+        Arrays.stream(days)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(day -> {
+                    repository.deleteByUserAndDate(userId, day);
+                    repository.insertByUserAndDate(userId, day);
+                });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refreshAll(Long userId, Collection<LocalDate> days) {
+        if (days.size() > MAX_REFRESHED_DAYS)
+            rebuild(userId);
+        else if (!days.isEmpty())
+            refresh(userId, days.toArray(new LocalDate[0]));
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(Long userId) {
+        lock(userId);
+        repository.deleteByUser(userId);
+        repository.insertByUser(userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal getBalance(Long userId, ReleaseTypeEnum type, ReleaseStatusEnum status, LocalDate startDate, LocalDate endDate) {
+        BigDecimal balance = repository.getBalanceByReleaseTypeUserAndStatus(userId, type, status, startDate, endDate);
+        return (balance == null) ? BigDecimal.ZERO : balance;
+    }
+}
@@ -0,0 +1,132 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.enums.ExportFormatEnum;
+import com.dev.finances.repository.ArchivedReleaseRepository;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.service.ReleaseExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+@Service
+public class ReleaseExportServiceImpl implements ReleaseExportService {
+
+    private static final String CSV_HEADER = "id;description;mouth;year;value;type;status;releaseDate";
+
+    private final ReleaseRepository repository;
+    private final ArchivedReleaseRepository archiveRepository;
+    private final ObjectWriter jsonWriter;
+
+    public ReleaseExportServiceImpl(ReleaseRepository repository, ArchivedReleaseRepository archiveRepository,
+                                    ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.archiveRepository = archiveRepository;
+        this.jsonWriter = objectMapper.writerFor(ReleasesDTO.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long export(Long userId, ExportFormatEnum format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        long rows = 0;
+
+        if (format == ExportFormatEnum.CSV)
+            writer.write(CSV_HEADER + "\n");
+
+        try (Stream<ReleasesDTO> releases = repository.streamByUser(userId);
+             Stream<ReleasesDTO> archived = archiveRepository.streamByUser(userId)) {
+            Iterator<ReleasesDTO> iterator = new MergingIterator(releases.iterator(), archived.iterator());
+            while (iterator.hasNext()) {
+                ReleasesDTO release = iterator.next();
+                if (format == ExportFormatEnum.CSV) {
+                    writeCsv(writer, release);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(release));
+                    writer.write('\n');
+                }
+                rows++;
+            }
+        }
+
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsv(Writer writer, ReleasesDTO release) throws IOException {
+        writer.write(cell(release.getId()));
+        writer.write(';');
+        writer.write(escapeCsv(release.getDescription()));
+        writer.write(';');
+        writer.write(cell(release.getMouth()));
+        writer.write(';');
+        writer.write(cell(release.getYear()));
+        writer.write(';');
+        writer.write(release.getValue() == null ? "" : release.getValue().toPlainString());
+        writer.write(';');
+        writer.write(cell(release.getType()));
+        writer.write(';');
+        writer.write(cell(release.getStatus()));
+        writer.write(';');
+        writer.write(cell(release.getReleaseDate()));
+        writer.write('\n');
+    }
+
+    private static class MergingIterator implements Iterator<ReleasesDTO> {
+
+        private final Iterator<ReleasesDTO> first;
+        private final Iterator<ReleasesDTO> second;
+        private ReleasesDTO nextFirst;
+        private ReleasesDTO nextSecond;
+
+        MergingIterator(Iterator<ReleasesDTO> first, Iterator<ReleasesDTO> second) {
+            this.first = first;
+            this.second = second;
+            this.nextFirst = first.hasNext() ? first.next() : null;
+            this.nextSecond = second.hasNext() ? second.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextFirst != null || nextSecond != null;
+        }
+
+        @Override
+        public ReleasesDTO next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            ReleasesDTO release;
+            if (nextSecond == null || (nextFirst != null && nextFirst.getId() < nextSecond.getId())) {
+                release = nextFirst;
+                nextFirst = first.hasNext() ? first.next() : null;
+            } else {
+                release = nextSecond;
+                nextSecond = second.hasNext() ? second.next() : null;
+            }
+            return release;
+        }
+    }
+
+    private String cell(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null)
+            return "";
+        if (value.indexOf(';') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
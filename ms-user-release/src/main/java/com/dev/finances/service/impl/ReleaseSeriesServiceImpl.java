@@ -0,0 +1,130 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.BulkItemResultDTO;
+import com.dev.finances.api.dto.BulkResponseDTO;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.ReleaseSeries;
+import com.dev.finances.repository.ReleaseSeriesRepository;
+import com.dev.finances.service.ReleaseBulkService;
+import com.dev.finances.service.ReleaseSeriesService;
+import com.dev.finances.service.ReleaseService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+public class ReleaseSeriesServiceImpl implements ReleaseSeriesService {
+
+    private static final int MAX_INSTALLMENTS = 360;
+
+    private final ReleaseSeriesRepository repository;
+    private final ReleaseService releaseService;
+    private final ReleaseBulkService bulkService;
+    private final int monthsAhead;
+
+    public ReleaseSeriesServiceImpl(ReleaseSeriesRepository repository, ReleaseService releaseService,
+                                    ReleaseBulkService bulkService,
+                                    @Value("${release.series.months-ahead:2}") int monthsAhead) {
+        this.repository = repository;
+        this.releaseService = releaseService;
+        this.bulkService = bulkService;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Override
+    @Transactional
+    public ReleaseSeries save(ReleaseSeries series) {
+        if (series.getInstallments() != null && (series.getInstallments() < 2 || series.getInstallments() > MAX_INSTALLMENTS))
+            throw new BusinessException("Informe entre 2 e " + MAX_INSTALLMENTS + " parcelas.");
+        releaseService.validate(toRelease(series, series.getFirstReleaseDate(), 1));
+
+        series.setId(null);
+        series.setGeneratedCount(0);
+        series.setNextReleaseDate(series.getFirstReleaseDate());
+        series.setActive(true);
+        series.setCreateAt(LocalDate.now());
+        ReleaseSeries saved = repository.save(series);
+        expand(Collections.singletonList(saved), getUntil());
+        return saved;
+    }
+
+    @Override
+    public Optional<ReleaseSeries> findById(Long id) {
+        return repository.findById(id);
+    }
+
+    @Override
+    @Transactional
+    public void stop(ReleaseSeries series) {
+        repository.deactivate(series.getId());
+    }
+
+    @Override
+    public LocalDate getUntil() {
+        return LocalDate.now().plusMonths(monthsAhead);
+    }
+
+    @Override
+    @Transactional
+    public List<Long> extend(Long afterId, int batchSize) {
+        List<ReleaseSeries> due = repository.findDue(afterId, getUntil(), PageRequest.of(0, batchSize));
+        List<Long> ids = due.stream().map(ReleaseSeries::getId).collect(Collectors.toList());
+        expand(due, getUntil());
+        return ids;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findDueIds(Long afterId, int batchSize) {
+        return repository.findDueIds(afterId, getUntil(), PageRequest.of(0, batchSize));
+    }
+
+    @Override
+    @Transactional
+    public void extend(Long id) {
+        expand(repository.findDueById(id, getUntil()), getUntil());
+    }
+
+    private void expand(List<ReleaseSeries> seriesList, LocalDate until) {
+        List<Release> releases = new ArrayList<>();
+        for (ReleaseSeries series : seriesList) {
+            while (!series.isComplete() && (series.getInstallments() != null || !series.getNextReleaseDate().isAfter(until))) {
+                int installment = series.getGeneratedCount() + 1;
+                releases.add(toRelease(series, series.getNextReleaseDate(), installment));
+                series.setGeneratedCount(installment);
+                series.setNextReleaseDate(series.getFirstReleaseDate().plusMonths(installment));
+            }
+        }
+        if (releases.isEmpty())
+            return;
+
+        repository.saveAll(seriesList);
+        BulkResponseDTO response = bulkService.saveAll(releases);
+        Optional<BulkItemResultDTO> failure = response.getItems().stream().filter(item -> !item.isSuccess()).findFirst();
+        if (failure.isPresent())
+            throw new BusinessException(failure.get().getMessage());
+    }
+
+    private Release toRelease(ReleaseSeries series, LocalDate releaseDate, int installment) {
+        String description = series.getInstallments() == null || series.getDescription() == null ? series.getDescription()
+                : series.getDescription() + " (" + installment + "/" + series.getInstallments() + ")";
+        return Release.builder()
+                .description(description)
+                .mes(releaseDate == null ? null : releaseDate.getMonthValue())
+                .ano(releaseDate == null ? null : releaseDate.getYear())
+                .user(series.getUser())
+                .value(series.getValue())
+                .type(series.getType())
+                .releaseDate(releaseDate)
+                .build();
+    }
+}
@@ -1,23 +1,28 @@
 package com.dev.finances.service.impl;
 
+import com.dev.finances.api.dto.CursorPageResponseDTO;
 import com.dev.finances.api.dto.PaginatedResponseDTO;
 import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.event.ReleaseChangedEvent;
 import com.dev.finances.exception.BusinessException;
 import com.dev.finances.model.entity.Release;
-import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseActionEnum;
 import com.dev.finances.model.enums.ReleaseStatusEnum;
 import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.recent.RecentReleaseStore;
+import com.dev.finances.repository.ArchivedReleaseRepository;
 import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.repository.projection.ReleaseBucket;
+import com.dev.finances.repository.projection.ReleaseCounts;
+import com.dev.finances.search.ReleaseDescriptionIndex;
+import com.dev.finances.service.ReleaseArchiveService;
+import com.dev.finances.service.ReleaseDailyBalanceService;
 import com.dev.finances.service.ReleaseService;
-import com.dev.finances.service.UserService;
-import com.dev.finances.utils.DateUtils;
+import com.dev.finances.utils.ReleaseCursor;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
-import org.springframework.data.domain.ExampleMatcher.StringMatcher;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -26,20 +31,43 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 public class ReleaseServiceImpl implements ReleaseService {
 
+    private static final int ID_CHUNK_SIZE = 1000;
+    private static final Sort RELEASE_DATE_DESC = Sort.by("releaseDate", "id").descending();
+    private static final Comparator<ReleasesDTO> BY_RELEASE_DATE_DESC = Comparator.comparing(ReleasesDTO::getReleaseLocalDate)
+            .thenComparing(ReleasesDTO::getId).reversed();
+
     private final ReleaseRepository repository;
-    private final UserService userService;
+    private final ArchivedReleaseRepository archiveRepository;
+    private final ReleaseArchiveService archiveService;
+    private final ReleaseDailyBalanceService dailyBalanceService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReleaseDescriptionIndex descriptionIndex;
+    private final RecentReleaseStore recentStore;
 
-    public ReleaseServiceImpl(UserService userService, ReleaseRepository releaseRepository) {
-        this.userService = userService;
+    public ReleaseServiceImpl(ReleaseRepository releaseRepository, ArchivedReleaseRepository archiveRepository,
+                              ReleaseArchiveService archiveService, ReleaseDailyBalanceService dailyBalanceService,
+                              ApplicationEventPublisher eventPublisher, ReleaseDescriptionIndex descriptionIndex,
+                              RecentReleaseStore recentStore) {
         this.repository = releaseRepository;
+        this.archiveRepository = archiveRepository;
+        this.archiveService = archiveService;
+        this.dailyBalanceService = dailyBalanceService;
+        this.eventPublisher = eventPublisher;
+        this.descriptionIndex = descriptionIndex;
+        this.recentStore = recentStore;
     }
 
     @Override
@@ -48,68 +76,158 @@ public class ReleaseServiceImpl implements ReleaseService {
         validate(release);
         release.setStatus(ReleaseStatusEnum.PENDENTE);
         release.setCreateAt(LocalDate.now());
-        return repository.save(release);
+        Long userId = release.getUser().getId();
+        dailyBalanceService.lock(userId);
+        Release saved = repository.save(release);
+        dailyBalanceService.refresh(userId, release.getCreateAt());
+        eventPublisher.publishEvent(ReleaseChangedEvent.of(ReleaseActionEnum.CRIADO, release, userId));
+        return saved;
     }
 
     @Override
     @Transactional
     public Release update(Release release) {
+        return update(release, ReleaseActionEnum.ATUALIZADO);
+    }
+
+    private Release update(Release release, ReleaseActionEnum action) {
         Objects.requireNonNull(release.getId());
         validate(release);
-        return repository.save(release);
+        Long userId = release.getUser().getId();
+        Optional<ReleaseBucket> previous = repository.findBucketById(release.getId());
+        Long previousUserId = previous.map(ReleaseBucket::getUserId).orElse(userId);
+        LocalDate previousCreateAt = previous.map(ReleaseBucket::getCreateAt).orElse(null);
+        lockUsers(userId, previousUserId);
+
+        if (release.getCreateAt() == null)
+            release.setCreateAt(previousCreateAt);
+        if (release.getVersion() == null)
+            release.setVersion(repository.findVersionById(release.getId()).orElse(null));
+
+        Release updated = repository.save(release);
+        if (!previousUserId.equals(userId))
+            dailyBalanceService.refresh(previousUserId, previousCreateAt);
+        dailyBalanceService.refresh(userId, previousCreateAt, release.getCreateAt());
+        eventPublisher.publishEvent(ReleaseChangedEvent.of(action, release, previousUserId));
+        return updated;
     }
 
     @Override
     @Transactional
     public void delete(Release release) {
         Objects.requireNonNull(release.getId());
+        Optional<ReleaseBucket> previous = repository.findBucketById(release.getId());
+        previous.ifPresent(bucket -> dailyBalanceService.lock(bucket.getUserId()));
         repository.delete(release);
+        previous.ifPresent(bucket -> {
+            dailyBalanceService.refresh(bucket.getUserId(), bucket.getCreateAt());
+            eventPublisher.publishEvent(ReleaseChangedEvent.of(ReleaseActionEnum.REMOVIDO, release, bucket.getUserId()));
+        });
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Release> find(Release releaseFilter) {
-        Example example = Example.of(releaseFilter,
-                ExampleMatcher.matching()
-                        .withIgnoreCase()
-                        .withStringMatcher(StringMatcher.CONTAINING));
-        return repository.findAll(example);
+    public List<ReleasesDTO> find(Release releaseFilter) {
+        if (releaseFilter.getUser() == null || releaseFilter.getUser().getId() == null)
+            throw new BusinessException("Informe um Usuário.");
+
+        Long userId = releaseFilter.getUser().getId();
+        String description = releaseFilter.getDescription();
+        String pattern = description == null ? "%" : "%" + description.toLowerCase() + "%";
+        List<ReleasesDTO> releases = findHot(userId, description, pattern, releaseFilter);
+        if (!archiveService.mayContain(releaseFilter.getAno(), releaseFilter.getMes()))
+            return releases;
+
+        List<ReleasesDTO> archived = archiveRepository.search(userId, pattern, releaseFilter.getMes(), releaseFilter.getAno(),
+                releaseFilter.getType(), releaseFilter.getStatus());
+        if (archived.isEmpty())
+            return releases;
+        List<ReleasesDTO> merged = new ArrayList<>(releases.size() + archived.size());
+        merged.addAll(releases);
+        merged.addAll(archived);
+        merged.sort(Comparator.comparing(ReleasesDTO::getId));
+        return merged;
+    }
+
+    private List<ReleasesDTO> findHot(Long userId, String description, String pattern, Release releaseFilter) {
+        if (description != null && !description.trim().isEmpty()) {
+            Optional<List<Long>> candidates = descriptionIndex.search(userId, description);
+            if (candidates.isPresent())
+                return findByIds(userId, candidates.get(), releaseFilter);
+        }
+
+        return repository.search(userId, pattern, releaseFilter.getMes(), releaseFilter.getAno(),
+                releaseFilter.getType(), releaseFilter.getStatus());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<ReleasesDTO> lastReleases(Long userId) {
-        List<ReleasesDTO> releases = new LinkedList<>();
-        repository.lastReleases(userId, LocalDate.now().minusDays(30), LocalDate.now()).forEach(release -> {
-            releases.add(convert(release.get()));
-        });
-        return releases;
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(30);
+        Optional<List<ReleasesDTO>> recent = recentStore.find(userId, startDate, endDate);
+        if (recent.isPresent())
+            return recent.get();
+
+        return recentStore.load(userId, () ->
+                repository.lastReleases(userId, startDate, endDate, PageRequest.of(0, recentStore.getCapacity())));
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public BigDecimal getExtractByReleaseType(Long userId, ReleaseTypeEnum releaseType) {
-        BigDecimal extract = repository.getBalanceByReleaseTypeUserAndStatus(userId, releaseType, ReleaseStatusEnum.EFETIVADO, LocalDate.now().minusDays(30),
+        return dailyBalanceService.getBalance(userId, releaseType, ReleaseStatusEnum.EFETIVADO, LocalDate.now().minusDays(30),
                 LocalDate.now());
-        return (extract == null) ? BigDecimal.ZERO : extract;
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public PaginatedResponseDTO<ReleasesDTO> getReleasesPaginated(Long userId, Integer page, Integer size) {
-        Page<ReleasesDTO> pageReleases = Page.empty();
-        Optional<User> user = userService.getById(userId);
-        if (user.isPresent()) {
-            Pageable pageable = PageRequest.of(page, size, Sort.by("releaseDate", "id").descending());
-            pageReleases = repository.findAll(user.get().getId(), pageable);
+        List<ReleasesDTO> releases = repository.findAll(userId, PageRequest.of(page, size, RELEASE_DATE_DESC));
+        ReleaseCounts counts = repository.countByUserWithArchive(userId);
+        if (counts.getArchived() > 0 && reachesArchive(releases, size)) {
+            int limit = (page + 1) * size;
+            Pageable top = PageRequest.of(0, limit, RELEASE_DATE_DESC);
+            List<ReleasesDTO> merged = merge(repository.findAll(userId, top), archiveRepository.findAll(userId, top), limit);
+            int from = Math.min(page * size, merged.size());
+            releases = new ArrayList<>(merged.subList(from, Math.min(from + size, merged.size())));
         }
-        return new PaginatedResponseDTO<ReleasesDTO>(pageReleases.getContent(), pageReleases.getTotalElements());
+        return new PaginatedResponseDTO<ReleasesDTO>(releases, counts.getHot() + counts.getArchived());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<ReleasesDTO> getReleasesByCursor(Long userId, String cursor, Integer size, boolean withTotal) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        ReleaseCursor position = cursor == null || cursor.isEmpty() ? null : ReleaseCursor.decode(cursor);
+        List<ReleasesDTO> releases = position == null ? repository.findFirstByCursor(userId, limit)
+                : repository.findAfterCursor(userId, position.getReleaseDate(), position.getId(), limit);
+        if (reachesArchive(releases, size + 1)) {
+            List<ReleasesDTO> archived = position == null ? archiveRepository.findFirstByCursor(userId, limit)
+                    : archiveRepository.findAfterCursor(userId, position.getReleaseDate(), position.getId(), limit);
+            if (!archived.isEmpty())
+                releases = merge(releases, archived, size + 1);
+        }
+
+        String nextCursor = null;
+        if (releases.size() > size) {
+            releases = releases.subList(0, size);
+            ReleasesDTO last = releases.get(size - 1);
+            nextCursor = new ReleaseCursor(last.getReleaseLocalDate(), last.getId()).encode();
+        }
+
+        Long totalRecords = null;
+        if (withTotal) {
+            ReleaseCounts counts = repository.countByUserWithArchive(userId);
+            totalRecords = counts.getHot() + counts.getArchived();
+        }
+        return new CursorPageResponseDTO<>(releases, nextCursor, totalRecords);
+    }
+
+    @Override
+    @Transactional
     public void updateStatus(Release release, ReleaseStatusEnum status) {
         release.setStatus(status);
-        update(release);
+        update(release, ReleaseActionEnum.STATUS_ATUALIZADO);
     }
 
     @Override
@@ -140,34 +258,75 @@ public class ReleaseServiceImpl implements ReleaseService {
         return repository.findById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ReleasesDTO> findDtoById(Long id) {
+        Optional<ReleasesDTO> release = repository.findDtoById(id);
+        return release.isPresent() ? release : archiveRepository.findDtoById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReleasesDTO> findDtosByIds(Long userId, List<Long> ids) {
+        List<Long> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, ReleasesDTO> found = new HashMap<>(uniqueIds.size() * 2);
+        for (int offset = 0; offset < uniqueIds.size(); offset += ID_CHUNK_SIZE) {
+            List<Long> chunk = uniqueIds.subList(offset, Math.min(offset + ID_CHUNK_SIZE, uniqueIds.size()));
+            repository.findDtosByIds(userId, chunk).forEach(release -> found.put(release.getId(), release));
+            List<Long> missing = chunk.stream().filter(id -> !found.containsKey(id)).collect(Collectors.toList());
+            if (!missing.isEmpty())
+                archiveRepository.findDtosByIds(userId, missing).forEach(release -> found.put(release.getId(), release));
+        }
+        return uniqueIds.stream().map(found::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public BigDecimal getBalanceByUser(Long id) {
-        BigDecimal receitas = repository.getBalanceByReleaseTypeUserAndStatus(id, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO,
+        BigDecimal receitas = dailyBalanceService.getBalance(id, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO,
                 LocalDate.now().minusDays(30), LocalDate.now());
-        BigDecimal despesas = repository.getBalanceByReleaseTypeUserAndStatus(id, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.EFETIVADO,
+        BigDecimal despesas = dailyBalanceService.getBalance(id, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.EFETIVADO,
                 LocalDate.now().minusDays(30), LocalDate.now());
 
-        if (receitas == null)
-            receitas = BigDecimal.ZERO;
+        return receitas.subtract(despesas);
+    }
+
+    private List<ReleasesDTO> findByIds(Long userId, List<Long> ids, Release releaseFilter) {
+        List<ReleasesDTO> releases = new ArrayList<>(ids.size());
+        for (int offset = 0; offset < ids.size(); offset += ID_CHUNK_SIZE) {
+            repository.findDtosByIds(userId, ids.subList(offset, Math.min(offset + ID_CHUNK_SIZE, ids.size()))).stream()
+                    .filter(release -> matches(releaseFilter.getMes(), release.getMouth()))
+                    .filter(release -> matches(releaseFilter.getAno(), release.getYear()))
+                    .filter(release -> matches(releaseFilter.getType(), release.getType()))
+                    .filter(release -> matches(releaseFilter.getStatus(), release.getStatus()))
+                    .forEach(releases::add);
+        }
+        return releases;
+    }
+
+    private boolean reachesArchive(List<ReleasesDTO> releases, int limit) {
+        return releases.size() < limit
+                || releases.get(releases.size() - 1).getReleaseLocalDate().isBefore(archiveService.getHorizon());
+    }
 
-        if (despesas == null)
-            despesas = BigDecimal.ZERO;
+    private List<ReleasesDTO> merge(List<ReleasesDTO> releases, List<ReleasesDTO> archived, int limit) {
+        List<ReleasesDTO> merged = new ArrayList<>(releases.size() + archived.size());
+        merged.addAll(releases);
+        merged.addAll(archived);
+        merged.sort(BY_RELEASE_DATE_DESC);
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
 
-        return receitas.subtract(despesas);
+    private boolean matches(Object expected, Object actual) {
+        return expected == null || expected.equals(actual);
     }
 
-    private ReleasesDTO convert(Release release) {
-        return ReleasesDTO.builder()
-                .id(release.getId())
-                .description(release.getDescription())
-                .value(release.getValue())
-                .mouth(release.getMes())
-                .year(release.getAno())
-                .status(release.getStatus())
-                .type(release.getType())
-                .releaseDate(DateUtils.dateFormatDefault(release.getReleaseDate()))
-                .userId(release.getUser().getId())
-                .build();
+    private void lockUsers(Long userId, Long otherUserId) {
+        if (userId.equals(otherUserId)) {
+            dailyBalanceService.lock(userId);
+            return;
+        }
+        dailyBalanceService.lock(Math.min(userId, otherUserId));
+        dailyBalanceService.lock(Math.max(userId, otherUserId));
     }
 }
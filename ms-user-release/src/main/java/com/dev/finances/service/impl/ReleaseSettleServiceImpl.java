@@ -0,0 +1,87 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.model.entity.JobCheckpoint;
+import com.dev.finances.model.enums.ReleaseActionEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.repository.JobCheckpointRepository;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.repository.projection.ReleaseOwner;
+import com.dev.finances.service.ReleaseDailyBalanceService;
+import com.dev.finances.service.ReleaseSettleService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+public class ReleaseSettleServiceImpl implements ReleaseSettleService {
+
+    static final String CHECKPOINT = "release-settle";
+
+    private final ReleaseRepository repository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final ReleaseDailyBalanceService dailyBalanceService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ReleaseSettleServiceImpl(ReleaseRepository repository, JobCheckpointRepository checkpointRepository,
+                                    ReleaseDailyBalanceService dailyBalanceService, ApplicationEventPublisher eventPublisher) {
+        this.repository = repository;
+        this.checkpointRepository = checkpointRepository;
+        this.dailyBalanceService = dailyBalanceService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReleaseOwner> findDue(Long afterId, int batchSize) {
+        return repository.findAutoSettleCandidates(afterId, ReleaseStatusEnum.PENDENTE, LocalDate.now(),
+                PageRequest.of(0, batchSize));
+    }
+
+    @Override
+    @Transactional
+    public int settle(List<ReleaseOwner> releases) {
+        if (releases.isEmpty())
+            return 0;
+        releases.stream().map(ReleaseOwner::getUserId).distinct().sorted().forEach(dailyBalanceService::lock);
+
+        List<ReleasesDTO> due = repository.findAutoSettleDtosByIds(
+                releases.stream().map(ReleaseOwner::getId).collect(Collectors.toList()), ReleaseStatusEnum.PENDENTE, LocalDate.now());
+        if (due.isEmpty())
+            return 0;
+        repository.settleByIds(due.stream().map(ReleasesDTO::getId).collect(Collectors.toList()), ReleaseStatusEnum.EFETIVADO);
+
+        Map<Long, Set<LocalDate>> daysByUser = new TreeMap<>();
+        due.forEach(release -> daysByUser.computeIfAbsent(release.getUserId(), userId -> new HashSet<>()).add(release.getCreateAt()));
+        daysByUser.forEach(dailyBalanceService::refreshAll);
+
+        for (ReleasesDTO release : due) {
+            release.setStatus(ReleaseStatusEnum.EFETIVADO);
+            eventPublisher.publishEvent(ReleaseChangedEvent.of(ReleaseActionEnum.STATUS_ATUALIZADO, release));
+        }
+        return due.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long getCheckpoint() {
+        return checkpointRepository.findById(CHECKPOINT).map(JobCheckpoint::getLastId).orElse(0L);
+    }
+
+    @Override
+    @Transactional
+    public void saveCheckpoint(Long lastId) {
+        checkpointRepository.save(JobCheckpoint.builder().name(CHECKPOINT).lastId(lastId).updatedAt(LocalDateTime.now()).build());
+    }
+}
@@ -0,0 +1,128 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ImportStatusEnum;
+import com.dev.finances.model.enums.StatementFormatEnum;
+import com.dev.finances.repository.ArchivedReleaseRepository;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.service.ReleaseBulkService;
+import com.dev.finances.service.ReleaseDailyBalanceService;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.StatementImportService;
+import com.dev.finances.statement.CsvStatementParser;
+import com.dev.finances.statement.OfxStatementParser;
+import com.dev.finances.statement.StatementImportJob;
+import com.dev.finances.statement.StatementImportPipeline;
+import com.dev.finances.statement.StatementParser;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+@Log4j2
+@Service
+public class StatementImportServiceImpl implements StatementImportService {
+
+    private static final int MAX_FINISHED_JOBS = 100;
+
+    private final ReleaseRepository repository;
+    private final ArchivedReleaseRepository archivedRepository;
+    private final StatementImportPipeline pipeline;
+    private final ExecutorService jobs;
+    private final Map<String, StatementImportJob> jobsById = new ConcurrentHashMap<>();
+
+    public StatementImportServiceImpl(ReleaseRepository repository, ArchivedReleaseRepository archivedRepository,
+                                      ReleaseService releaseService, ReleaseBulkService bulkService,
+                                      ReleaseDailyBalanceService dailyBalanceService, PlatformTransactionManager transactionManager,
+                                      @Value("${statement.import.workers:2}") int workers,
+                                      @Value("${statement.import.queue-capacity:1000}") int queueCapacity,
+                                      @Value("${statement.import.batch-size:500}") int batchSize,
+                                      @Value("${statement.import.concurrent-jobs:2}") int concurrentJobs) {
+        this.repository = repository;
+        this.archivedRepository = archivedRepository;
+        this.pipeline = new StatementImportPipeline(releaseService, bulkService, dailyBalanceService, transactionManager,
+                workers, queueCapacity, batchSize);
+        this.jobs = Executors.newFixedThreadPool(concurrentJobs);
+    }
+
+    @Override
+    public StatementImportJob start(User user, StatementFormatEnum format, InputStream input) throws IOException {
+        Path file = Files.createTempFile("statement-", "." + format.name().toLowerCase());
+        Files.copy(input, file, StandardCopyOption.REPLACE_EXISTING);
+
+        StatementImportJob job = new StatementImportJob(user.getId());
+        evictFinishedJobs();
+        jobsById.put(job.getId(), job);
+        jobs.submit(() -> run(job, file, parser(format), user));
+        return job;
+    }
+
+    @Override
+    public Optional<StatementImportJob> findJob(String jobId) {
+        return Optional.ofNullable(jobsById.get(jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.shutdownNow();
+    }
+
+    private void run(StatementImportJob job, Path file, StatementParser parser, User user) {
+        job.start();
+        try {
+            pipeline.run(job, file, parser, user, dates -> existingOccurrences(user.getId(), dates));
+            job.finish(ImportStatusEnum.CONCLUIDO);
+            log.info("Statement import " + job.getId() + " finished: " + job.getImported() + " imported, "
+                    + job.getDuplicated() + " duplicated, " + job.getRejected() + " rejected, " + job.getRowsPerSecond() + " rows/s");
+        } catch (IOException | RuntimeException e) {
+            log.error("Error to import statement of job: " + job.getId(), e);
+            job.finish(ImportStatusEnum.FALHOU);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(ImportStatusEnum.FALHOU);
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.error("Error to delete statement file: " + file);
+            }
+        }
+    }
+
+    private Map<String, Integer> existingOccurrences(Long userId, Collection<LocalDate> dates) {
+        Map<String, Integer> occurrences = new HashMap<>();
+        Stream.concat(archivedRepository.findByReleaseDates(userId, dates).stream(),
+                repository.findByReleaseDates(userId, dates).stream()).forEach(release -> {
+            String key = StatementImportPipeline.contentKey(release.getDescription(), release.getValue(),
+                    release.getType(), release.getReleaseDate());
+            occurrences.merge(key, 1, Integer::sum);
+        });
+        return occurrences;
+    }
+
+    private StatementParser parser(StatementFormatEnum format) {
+        return format == StatementFormatEnum.OFX ? new OfxStatementParser() : new CsvStatementParser();
+    }
+
+    private void evictFinishedJobs() {
+        if (jobsById.size() < MAX_FINISHED_JOBS)
+            return;
+        jobsById.values().removeIf(StatementImportJob::isFinished);
+    }
+}
@@ -3,6 +3,10 @@ package com.dev.finances.service.impl;
 import java.util.Optional;
 
 import com.dev.finances.api.dto.UserAuthenticated;
+import com.dev.finances.config.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,6 +45,7 @@ public class UserServiceImpl implements UserService {
 	}
 
 	@Override
+	@Cacheable(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#email")
 	public User findByEmail(String email) {
 		Optional<User> user = repository.findByEmail(email);
 
@@ -58,6 +63,10 @@ public class UserServiceImpl implements UserService {
 
 	@Override
 	@Transactional
+	@Caching(evict = {
+			@CacheEvict(cacheNames = CacheConfig.USERS_BY_ID, key = "#result.id"),
+			@CacheEvict(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#user.email", condition = "#user.email != null")
+	})
 	public User save(User user) {
 		validateEmail(user.getEmail());
 		return repository.save(user);
@@ -72,6 +81,16 @@ public class UserServiceImpl implements UserService {
 	}
 
 	@Override
+	@Transactional
+	@CacheEvict(cacheNames = CacheConfig.USERS_BY_ID, key = "#id")
+	public void updateAutoSettle(Long id, boolean autoSettle) {
+		User user = repository.findById(id)
+				.orElseThrow(() -> new BusinessException("Usuário não encontrado para o Id informado."));
+		user.setAutoSettle(autoSettle);
+	}
+
+	@Override
+	@Cacheable(cacheNames = CacheConfig.USERS_BY_ID, key = "#id", unless = "#result == null")
 	public Optional<User> getById(Long id) {
 		return repository.findById(id);
 	}
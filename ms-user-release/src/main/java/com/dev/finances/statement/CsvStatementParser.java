@@ -0,0 +1,52 @@
+package com.dev.finances.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+public class CsvStatementParser implements StatementParser {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String SEPARATOR = ";";
+
+    @Override
+    public void parse(BufferedReader reader, Consumer<StatementLine> consumer) throws IOException {
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty() || (lineNumber == 1 && !Character.isDigit(line.charAt(0))))
+                continue;
+            consumer.accept(parseLine(lineNumber, line));
+        }
+    }
+
+    private StatementLine parseLine(int lineNumber, String line) {
+        String[] columns = line.split(SEPARATOR, -1);
+        if (columns.length < 3)
+            return StatementLine.invalid(lineNumber, "Linha deve conter data, descrição e valor.");
+
+        try {
+            LocalDate date = LocalDate.parse(columns[0].trim(), DATE_FORMAT);
+            BigDecimal amount = parseAmount(columns[columns.length - 1]);
+            String description = String.join(SEPARATOR, Arrays.copyOfRange(columns, 1, columns.length - 1)).trim();
+            return new StatementLine(lineNumber, date, description, amount, null);
+        } catch (DateTimeParseException e) {
+            return StatementLine.invalid(lineNumber, "Data inválida: " + columns[0].trim());
+        } catch (NumberFormatException e) {
+            return StatementLine.invalid(lineNumber, "Valor inválido: " + columns[columns.length - 1].trim());
+        }
+    }
+
+    static BigDecimal parseAmount(String value) {
+        String normalized = value.trim().replace(" ", "");
+        if (normalized.indexOf(',') >= 0)
+            normalized = normalized.replace(".", "").replace(',', '.');
+        return new BigDecimal(normalized);
+    }
+}
@@ -0,0 +1,65 @@
+package com.dev.finances.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class OfxStatementParser implements StatementParser {
+
+    private static final Pattern TAG = Pattern.compile("<(/?[A-Za-z0-9.]+)>([^<\\r\\n]*)");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String TRANSACTION = "STMTTRN";
+
+    @Override
+    public void parse(BufferedReader reader, Consumer<StatementLine> consumer) throws IOException {
+        String line;
+        int lineNumber = 0;
+        int transactionLine = 0;
+        Map<String, String> transaction = null;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            Matcher matcher = TAG.matcher(line);
+            while (matcher.find()) {
+                String tag = matcher.group(1).toUpperCase();
+                String value = matcher.group(2).trim();
+
+                if (tag.equals(TRANSACTION)) {
+                    transaction = new HashMap<>();
+                    transactionLine = lineNumber;
+                } else if (tag.equals("/" + TRANSACTION) && transaction != null) {
+                    consumer.accept(toLine(transactionLine, transaction));
+                    transaction = null;
+                } else if (transaction != null && !value.isEmpty()) {
+                    transaction.put(tag, value);
+                }
+            }
+        }
+    }
+
+    private StatementLine toLine(int lineNumber, Map<String, String> transaction) {
+        String posted = transaction.get("DTPOSTED");
+        String amount = transaction.get("TRNAMT");
+        String description = transaction.getOrDefault("MEMO", transaction.get("NAME"));
+
+        if (posted == null || amount == null)
+            return StatementLine.invalid(lineNumber, "Transação sem data ou valor.");
+
+        try {
+            LocalDate date = LocalDate.parse(posted.substring(0, Math.min(8, posted.length())), DATE_FORMAT);
+            return new StatementLine(lineNumber, date, description, CsvStatementParser.parseAmount(amount), null);
+        } catch (DateTimeParseException e) {
+            return StatementLine.invalid(lineNumber, "Data inválida: " + posted);
+        } catch (NumberFormatException e) {
+            return StatementLine.invalid(lineNumber, "Valor inválido: " + amount);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.dev.finances.statement;
+
+import com.dev.finances.model.enums.ImportStatusEnum;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+public class StatementImportJob {
+
+    private static final int MAX_ERRORS = 100;
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long userId;
+    private final AtomicLong parsed = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong duplicated = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<String> errors = new CopyOnWriteArrayList<>();
+    @Setter
+    private volatile ImportStatusEnum status = ImportStatusEnum.PENDENTE;
+    @Setter
+    private volatile LocalDateTime startedAt;
+    @Setter
+    private volatile LocalDateTime finishedAt;
+    private volatile long startNanos;
+    private volatile long finishNanos;
+
+    public StatementImportJob(Long userId) {
+        this.userId = userId;
+    }
+
+    public void start() {
+        startNanos = System.nanoTime();
+        startedAt = LocalDateTime.now();
+        status = ImportStatusEnum.PROCESSANDO;
+    }
+
+    public void finish(ImportStatusEnum finalStatus) {
+        finishNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+
+    public void reject(int lineNumber, String message) {
+        rejected.incrementAndGet();
+        if (errors.size() < MAX_ERRORS)
+            errors.add("Linha " + lineNumber + ": " + message);
+    }
+
+    public long getRowsPerSecond() {
+        if (startNanos == 0)
+            return 0;
+        long end = finishNanos == 0 ? System.nanoTime() : finishNanos;
+        return parsed.get() * 1_000_000_000L / Math.max(end - startNanos, 1);
+    }
+
+    public boolean isFinished() {
+        return status == ImportStatusEnum.CONCLUIDO || status == ImportStatusEnum.FALHOU;
+    }
+}
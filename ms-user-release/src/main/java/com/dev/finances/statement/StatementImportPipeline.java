@@ -0,0 +1,249 @@
+package com.dev.finances.statement;
+
+import com.dev.finances.api.dto.BulkItemResultDTO;
+import com.dev.finances.api.dto.BulkResponseDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.service.ReleaseBulkService;
+import com.dev.finances.service.ReleaseDailyBalanceService;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.utils.DateUtils;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+@Log4j2
+public class StatementImportPipeline {
+
+    private final ReleaseService releaseService;
+    private final ReleaseBulkService bulkService;
+    private final ReleaseDailyBalanceService dailyBalanceService;
+    private final TransactionTemplate transaction;
+    private final int workers;
+    private final int queueCapacity;
+    private final int batchSize;
+
+    public StatementImportPipeline(ReleaseService releaseService, ReleaseBulkService bulkService,
+                                   ReleaseDailyBalanceService dailyBalanceService, PlatformTransactionManager transactionManager,
+                                   int workers, int queueCapacity, int batchSize) {
+        this.releaseService = releaseService;
+        this.bulkService = bulkService;
+        this.dailyBalanceService = dailyBalanceService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+    }
+
+    public void run(StatementImportJob job, Path file, StatementParser parser, User user,
+                    Function<Collection<LocalDate>, Map<String, Integer>> existingOccurrences)
+            throws IOException, InterruptedException {
+        BlockingQueue<StatementItem> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<StatementItem> mapped = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<StatementItem> validated = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<StatementItem> unique = new ArrayBlockingQueue<>(queueCapacity);
+
+        ExecutorService stages = Executors.newFixedThreadPool(2 * workers + 2);
+        try {
+            startStage(job, stages, workers, parsed, mapped, workers, item -> map(job, item, user));
+            startStage(job, stages, workers, mapped, validated, 1, item -> validate(job, item));
+            startStage(job, stages, 1, validated, unique, 1, new OccurrenceCounter());
+            stages.submit(() -> write(job, user, unique, existingOccurrences));
+
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                parser.parse(reader, line -> {
+                    job.getParsed().incrementAndGet();
+                    put(parsed, new StatementItem(line));
+                });
+            } finally {
+                for (int i = 0; i < workers; i++)
+                    put(parsed, StatementItem.END);
+            }
+        } finally {
+            stages.shutdown();
+            stages.awaitTermination(1, TimeUnit.HOURS);
+        }
+    }
+
+    private void startStage(StatementImportJob job, ExecutorService executor, int stageWorkers, BlockingQueue<StatementItem> input,
+                            BlockingQueue<StatementItem> output, int downstreamWorkers, Predicate<StatementItem> step) {
+        AtomicInteger running = new AtomicInteger(stageWorkers);
+        for (int i = 0; i < stageWorkers; i++) {
+            executor.submit(() -> {
+                try {
+                    StatementItem item;
+                    while ((item = input.take()) != StatementItem.END) {
+                        if (accept(job, step, item))
+                            output.put(item);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    if (running.decrementAndGet() == 0) {
+                        for (int j = 0; j < downstreamWorkers; j++)
+                            put(output, StatementItem.END);
+                    }
+                }
+            });
+        }
+    }
+
+    private boolean accept(StatementImportJob job, Predicate<StatementItem> step, StatementItem item) {
+        try {
+            return step.test(item);
+        } catch (RuntimeException e) {
+            log.error("Error to process statement line " + item.getLine().getLineNumber() + " of job: " + job.getId(), e);
+            job.reject(item.getLine().getLineNumber(), "Não foi possível processar a linha.");
+            return false;
+        }
+    }
+
+    private boolean map(StatementImportJob job, StatementItem item, User user) {
+        StatementLine line = item.getLine();
+        if (!line.isValid()) {
+            job.reject(line.getLineNumber(), line.getError());
+            return false;
+        }
+
+        ReleasesDTO dto = ReleasesDTO.builder()
+                .description(line.getDescription())
+                .value(line.getAmount().abs())
+                .type(line.getAmount().signum() < 0 ? ReleaseTypeEnum.DESPESA : ReleaseTypeEnum.RECEITA)
+                .mouth(line.getDate().getMonthValue())
+                .year(line.getDate().getYear())
+                .releaseDate(DateUtils.dateFormatDefault(line.getDate()))
+                .userId(user.getId())
+                .build();
+
+        Release release = new Release();
+        release.setDescription(dto.getDescription());
+        release.setValue(dto.getValue());
+        release.setType(dto.getType());
+        release.setMes(dto.getMouth());
+        release.setAno(dto.getYear());
+        release.setReleaseDate(line.getDate());
+        release.setUser(user);
+        item.setRelease(release);
+        item.setContentKey(contentKey(dto.getDescription(), dto.getValue(), dto.getType(), dto.getReleaseDate()));
+        return true;
+    }
+
+    private boolean validate(StatementImportJob job, StatementItem item) {
+        try {
+            releaseService.validate(item.getRelease());
+            return true;
+        } catch (BusinessException e) {
+            job.reject(item.getLine().getLineNumber(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void write(StatementImportJob job, User user, BlockingQueue<StatementItem> input,
+                       Function<Collection<LocalDate>, Map<String, Integer>> existingOccurrences) {
+        List<StatementItem> batch = new ArrayList<>(batchSize);
+        try {
+            StatementItem item;
+            while ((item = input.take()) != StatementItem.END) {
+                batch.add(item);
+                if (batch.size() == batchSize)
+                    flush(job, user, batch, existingOccurrences);
+            }
+            flush(job, user, batch, existingOccurrences);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(StatementImportJob job, User user, List<StatementItem> batch,
+                       Function<Collection<LocalDate>, Map<String, Integer>> existingOccurrences) {
+        if (batch.isEmpty())
+            return;
+
+        List<StatementItem> fresh = new ArrayList<>(batch.size());
+        try {
+            BulkResponseDTO response = transaction.execute(status -> {
+                dailyBalanceService.lock(user.getId());
+                Set<LocalDate> dates = new HashSet<>();
+                batch.forEach(item -> dates.add(item.getRelease().getReleaseDate()));
+                Map<String, Integer> existing = existingOccurrences.apply(dates);
+
+                fresh.clear();
+                for (StatementItem item : batch) {
+                    if (item.getOccurrence() > existing.getOrDefault(item.getContentKey(), 0))
+                        fresh.add(item);
+                }
+                if (fresh.isEmpty())
+                    return null;
+
+                List<Release> releases = new ArrayList<>(fresh.size());
+                fresh.forEach(item -> releases.add(item.getRelease()));
+                return bulkService.saveAll(releases);
+            });
+
+            job.getDuplicated().addAndGet(batch.size() - fresh.size());
+            if (response != null) {
+                for (BulkItemResultDTO result : response.getItems()) {
+                    if (result.isSuccess())
+                        job.getImported().incrementAndGet();
+                    else
+                        job.reject(fresh.get(result.getIndex()).getLine().getLineNumber(), result.getMessage());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Error to write statement batch of job: " + job.getId(), e);
+            batch.forEach(item -> job.reject(item.getLine().getLineNumber(), "Não foi possível gravar o lançamento."));
+        }
+        batch.clear();
+    }
+
+    public static String contentKey(String description, BigDecimal value, ReleaseTypeEnum type, String releaseDate) {
+        String normalizedDescription = description == null ? "" : description.trim().toLowerCase();
+        return normalizedDescription + '|' + value.stripTrailingZeros().toPlainString() + '|' + type + '|' + releaseDate;
+    }
+
+    private static void put(BlockingQueue<StatementItem> queue, StatementItem item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Importação interrompida.", e);
+        }
+    }
+
+    private static class OccurrenceCounter implements Predicate<StatementItem> {
+
+        private final Map<String, Integer> occurrences = new HashMap<>();
+
+        @Override
+        public boolean test(StatementItem item) {
+            item.setOccurrence(occurrences.merge(item.getContentKey(), 1, Integer::sum));
+            return true;
+        }
+    }
+}
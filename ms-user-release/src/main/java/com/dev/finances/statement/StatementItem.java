@@ -0,0 +1,21 @@
+package com.dev.finances.statement;
+
+import com.dev.finances.model.entity.Release;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class StatementItem {
+
+    static final StatementItem END = new StatementItem(null);
+
+    private final StatementLine line;
+    private Release release;
+    private String contentKey;
+    private int occurrence;
+
+    public StatementItem(StatementLine line) {
+        this.line = line;
+    }
+}
@@ -0,0 +1,26 @@
+package com.dev.finances.statement;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@RequiredArgsConstructor
+public class StatementLine {
+
+    private final int lineNumber;
+    private final LocalDate date;
+    private final String description;
+    private final BigDecimal amount;
+    private final String error;
+
+    public static StatementLine invalid(int lineNumber, String error) {
+        return new StatementLine(lineNumber, null, null, null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
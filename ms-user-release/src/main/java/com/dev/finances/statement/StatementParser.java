@@ -0,0 +1,10 @@
+package com.dev.finances.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+public interface StatementParser {
+
+    void parse(BufferedReader reader, Consumer<StatementLine> consumer) throws IOException;
+}
@@ -2,32 +2,49 @@ package com.dev.finances.utils;
 
 import lombok.extern.log4j.Log4j2;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 
 @Log4j2
 public class DateUtils {
 
-    private static final String DATE_FORMAT_DEFAULT = "dd/MM/yyyy";
+    private static final String DATE_FORMAT_DEFAULT = "dd/MM/uuuu";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_FORMAT_DEFAULT)
+            .withResolverStyle(ResolverStyle.STRICT);
 
-    public static String dateFormatDefault (Date date) {
-        DateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT_DEFAULT);
-        return dateFormat.format(date);
+    public static String dateFormatDefault (LocalDate date) {
+        if (date == null)
+            return null;
+        int year = date.getYear();
+        if (year < 1000 || year > 9999)
+            return DATE_FORMATTER.format(date);
+
+        char[] chars = new char[10];
+        twoDigits(chars, 0, date.getDayOfMonth());
+        chars[2] = '/';
+        twoDigits(chars, 3, date.getMonthValue());
+        chars[5] = '/';
+        twoDigits(chars, 6, year / 100);
+        twoDigits(chars, 8, year % 100);
+        return new String(chars);
     }
 
-    public static Date dateFormatDefault (String date) {
-        SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT_DEFAULT);
-        Date dateFormatted = null;
+    public static LocalDate dateFormatDefault (String date) {
+        if (date == null)
+            return null;
         try {
-            dateFormatted = dateFormat.parse(date);
-        } catch (ParseException ex) {
+            return LocalDate.parse(date, DATE_FORMATTER);
+        } catch (DateTimeParseException ex) {
             log.error("Error to format date: " + date);
-        } catch (Exception ex) {
-            log.error("Unexpected error");
         }
-        return dateFormatted;
+        return null;
+    }
+
+    private static void twoDigits(char[] chars, int offset, int value) {
+        chars[offset] = (char) ('0' + value / 10);
+        chars[offset + 1] = (char) ('0' + value % 10);
     }
 
 }
@@ -0,0 +1,35 @@
+package com.dev.finances.utils;
+
+import com.dev.finances.exception.BusinessException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+@Getter
+@RequiredArgsConstructor
+public class ReleaseCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final LocalDate releaseDate;
+    private final Long id;
+
+    public String encode() {
+        String raw = releaseDate.toEpochDay() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReleaseCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            return new ReleaseCursor(LocalDate.ofEpochDay(Long.parseLong(parts[0])), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException ex) {
+            throw new BusinessException("Cursor de paginação inválido.");
+        }
+    }
+}
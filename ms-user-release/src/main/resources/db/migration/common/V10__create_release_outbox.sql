@@ -0,0 +1,13 @@
+create sequence financas.release_outbox_seq start with 1 increment by 1;
+
+create table financas.release_outbox (
+    id bigint not null,
+    user_id bigint not null,
+    release_id bigint not null,
+    action varchar(50) not null,
+    payload varchar(2000) not null,
+    created_at timestamp not null,
+    constraint pk_release_outbox primary key (id)
+);
+
+insert into financas.job_checkpoint (name, last_id, updated_at) values ('release-outbox', 0, current_timestamp);
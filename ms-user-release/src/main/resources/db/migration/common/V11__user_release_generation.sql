@@ -0,0 +1 @@
+alter table financas.user add column release_generation bigint default 0 not null;
@@ -0,0 +1,6 @@
+alter table financas.release_outbox add column attempts int default 0 not null;
+alter table financas.release_outbox add column parked_at timestamp;
+alter table financas.release_outbox add column last_error varchar(500);
+
+alter table financas.job_checkpoint add column lease_owner varchar(100);
+alter table financas.job_checkpoint add column lease_until timestamp;
@@ -0,0 +1,36 @@
+create table financas.roles (
+    id bigint generated by default as identity,
+    role_name varchar(255),
+    constraint pk_roles primary key (id)
+);
+
+create table financas.user (
+    id bigint generated by default as identity,
+    name varchar(255),
+    email varchar(255),
+    password varchar(255),
+    constraint pk_user primary key (id)
+);
+
+create table financas.user_role (
+    user_id bigint not null,
+    role_id bigint not null,
+    constraint pk_user_role primary key (user_id, role_id),
+    constraint fk_user_role_user foreign key (user_id) references financas.user (id),
+    constraint fk_user_role_role foreign key (role_id) references financas.roles (id)
+);
+
+create table financas.release (
+    id bigint generated by default as identity,
+    description varchar(255) not null,
+    mes integer,
+    ano integer,
+    user_id bigint,
+    value numeric(19, 2),
+    create_at timestamp,
+    release_date timestamp not null,
+    type varchar(255),
+    status varchar(255),
+    constraint pk_release primary key (id),
+    constraint fk_release_user foreign key (user_id) references financas.user (id)
+);
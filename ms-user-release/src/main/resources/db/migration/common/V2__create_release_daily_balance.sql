@@ -0,0 +1,18 @@
+create table financas.release_daily_balance (
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    balance_date timestamp not null,
+    type varchar(255) not null,
+    status varchar(255) not null,
+    total numeric(19, 2) not null,
+    quantity bigint not null,
+    constraint pk_release_daily_balance primary key (id),
+    constraint uk_release_daily_balance_bucket unique (user_id, type, status, balance_date)
+);
+
+-- the 30-day balance and extract read only this rollup, so it is filled from the existing releases right away
+insert into financas.release_daily_balance (user_id, balance_date, type, status, total, quantity)
+select user_id, create_at, type, status, coalesce(sum(value), 0), count(id)
+from financas.release
+where user_id is not null and create_at is not null and type is not null and status is not null
+group by user_id, create_at, type, status;
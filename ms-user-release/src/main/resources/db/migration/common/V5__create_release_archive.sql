@@ -0,0 +1,16 @@
+create table financas.release_archive (
+    id bigint not null,
+    description varchar(255) not null,
+    mes integer,
+    ano integer,
+    user_id bigint,
+    value numeric(19, 2),
+    create_at timestamp,
+    release_date timestamp not null,
+    type varchar(255),
+    status varchar(255),
+    constraint pk_release_archive primary key (id)
+);
+
+create index ix_release_archive_user_release_date_id
+    on financas.release_archive (user_id, release_date desc, id desc);
@@ -0,0 +1,18 @@
+create table financas.release_series (
+    id bigint generated by default as identity,
+    description varchar(255) not null,
+    user_id bigint not null,
+    value numeric(19, 2) not null,
+    type varchar(255) not null,
+    first_release_date timestamp not null,
+    installments integer,
+    generated_count integer not null,
+    next_release_date timestamp not null,
+    active boolean not null,
+    create_at timestamp not null,
+    constraint pk_release_series primary key (id),
+    constraint fk_release_series_user foreign key (user_id) references financas.user (id)
+);
+
+create index ix_release_series_next_release_date
+    on financas.release_series (next_release_date);
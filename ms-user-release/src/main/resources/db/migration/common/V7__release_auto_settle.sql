@@ -0,0 +1,8 @@
+alter table financas.user add column auto_settle boolean default false not null;
+
+create table financas.job_checkpoint (
+    name varchar(100) not null,
+    last_id bigint not null,
+    updated_at timestamp not null,
+    constraint pk_job_checkpoint primary key (name)
+);
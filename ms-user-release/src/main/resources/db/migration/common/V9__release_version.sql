@@ -0,0 +1 @@
+alter table financas.release add column version bigint default 0 not null;
@@ -0,0 +1 @@
+create sequence if not exists financas.release_seq start with 1 increment by 50;
@@ -0,0 +1,8 @@
+create index if not exists ix_release_user_create_at
+    on financas.release (user_id, create_at, type, status, value);
+
+create index if not exists ix_release_user_release_date_id
+    on financas.release (user_id, release_date desc, id desc);
+
+create index if not exists ix_user_email
+    on financas.user (email);
@@ -0,0 +1,2 @@
+create index if not exists ix_release_pending_id
+    on financas.release (status, id);
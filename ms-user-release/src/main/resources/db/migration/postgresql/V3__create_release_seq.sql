@@ -0,0 +1,5 @@
+-- release ids were generated by identity before the sequence; the pooled optimizer hands out (value - 49 .. value],
+-- so the first value must be at least max(id) + 50 to never reuse an existing id
+create sequence if not exists financas.release_seq start with 1 increment by 50;
+
+select setval('financas.release_seq', (select coalesce(max(id), 0) + 50 from financas.release), false);
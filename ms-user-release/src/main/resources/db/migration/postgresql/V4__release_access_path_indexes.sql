@@ -0,0 +1,10 @@
+-- lastReleases and the daily balance rebuild: range on create_at per user, aggregated by type/status
+create index concurrently if not exists ix_release_user_create_at
+    on financas.release (user_id, create_at) include (type, status, value);
+
+-- findAll, findFirstByCursor and findAfterCursor: ordered by release_date desc, id desc per user
+create index concurrently if not exists ix_release_user_release_date_id
+    on financas.release (user_id, release_date desc, id desc);
+
+create index concurrently if not exists ix_user_email
+    on financas.user (email);
@@ -0,0 +1,3 @@
+-- auto-settle job: keyset over the pending releases only
+create index concurrently if not exists ix_release_pending_id
+    on financas.release (id) include (release_date, user_id) where status = 'PENDENTE';
@@ -0,0 +1,164 @@
+package com.dev.finances.analytics;
+
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.enums.AnalyticsGroupEnum;
+import com.dev.finances.model.enums.ReleaseActionEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.repository.ArchivedReleaseRepository;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.repository.projection.ReleaseFact;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.dev.finances.model.repository.ReleaseRepositoryTest.createRelease;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Release analytics store tests")
+public class ReleaseAnalyticsStoreTest {
+
+	static final LocalDate JANUARY = LocalDate.of(2022, 1, 10);
+	static final LocalDate FEBRUARY = LocalDate.of(2022, 2, 10);
+
+	@Test
+	@DisplayName("MUST NOT answer queries before the columns are built")
+	public void mustNotAnswerBeforeBuilt() {
+		ReleaseAnalyticsStore store = store(false, Stream.empty(), Stream.empty());
+
+		assertThat(store.query(ReleaseAnalyticsQuery.builder().build())).isEmpty();
+	}
+
+	@Test
+	@DisplayName("MUST GROUP hot and archived releases by month, type, status and user in both layouts")
+	public void mustGroupReleases() {
+		for (boolean offHeap : new boolean[]{false, true}) {
+			ReleaseAnalyticsStore store = store(offHeap,
+					Stream.of(fact(1L, 1L, "10.50", JANUARY, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.EFETIVADO),
+							fact(2L, 1L, "5.25", FEBRUARY, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.PENDENTE),
+							fact(3L, 2L, "100", FEBRUARY, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO)),
+					Stream.of(fact(4L, 1L, "1.005", JANUARY.minusYears(1), ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO)));
+			store.rebuild();
+
+			assertThat(query(store, ReleaseAnalyticsQuery.builder().groupBy(AnalyticsGroupEnum.MONTH)))
+					.containsExactly("01/2021=1.00(1)", "01/2022=10.50(1)", "02/2022=105.25(2)");
+			assertThat(query(store, ReleaseAnalyticsQuery.builder().groupBy(AnalyticsGroupEnum.TYPE)))
+					.containsExactly("RECEITA=101.00(2)", "DESPESA=15.75(2)");
+			assertThat(query(store, ReleaseAnalyticsQuery.builder().groupBy(AnalyticsGroupEnum.STATUS).userIds(Arrays.asList(1L))))
+					.containsExactly("PENDENTE=5.25(1)", "EFETIVADO=11.50(2)");
+			assertThat(query(store, ReleaseAnalyticsQuery.builder().groupBy(AnalyticsGroupEnum.USER)
+					.type(ReleaseTypeEnum.RECEITA).from(JANUARY)))
+					.containsExactly("2=100.00(1)");
+			assertThat(query(store, ReleaseAnalyticsQuery.builder().from(JANUARY).to(JANUARY)))
+					.containsExactly("TOTAL=10.50(1)");
+		}
+	}
+
+	@Test
+	@DisplayName("MUST KEEP the columns in sync with release changes in parallel scans")
+	public void mustKeepColumnsInSync() {
+		ReleaseAnalyticsStore store = store(false, Stream.empty(), Stream.empty());
+		store.rebuild();
+		int releases = ColumnScan.LEAF_SLOTS * 3;
+		for (long id = 1; id <= releases; id++)
+			store.onReleaseChanged(event(ReleaseActionEnum.CRIADO, id, id % 7, "1.00", ReleaseStatusEnum.PENDENTE));
+		for (long id = 1; id <= releases; id += 2)
+			store.onReleaseChanged(event(ReleaseActionEnum.REMOVIDO, id, id % 7, "1.00", ReleaseStatusEnum.PENDENTE));
+		store.onReleaseChanged(event(ReleaseActionEnum.STATUS_ATUALIZADO, 2L, 2L, "2.50", ReleaseStatusEnum.EFETIVADO));
+		store.onReleaseChanged(event(ReleaseActionEnum.CRIADO, releases + 1L, 3L, "4.00", ReleaseStatusEnum.PENDENTE));
+
+		assertThat(query(store, ReleaseAnalyticsQuery.builder().groupBy(AnalyticsGroupEnum.STATUS)))
+				.containsExactly("PENDENTE=" + (releases / 2 - 1 + 4) + ".00(" + releases / 2 + ")", "EFETIVADO=2.50(1)");
+	}
+
+	@Test
+	@DisplayName("MUST MAP epoch days to months like LocalDate")
+	public void mustMapEpochDaysToMonths() {
+		for (LocalDate date = LocalDate.of(1899, 12, 1); date.isBefore(LocalDate.of(2101, 3, 1)); date = date.plusDays(1))
+			assertThat(ColumnScan.epochMonth((int) date.toEpochDay())).isEqualTo(date.getYear() * 12 + date.getMonthValue() - 1);
+	}
+
+	@Test
+	@DisplayName("MUST KEEP the primitive index consistent with removals")
+	public void mustKeepPrimitiveIndexConsistent() {
+		LongIntHashMap index = new LongIntHashMap(4);
+		Map<Long, Integer> expected = new HashMap<>();
+		Random random = new Random(42);
+		for (int i = 0; i < 100_000; i++) {
+			long key = random.nextInt(5_000);
+			if (random.nextInt(3) == 0) {
+				assertThat(index.remove(key)).isEqualTo(expected.containsKey(key) ? expected.remove(key) : LongIntHashMap.MISSING);
+			} else {
+				index.put(key, i);
+				expected.put(key, i);
+			}
+		}
+		assertThat(index.size()).isEqualTo(expected.size());
+		for (long key = 0; key < 5_000; key++)
+			assertThat(index.get(key)).isEqualTo(expected.getOrDefault(key, LongIntHashMap.MISSING));
+	}
+
+	private ReleaseAnalyticsStore store(boolean offHeap, Stream<ReleaseFact> hot, Stream<ReleaseFact> archived) {
+		ReleaseRepository repository = Mockito.mock(ReleaseRepository.class);
+		ArchivedReleaseRepository archiveRepository = Mockito.mock(ArchivedReleaseRepository.class);
+		Mockito.when(repository.streamFacts()).thenReturn(hot);
+		Mockito.when(archiveRepository.streamFacts()).thenReturn(archived);
+		return new ReleaseAnalyticsStore(repository, archiveRepository, Mockito.mock(PlatformTransactionManager.class),
+				true, offHeap, 16, 4);
+	}
+
+	private List<String> query(ReleaseAnalyticsStore store, ReleaseAnalyticsQuery.ReleaseAnalyticsQueryBuilder query) {
+		return store.query(query.build()).get().stream()
+				.map(row -> row.getGroup() + "=" + row.getTotal() + "(" + row.getCount() + ")")
+				.collect(Collectors.toList());
+	}
+
+	private ReleaseChangedEvent event(ReleaseActionEnum action, Long id, Long userId, String value, ReleaseStatusEnum status) {
+		Release release = createRelease();
+		release.setId(id);
+		release.getUser().setId(userId);
+		release.setValue(new BigDecimal(value));
+		release.setStatus(status);
+		return ReleaseChangedEvent.of(action, release, userId);
+	}
+
+	private ReleaseFact fact(Long id, Long userId, String value, LocalDate releaseDate, ReleaseTypeEnum type, ReleaseStatusEnum status) {
+		return new ReleaseFact() {
+			public Long getId() {
+				return id;
+			}
+
+			public Long getUserId() {
+				return userId;
+			}
+
+			public BigDecimal getValue() {
+				return new BigDecimal(value);
+			}
+
+			public LocalDate getReleaseDate() {
+				return releaseDate;
+			}
+
+			public ReleaseTypeEnum getType() {
+				return type;
+			}
+
+			public ReleaseStatusEnum getStatus() {
+				return status;
+			}
+		};
+	}
+}
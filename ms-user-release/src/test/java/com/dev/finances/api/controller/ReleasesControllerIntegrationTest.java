@@ -0,0 +1,131 @@
+package com.dev.finances.api.controller;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.repository.UserRepository;
+import com.dev.finances.service.ReleaseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import javax.sql.DataSource;
+
+import static com.dev.finances.model.repository.ReleaseRepositoryTest.createRelease;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Releases controller integration tests")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+public class ReleasesControllerIntegrationTest {
+
+	static final String API = "/api/releases";
+
+	@Autowired
+	MockMvc mvc;
+
+	@Autowired
+	ReleaseService releaseService;
+
+	@Autowired
+	ReleaseRepository releaseRepository;
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	DataSource dataSource;
+
+	User user;
+	Release release;
+	String staleTag;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		user = userRepository.save(User.builder().name("ifmatch").email("ifmatch@email.com").build());
+		Release created = createRelease();
+		created.setUser(user);
+		release = releaseService.save(created);
+
+		staleTag = mvc.perform(MockMvcRequestBuilders.get(API + "/" + release.getId()))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		Release changed = releaseService.findById(release.getId()).get();
+		changed.setDescription("Alterado por outra requisição");
+		releaseService.update(changed);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.update("delete from financas.release_outbox where user_id = ?", user.getId());
+		jdbcTemplate.update("delete from financas.release_daily_balance where user_id = ?", user.getId());
+		jdbcTemplate.update("delete from financas.release where user_id = ?", user.getId());
+		jdbcTemplate.update("delete from financas.user where id = ?", user.getId());
+	}
+
+	@Test
+	@DisplayName("MUST ANSWER 412 and keep the release when updating with a stale If-Match")
+	public void mustRejectStaleUpdate() throws Exception {
+		ReleasesDTO dto = releaseService.findDtoById(release.getId()).get();
+		dto.setDescription("Alteração perdida");
+
+		mvc.perform(MockMvcRequestBuilders.put(API).header(HttpHeaders.IF_MATCH, staleTag)
+						.contentType(MediaType.APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(dto)))
+				.andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+		assertThat(releaseRepository.findById(release.getId()).get().getDescription())
+				.isEqualTo("Alterado por outra requisição");
+	}
+
+	@Test
+	@DisplayName("MUST ANSWER 412 and keep the status when changing it with a stale If-Match")
+	public void mustRejectStaleStatusUpdate() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.put(API + "/" + release.getId() + "/update-status")
+						.param("status", ReleaseStatusEnum.EFETIVADO.name())
+						.header(HttpHeaders.IF_MATCH, staleTag))
+				.andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+		assertThat(releaseRepository.findById(release.getId()).get().getStatus()).isEqualTo(ReleaseStatusEnum.PENDENTE);
+	}
+
+	@Test
+	@DisplayName("MUST ANSWER 412 and keep the release when deleting with a stale If-Match")
+	public void mustRejectStaleDelete() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.delete(API + "/" + release.getId()).header(HttpHeaders.IF_MATCH, staleTag))
+				.andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+		assertThat(releaseRepository.findById(release.getId())).isPresent();
+	}
+
+	@Test
+	@DisplayName("MUST DELETE the release when the If-Match tag is current")
+	public void mustDeleteWithCurrentIfMatch() throws Exception {
+		String currentTag = mvc.perform(MockMvcRequestBuilders.get(API + "/" + release.getId()))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mvc.perform(MockMvcRequestBuilders.delete(API + "/" + release.getId()).header(HttpHeaders.IF_MATCH, currentTag))
+				.andExpect(MockMvcResultMatchers.status().isNoContent());
+
+		assertThat(releaseRepository.findById(release.getId())).isNotPresent();
+	}
+}
@@ -0,0 +1,117 @@
+package com.dev.finances.api.controller;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.config.ReplicaRoutingDataSource;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.repository.UserRepository;
+import com.dev.finances.service.ReleaseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import javax.sql.DataSource;
+
+import static com.dev.finances.model.repository.ReleaseRepositoryTest.createRelease;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Releases controller routing tests")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"datasource.replicas[0].url=jdbc:h2:mem:user-release-db",
+		"datasource.replica-lag-query=select 0", "release.search.index.enabled=false"})
+public class ReleasesControllerRoutingTest {
+
+	static final String API = "/api/releases";
+	static final String REPLICA = "replica-1";
+
+	@Autowired
+	MockMvc mvc;
+
+	@Autowired
+	ReleaseService releaseService;
+
+	@Autowired
+	ReleaseRepository releaseRepository;
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	MeterRegistry registry;
+
+	@Autowired
+	DataSource dataSource;
+
+	User user;
+	Release release;
+
+	@BeforeEach
+	public void setUp() {
+		user = userRepository.save(User.builder().name("routing").email("routing@email.com").build());
+		Release created = createRelease();
+		created.setUser(user);
+		release = releaseService.save(created);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.update("delete from financas.release_outbox where user_id = ?", user.getId());
+		jdbcTemplate.update("delete from financas.release_daily_balance where user_id = ?", user.getId());
+		jdbcTemplate.update("delete from financas.release where user_id = ?", user.getId());
+		jdbcTemplate.update("delete from financas.user where id = ?", user.getId());
+	}
+
+	@Test
+	@DisplayName("MUST READ a release from the replica")
+	public void mustReadFromReplica() throws Exception {
+		long primary = usages(ReplicaRoutingDataSource.PRIMARY);
+		long replica = usages(REPLICA);
+
+		mvc.perform(MockMvcRequestBuilders.get(API + "/" + release.getId()))
+				.andExpect(MockMvcResultMatchers.status().isOk());
+
+		assertThat(usages(REPLICA)).isGreaterThan(replica);
+		assertThat(usages(ReplicaRoutingDataSource.PRIMARY)).isEqualTo(primary);
+	}
+
+	@Test
+	@DisplayName("MUST WRITE on the primary after a read-only lookup in the same request")
+	public void mustWriteOnPrimaryAfterReadOnlyLookup() throws Exception {
+		ReleasesDTO dto = releaseService.findDtoById(release.getId()).get();
+		dto.setDescription("Alterado no primário");
+		long primary = usages(ReplicaRoutingDataSource.PRIMARY);
+
+		mvc.perform(MockMvcRequestBuilders.put(API)
+						.contentType(MediaType.APPLICATION_JSON).content(new ObjectMapper().writeValueAsString(dto)))
+				.andExpect(MockMvcResultMatchers.status().isOk());
+
+		assertThat(usages(ReplicaRoutingDataSource.PRIMARY)).isGreaterThan(primary);
+		assertThat(releaseRepository.findById(release.getId()).get().getDescription()).isEqualTo("Alterado no primário");
+	}
+
+	private long usages(String pool) {
+		Timer timer = registry.find("hikaricp.connections.usage").tag("pool", pool).timer();
+		return timer == null ? 0 : timer.count();
+	}
+}
@@ -0,0 +1,208 @@
+package com.dev.finances.api.controller;
+
+import com.dev.finances.analytics.ReleaseAnalyticsStore;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.etag.ReleaseGenerations;
+import com.dev.finances.feed.ReleaseChangeFeed;
+import com.dev.finances.groupcommit.ReleaseGroupCommitter;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.repository.UserRepository;
+import com.dev.finances.service.ReleaseBulkService;
+import com.dev.finances.service.ReleaseExportService;
+import com.dev.finances.service.ReleaseSeriesService;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Releases controller conditional request tests")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@WebMvcTest(controllers = ReleasesController.class)
+@AutoConfigureMockMvc
+@Import(ReleaseGenerations.class)
+public class ReleasesControllerTest {
+
+	static final String API = "/api/releases";
+	static final Long USER_ID = 1L;
+	static final Long RELEASE_ID = 10L;
+
+	@Autowired
+	MockMvc mvc;
+
+	@MockBean
+	ReleaseService service;
+
+	@MockBean
+	UserService userService;
+
+	@MockBean
+	ReleaseExportService exportService;
+
+	@MockBean
+	ReleaseBulkService bulkService;
+
+	@MockBean
+	ReleaseChangeFeed changeFeed;
+
+	@MockBean
+	ReleaseSeriesService seriesService;
+
+	@MockBean
+	ReleaseAnalyticsStore analyticsStore;
+
+	@MockBean
+	ReleaseGroupCommitter groupCommitter;
+
+	@MockBean
+	UserRepository userRepository;
+
+	@MockBean
+	PlatformTransactionManager transactionManager;
+
+	@Test
+	@DisplayName("MUST ANSWER 304 without a body for an unchanged release")
+	public void mustAnswerNotModifiedForUnchangedRelease() throws Exception {
+		Mockito.when(service.findDtoById(RELEASE_ID)).thenReturn(Optional.of(releaseDto(3L)));
+
+		String etag = mvc.perform(MockMvcRequestBuilders.get(API + "/" + RELEASE_ID))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("id").value(RELEASE_ID))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mvc.perform(MockMvcRequestBuilders.get(API + "/" + RELEASE_ID).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(MockMvcResultMatchers.status().isNotModified())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, etag))
+				.andExpect(MockMvcResultMatchers.content().string(""));
+
+		assertThat(etag).isNotNull();
+		Mockito.verify(service, Mockito.times(2)).findDtoById(RELEASE_ID);
+	}
+
+	@Test
+	@DisplayName("MUST ANSWER the full body once a release of the user changes")
+	public void mustAnswerFullBodyAfterChange() throws Exception {
+		Mockito.when(service.findDtoById(RELEASE_ID)).thenReturn(Optional.of(releaseDto(3L)));
+		Mockito.when(service.lastReleases(USER_ID)).thenReturn(Collections.singletonList(releaseDto(3L)));
+		Mockito.when(userRepository.findReleaseGeneration(USER_ID)).thenReturn(Optional.of(7L));
+
+		String releaseTag = mvc.perform(MockMvcRequestBuilders.get(API + "/" + RELEASE_ID))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		String lastTag = mvc.perform(MockMvcRequestBuilders.get(API + "/last-releases/" + USER_ID))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		mvc.perform(MockMvcRequestBuilders.get(API + "/last-releases/" + USER_ID).header(HttpHeaders.IF_NONE_MATCH, lastTag))
+				.andExpect(MockMvcResultMatchers.status().isNotModified());
+
+		Mockito.when(service.findDtoById(RELEASE_ID)).thenReturn(Optional.of(releaseDto(4L)));
+		Mockito.when(userRepository.findReleaseGeneration(USER_ID)).thenReturn(Optional.of(8L));
+
+		mvc.perform(MockMvcRequestBuilders.get(API + "/" + RELEASE_ID).header(HttpHeaders.IF_NONE_MATCH, releaseTag))
+				.andExpect(MockMvcResultMatchers.status().isOk());
+		mvc.perform(MockMvcRequestBuilders.get(API + "/last-releases/" + USER_ID).header(HttpHeaders.IF_NONE_MATCH, lastTag))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.not(lastTag)));
+	}
+
+	@Test
+	@DisplayName("MUST READ the generation and the listing in a single read-only transaction")
+	public void mustReadTaggedListingInReadOnlyTransaction() throws Exception {
+		Mockito.when(service.lastReleases(USER_ID)).thenReturn(Collections.singletonList(releaseDto(3L)));
+		Mockito.when(userRepository.findReleaseGeneration(USER_ID)).thenReturn(Optional.of(7L));
+
+		mvc.perform(MockMvcRequestBuilders.get(API + "/last-releases/" + USER_ID))
+				.andExpect(MockMvcResultMatchers.status().isOk());
+
+		ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+		Mockito.verify(transactionManager, Mockito.atLeastOnce()).getTransaction(definitions.capture());
+		assertThat(definitions.getAllValues()).allMatch(TransactionDefinition::isReadOnly);
+	}
+
+	@Test
+	@DisplayName("MUST UPDATE with the version of the If-Match tag and reject stale ones with 412")
+	public void mustUpdateWithIfMatchVersion() throws Exception {
+		Mockito.when(service.findDtoById(RELEASE_ID)).thenReturn(Optional.of(releaseDto(3L)));
+		Mockito.when(service.findById(RELEASE_ID)).thenReturn(Optional.of(Release.builder().id(RELEASE_ID).version(3L).build()));
+		Mockito.when(userService.getById(USER_ID)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+		String etag = mvc.perform(MockMvcRequestBuilders.get(API + "/" + RELEASE_ID))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		String json = new ObjectMapper().writeValueAsString(releaseDto(3L));
+
+		mvc.perform(MockMvcRequestBuilders.put(API).header(HttpHeaders.IF_MATCH, etag)
+						.contentType(MediaType.APPLICATION_JSON).content(json))
+				.andExpect(MockMvcResultMatchers.status().isOk());
+
+		ArgumentCaptor<Release> updated = ArgumentCaptor.forClass(Release.class);
+		Mockito.verify(service).update(updated.capture());
+		assertThat(updated.getValue().getVersion()).isEqualTo(3L);
+
+		Mockito.when(service.update(Mockito.any(Release.class)))
+				.thenThrow(new ObjectOptimisticLockingFailureException(Release.class, RELEASE_ID));
+		mvc.perform(MockMvcRequestBuilders.put(API).header(HttpHeaders.IF_MATCH, etag)
+						.contentType(MediaType.APPLICATION_JSON).content(json))
+				.andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+		mvc.perform(MockMvcRequestBuilders.put(API).header(HttpHeaders.IF_MATCH, "\"outra-versao\"")
+						.contentType(MediaType.APPLICATION_JSON).content(json))
+				.andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+		Mockito.verify(service, Mockito.times(2)).update(Mockito.any(Release.class));
+	}
+
+	@Test
+	@DisplayName("MUST ANSWER 412 when a release is deleted after a concurrent change")
+	public void mustRejectStaleDelete() throws Exception {
+		Mockito.when(service.findById(RELEASE_ID)).thenReturn(Optional.of(Release.builder().id(RELEASE_ID).version(3L).build()));
+		Mockito.doThrow(new ObjectOptimisticLockingFailureException(Release.class, RELEASE_ID))
+				.when(service).delete(Mockito.any(Release.class));
+
+		mvc.perform(MockMvcRequestBuilders.delete(API + "/" + RELEASE_ID))
+				.andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+		mvc.perform(MockMvcRequestBuilders.delete(API + "/" + RELEASE_ID).header(HttpHeaders.IF_MATCH, "\"r11.1.3\""))
+				.andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+		Mockito.verify(service, Mockito.times(1)).delete(Mockito.any(Release.class));
+	}
+
+	private ReleasesDTO releaseDto(Long version) {
+		return ReleasesDTO.builder()
+				.id(RELEASE_ID)
+				.description("Mercado")
+				.mouth(1)
+				.year(2022)
+				.value(BigDecimal.TEN)
+				.userId(USER_ID)
+				.type(ReleaseTypeEnum.DESPESA)
+				.status(ReleaseStatusEnum.PENDENTE)
+				.releaseDate("01/01/2022")
+				.releaseLocalDate(LocalDate.of(2022, 1, 1))
+				.version(version)
+				.build();
+	}
+}
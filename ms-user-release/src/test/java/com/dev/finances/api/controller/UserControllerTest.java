@@ -1,6 +1,7 @@
 package com.dev.finances.api.controller;
 
 import com.dev.finances.api.dto.UserAuthenticated;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
@@ -19,11 +20,19 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import com.dev.finances.api.dto.UserDTO;
 import com.dev.finances.exception.AuthenticationException;
 import com.dev.finances.exception.BusinessException;
+import com.dev.finances.exception.DashboardTimeoutException;
 import com.dev.finances.model.entity.User;
+import com.dev.finances.service.DashboardService;
 import com.dev.finances.service.ReleaseService;
 import com.dev.finances.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 @ExtendWith(SpringExtension.class)
 @ActiveProfiles("test")
 @WebMvcTest(controllers = UserController.class)
@@ -43,6 +52,9 @@ public class UserControllerTest {
 	@MockBean
 	ReleaseService releaseService;
 	
+	@MockBean
+	DashboardService dashboardService;
+	
 	@Test
 	public void deveAutenticarUmUsuario() throws Exception {
 		//cenario
@@ -134,4 +146,18 @@ public class UserControllerTest {
 		mvc.perform(request)
 		   .andExpect( MockMvcResultMatchers.status().isBadRequest() );
 	}
+
+	@Test
+	@DisplayName("MUST ANSWER 504 with a message when the dashboard times out")
+	public void mustAnswerGatewayTimeoutWhenDashboardTimesOut() throws Exception {
+		Mockito.when(service.getById(1L)).thenReturn(Optional.of(User.builder().id(1L).build()));
+		Mockito.when(dashboardService.getDashboard(1L)).thenThrow(
+				new DashboardTimeoutException("O painel não foi carregado em 50 ms, tente novamente.", new TimeoutException()));
+
+		String body = mvc.perform(MockMvcRequestBuilders.get("/api/user/1/dashboard").accept(JSON))
+		   .andExpect( MockMvcResultMatchers.status().isGatewayTimeout() )
+		   .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+		assertThat(body).isEqualTo("O painel não foi carregado em 50 ms, tente novamente.");
+	}
 }
@@ -0,0 +1,123 @@
+package com.dev.finances.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Replica routing data source tests")
+public class ReplicaRoutingDataSourceTest {
+
+	private static final String LAG_QUERY = "select lag_millis from replication_status";
+
+	HikariDataSource primary;
+	HikariDataSource replica;
+	ReplicaRoutingDataSource routing;
+	JdbcTemplate jdbcTemplate;
+	TransactionTemplate readOnly;
+	TransactionTemplate readWrite;
+
+	@BeforeEach
+	public void setUp() {
+		primary = pool("primary", "jdbc:h2:mem:routing-primary");
+		replica = pool("replica-1", "jdbc:h2:mem:routing-replica");
+		new JdbcTemplate(primary).execute("create table node (name varchar(20))");
+		new JdbcTemplate(primary).execute("insert into node values ('primary')");
+		new JdbcTemplate(replica).execute("create table node (name varchar(20))");
+		new JdbcTemplate(replica).execute("insert into node values ('replica')");
+		new JdbcTemplate(replica).execute("create table replication_status (lag_millis bigint)");
+		new JdbcTemplate(replica).execute("insert into replication_status values (0)");
+
+		routing = new ReplicaRoutingDataSource(primary, Collections.singletonList(replica), Duration.ofSeconds(1), LAG_QUERY);
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		readWrite = new TransactionTemplate(transactionManager);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		new JdbcTemplate(primary).execute("drop all objects");
+		if (!replica.isClosed())
+			new JdbcTemplate(replica).execute("drop all objects");
+		routing.close();
+	}
+
+	@Test
+	@DisplayName("MUST ROUTE read-only transactions to the replica and writes to the primary")
+	public void mustRouteReadOnlyTransactionsToReplica() {
+		routing.checkReplicas();
+
+		assertThat(readOnlyNode()).isEqualTo("replica");
+		assertThat(readWriteNode()).isEqualTo("primary");
+		assertThat(node()).isEqualTo("primary");
+	}
+
+	@Test
+	@DisplayName("MUST READ from the primary until the replica lag was checked")
+	public void mustReadFromPrimaryUntilReplicaChecked() {
+		assertThat(readOnlyNode()).isEqualTo("primary");
+	}
+
+	@Test
+	@DisplayName("MUST FALL BACK to the primary when the replica lags behind")
+	public void mustFallBackToPrimaryWhenReplicaLags() {
+		routing.checkReplicas();
+		new JdbcTemplate(replica).update("update replication_status set lag_millis = 5000");
+
+		routing.checkReplicas();
+
+		assertThat(routing.getReplicaLag()).containsEntry("replica-1", 5000L);
+		assertThat(readOnlyNode()).isEqualTo("primary");
+
+		new JdbcTemplate(replica).update("update replication_status set lag_millis = 10");
+		routing.checkReplicas();
+
+		assertThat(readOnlyNode()).isEqualTo("replica");
+	}
+
+	@Test
+	@DisplayName("MUST FALL BACK to the primary when the replica is unreachable")
+	public void mustFallBackToPrimaryWhenReplicaUnreachable() {
+		routing.checkReplicas();
+		new JdbcTemplate(replica).execute("drop all objects");
+		replica.close();
+
+		routing.checkReplicas();
+
+		assertThat(readOnlyNode()).isEqualTo("primary");
+	}
+
+	private String readOnlyNode() {
+		return readOnly.execute(status -> node());
+	}
+
+	private String readWriteNode() {
+		return readWrite.execute(status -> node());
+	}
+
+	private String node() {
+		return jdbcTemplate.queryForObject("select name from node", String.class);
+	}
+
+	private HikariDataSource pool(String name, String url) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName(name);
+		dataSource.setJdbcUrl(url + ";DB_CLOSE_DELAY=-1");
+		dataSource.setUsername("sa");
+		dataSource.setMaximumPoolSize(2);
+		return dataSource;
+	}
+}
@@ -0,0 +1,123 @@
+package com.dev.finances.etag;
+
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.recent.RecentReleaseStore;
+import com.dev.finances.repository.UserRepository;
+import com.dev.finances.search.ReleaseDescriptionIndex;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.impl.ReleaseArchiveServiceImpl;
+import com.dev.finances.service.impl.ReleaseDailyBalanceServiceImpl;
+import com.dev.finances.service.impl.ReleaseServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static com.dev.finances.model.repository.ReleaseRepositoryTest.createRelease;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Release generation tests")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ReleaseServiceImpl.class, ReleaseArchiveServiceImpl.class, ReleaseDailyBalanceServiceImpl.class,
+		ReleaseDescriptionIndex.class, RecentReleaseStore.class, ReleaseGenerations.class})
+@TestPropertySource(properties = "release.search.index.enabled=false")
+public class ReleaseGenerationsTest {
+
+	@Autowired
+	ReleaseService releaseService;
+
+	@Autowired
+	ReleaseGenerations generations;
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	DataSource dataSource;
+
+	User user;
+
+	@BeforeEach
+	public void setUp() {
+		user = userRepository.save(User.builder().name("geracao").email("geracao@email.com").build());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.update("delete from financas.release_daily_balance where user_id = ?", user.getId());
+		jdbcTemplate.update("delete from financas.release where user_id = ?", user.getId());
+		jdbcTemplate.update("delete from financas.user where id = ?", user.getId());
+	}
+
+	@Test
+	@DisplayName("MUST SHARE the generation of a user between instances through the database")
+	public void mustShareGenerationBetweenInstances() {
+		ReleaseGenerations otherInstance = new ReleaseGenerations(userRepository, transactionManager, 1000, 100);
+		assertThat(otherInstance.current(user.getId())).isZero();
+
+		Release release = releaseService.save(release());
+		release.setDescription("Aluguel reajustado");
+		releaseService.update(release);
+
+		assertThat(generations.current(user.getId())).isEqualTo(2);
+		assertThat(otherInstance.current(user.getId())).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("MUST NOT CHANGE the generation when the write transaction rolls back")
+	public void mustKeepGenerationOnRollback() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			releaseService.save(release());
+			releaseService.save(release());
+			status.setRollbackOnly();
+		});
+
+		assertThat(generations.current(user.getId())).isZero();
+	}
+
+	@Test
+	@DisplayName("MUST ADVANCE the cached generation on local commits and refresh it from the database")
+	public void mustAdvanceCachedGeneration() {
+		ReleaseGenerations otherInstance = new ReleaseGenerations(userRepository, transactionManager, 60_000, 100);
+		assertThat(generations.cached(user.getId())).isZero();
+		assertThat(otherInstance.cached(user.getId())).isZero();
+
+		releaseService.save(release());
+
+		assertThat(generations.cached(user.getId())).isEqualTo(1);
+		assertThat(otherInstance.cached(user.getId())).isZero();
+		assertThat(otherInstance.current(user.getId())).isEqualTo(1);
+		assertThat(otherInstance.cached(user.getId())).isEqualTo(1);
+	}
+
+	private Release release() {
+		Release release = createRelease();
+		release.setUser(user);
+		return release;
+	}
+}
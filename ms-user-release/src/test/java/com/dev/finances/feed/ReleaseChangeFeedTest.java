@@ -0,0 +1,222 @@
+package com.dev.finances.feed;
+
+import com.dev.finances.api.dto.ReleaseOutboxMessageDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.enums.ReleaseActionEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.utils.DateUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+@DisplayName("Release change feed tests")
+public class ReleaseChangeFeedTest {
+
+	ReleaseService releaseService;
+	ObjectMapper objectMapper;
+	ReleaseChangeFeed feed;
+	AtomicLong outboxIds = new AtomicLong();
+
+	@BeforeEach
+	public void setUp() {
+		releaseService = Mockito.mock(ReleaseService.class);
+		objectMapper = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+		feed = new ReleaseChangeFeed(releaseService, objectMapper, Mockito.mock(PlatformTransactionManager.class), 60000, 2, 2);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		feed.shutdown();
+	}
+
+	@Test
+	@DisplayName("MUST PUSH changes with the new balance to the subscribers of the user")
+	public void mustPushChangesWithBalance() {
+		Mockito.when(releaseService.getBalanceByUser(1L)).thenReturn(BigDecimal.valueOf(150));
+		RecordingEmitter subscriber = new RecordingEmitter();
+		RecordingEmitter otherUser = new RecordingEmitter();
+		feed.subscribe(1L, subscriber);
+		feed.subscribe(2L, otherUser);
+
+		feed.onOutboxMessage(message(ReleaseActionEnum.CRIADO, 1L));
+
+		await(() -> subscriber.sent.size() == 2);
+		assertThat(subscriber.sent.get(0)).contains(":connected");
+		assertThat(subscriber.sent.get(1)).contains("event:CRIADO", "\"releaseId\":10", "\"releaseDate\":\"2022-03-01\"",
+				"\"balance\":150");
+		assertThat(otherUser.sent).hasSize(1);
+		assertThat(feed.getSubscriberCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("MUST USE the outbox id as the event id so redelivered messages can be ignored")
+	public void mustUseOutboxIdAsEventId() {
+		RecordingEmitter subscriber = new RecordingEmitter();
+		feed.subscribe(1L, subscriber);
+		ReleaseOutboxMessageDTO message = message(ReleaseActionEnum.REMOVIDO, 1L);
+
+		feed.onOutboxMessage(message);
+		feed.onOutboxMessage(message);
+
+		await(() -> subscriber.sent.size() == 3);
+		assertThat(subscriber.sent.get(1)).contains("id:" + message.getId(), "event:REMOVIDO");
+		assertThat(subscriber.sent.get(2)).contains("id:" + message.getId());
+	}
+
+	@Test
+	@DisplayName("MUST DROP subscribers that fall behind without delaying the others")
+	public void mustDropSlowSubscribers() {
+		CountDownLatch release = new CountDownLatch(1);
+		RecordingEmitter slow = new RecordingEmitter();
+		slow.blocked = release;
+		RecordingEmitter fast = new RecordingEmitter();
+		try {
+			feed.subscribe(1L, slow);
+			feed.subscribe(1L, fast);
+
+			for (int i = 0; i < 5; i++) {
+				feed.onOutboxMessage(message(ReleaseActionEnum.STATUS_ATUALIZADO, 1L));
+				int expected = i + 2;
+				await(() -> fast.sent.size() == expected);
+			}
+
+			await(() -> feed.getSubscriberCount() == 1);
+			assertThat(fast.sent).hasSize(6);
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	@DisplayName("MUST DROP subscribers whose connection is gone on heartbeat")
+	public void mustDropClosedConnectionsOnHeartbeat() {
+		RecordingEmitter gone = new RecordingEmitter();
+		feed.subscribe(1L, gone);
+		await(() -> gone.sent.size() == 1);
+		gone.broken = true;
+
+		feed.heartbeat();
+
+		await(() -> feed.getSubscriberCount() == 0);
+	}
+
+	@Test
+	@DisplayName("MUST KEEP the order of changes published during a dispatch and forget users without subscribers")
+	public void mustKeepOrderDuringDispatch() throws InterruptedException {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean first = new AtomicBoolean(true);
+		Mockito.when(releaseService.getBalanceByUser(1L)).thenAnswer(invocation -> {
+			if (first.getAndSet(false)) {
+				loading.countDown();
+				release.await();
+			}
+			return BigDecimal.TEN;
+		});
+		RecordingEmitter subscriber = new RecordingEmitter();
+		feed.subscribe(1L, subscriber);
+		await(() -> subscriber.sent.size() == 1);
+
+		feed.onOutboxMessage(message(ReleaseActionEnum.CRIADO, 1L));
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+		feed.onOutboxMessage(message(ReleaseActionEnum.ATUALIZADO, 1L));
+		release.countDown();
+
+		await(() -> subscriber.sent.size() == 3);
+		assertThat(subscriber.sent.get(1)).contains("event:CRIADO");
+		assertThat(subscriber.sent.get(2)).contains("event:ATUALIZADO");
+
+		subscriber.broken = true;
+		feed.heartbeat();
+		await(() -> feed.getSubscriberCount() == 0);
+		feed.onOutboxMessage(message(ReleaseActionEnum.REMOVIDO, 1L));
+		assertThat(feed.getPendingUserCount()).isZero();
+	}
+
+	private ReleaseOutboxMessageDTO message(ReleaseActionEnum action, Long userId) {
+		ReleasesDTO release = ReleasesDTO.builder()
+				.id(10L)
+				.userId(userId)
+				.description("Mercado")
+				.value(BigDecimal.TEN)
+				.type(ReleaseTypeEnum.DESPESA)
+				.status(ReleaseStatusEnum.PENDENTE)
+				.releaseDate(DateUtils.dateFormatDefault(LocalDate.of(2022, 3, 1)))
+				.build();
+		try {
+			return ReleaseOutboxMessageDTO.builder()
+					.id(outboxIds.incrementAndGet())
+					.userId(userId)
+					.releaseId(10L)
+					.action(action)
+					.createdAt(LocalDateTime.now())
+					.release(objectMapper.writeValueAsString(release))
+					.build();
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void await(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() > deadline)
+				fail("Condition not met in 5 seconds");
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				fail("Interrupted");
+			}
+		}
+	}
+
+	static class RecordingEmitter extends SseEmitter {
+
+		final List<String> sent = new CopyOnWriteArrayList<>();
+		volatile CountDownLatch blocked;
+		volatile boolean broken;
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			if (broken)
+				throw new IOException("Broken pipe");
+			StringBuilder event = new StringBuilder();
+			builder.build().forEach(data -> event.append(data.getData()));
+			if (blocked != null) {
+				try {
+					blocked.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			sent.add(event.toString());
+		}
+	}
+}
@@ -0,0 +1,208 @@
+package com.dev.finances.groupcommit;
+
+import com.dev.finances.api.dto.BulkItemResultDTO;
+import com.dev.finances.api.dto.BulkResponseDTO;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.service.ReleaseBulkService;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.impl.ReleaseServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.dev.finances.model.repository.ReleaseRepositoryTest.createRelease;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Release group commit tests")
+public class ReleaseGroupCommitterTest {
+
+	static final int CALLERS = 16;
+
+	ReleaseService releaseService = Mockito.mock(ReleaseServiceImpl.class);
+	ReleaseBulkService bulkService = Mockito.mock(ReleaseBulkService.class);
+	SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	AtomicLong sequence = new AtomicLong();
+	ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+	ReleaseGroupCommitter committer;
+
+	@AfterEach
+	public void tearDown() throws InterruptedException {
+		callers.shutdownNow();
+		if (committer != null)
+			committer.stop();
+	}
+
+	@Test
+	@DisplayName("MUST SAVE directly when group commit is disabled")
+	public void mustSaveDirectlyWhenDisabled() {
+		committer = committer(false, 100);
+		Release release = createRelease();
+		Mockito.when(releaseService.save(release)).thenReturn(release);
+
+		assertThat(committer.save(release)).isSameAs(release);
+		Mockito.verifyNoInteractions(bulkService);
+	}
+
+	@Test
+	@DisplayName("MUST COMMIT concurrent creations together and give each caller its own id")
+	public void mustCommitConcurrentCreationsTogether() throws Exception {
+		committer = committer(true, 200);
+		Mockito.when(bulkService.saveAll(ArgumentMatchers.anyList())).thenAnswer(invocation -> saveAll(invocation.getArgument(0)));
+
+		List<Release> saved = submitConcurrently();
+
+		Set<Long> ids = new HashSet<>();
+		saved.forEach(release -> ids.add(release.getId()));
+		assertThat(ids).hasSize(CALLERS).doesNotContainNull();
+		double commits = registry.get(ReleaseGroupCommitter.COMMIT_COUNTER).counter().count();
+		assertThat(commits).isGreaterThanOrEqualTo(1).isLessThan(CALLERS);
+		Mockito.verify(releaseService, Mockito.never()).save(ArgumentMatchers.any());
+	}
+
+	@Test
+	@DisplayName("MUST REJECT an invalid creation without enqueuing it")
+	public void mustRejectInvalidCreation() {
+		committer = committer(true, 5);
+		Mockito.doCallRealMethod().when(releaseService).validate(ArgumentMatchers.any());
+		Release release = createRelease();
+		release.setValue(BigDecimal.ZERO);
+
+		BusinessException error = assertThrows(BusinessException.class, () -> committer.save(release));
+
+		assertThat(error.getMessage()).isEqualTo("Informe um Valor válido.");
+		Mockito.verifyNoInteractions(bulkService);
+	}
+
+	@Test
+	@DisplayName("MUST GIVE each caller its own result when a group commit fails")
+	public void mustSaveAloneWhenGroupCommitFails() throws Exception {
+		committer = committer(true, 200);
+		Mockito.when(bulkService.saveAll(ArgumentMatchers.anyList())).thenThrow(new IllegalStateException("deadlock"));
+		Mockito.when(releaseService.save(ArgumentMatchers.any())).thenAnswer(invocation -> {
+			Release release = invocation.getArgument(0);
+			if (release.getDescription().equals("Lançamento 3"))
+				throw new BusinessException("Usuário não encontrado.");
+			release.setId(sequence.incrementAndGet());
+			return release;
+		});
+
+		List<Future<Release>> results = new ArrayList<>();
+		CountDownLatch start = new CountDownLatch(1);
+		for (int i = 0; i < CALLERS; i++) {
+			Release release = createRelease();
+			release.setDescription("Lançamento " + i);
+			results.add(callers.submit(() -> {
+				start.await();
+				return committer.save(release);
+			}));
+		}
+		start.countDown();
+
+		for (int i = 0; i < CALLERS; i++) {
+			Future<Release> result = results.get(i);
+			if (i == 3) {
+				Throwable error = assertThrows(Exception.class, result::get).getCause();
+				assertThat(error).isInstanceOf(BusinessException.class).hasMessage("Usuário não encontrado.");
+			} else {
+				assertThat(result.get().getId()).isNotNull();
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("MUST NOT COMMIT a creation whose caller stopped waiting for it")
+	public void mustSkipTimedOutCreation() throws Exception {
+		committer = committer(true, 5, 200);
+		CountDownLatch flushing = new CountDownLatch(1);
+		CountDownLatch unblock = new CountDownLatch(1);
+		List<String> committed = new CopyOnWriteArrayList<>();
+		Mockito.when(bulkService.saveAll(ArgumentMatchers.anyList())).thenAnswer(invocation -> {
+			List<Release> releases = invocation.getArgument(0);
+			releases.forEach(release -> committed.add(release.getDescription()));
+			flushing.countDown();
+			unblock.await();
+			return saveAll(releases);
+		});
+		Release first = createRelease();
+		first.setDescription("Primeiro");
+		Future<Release> firstResult = callers.submit(() -> committer.save(first));
+		flushing.await();
+
+		Release late = createRelease();
+		late.setDescription("Atrasado");
+		assertThrows(IllegalStateException.class, () -> committer.save(late));
+		unblock.countDown();
+
+		assertThat(firstResult.get().getId()).isNotNull();
+		committer.stop();
+		assertThat(committed).containsExactly("Primeiro");
+		Mockito.verify(releaseService, Mockito.never()).save(ArgumentMatchers.any());
+	}
+
+	@Test
+	@DisplayName("MUST SAVE directly once group commit is stopped")
+	public void mustSaveDirectlyAfterStop() throws Exception {
+		committer = committer(true, 5);
+		committer.stop();
+		Release release = createRelease();
+		Mockito.when(releaseService.save(release)).thenReturn(release);
+
+		assertThat(committer.save(release)).isSameAs(release);
+		Mockito.verifyNoInteractions(bulkService);
+	}
+
+	private List<Release> submitConcurrently() throws Exception {
+		List<Future<Release>> results = new ArrayList<>();
+		CountDownLatch start = new CountDownLatch(1);
+		for (int i = 0; i < CALLERS; i++) {
+			Release release = createRelease();
+			results.add(callers.submit(() -> {
+				start.await();
+				return committer.save(release);
+			}));
+		}
+		start.countDown();
+		List<Release> saved = new ArrayList<>();
+		for (Future<Release> result : results)
+			saved.add(result.get());
+		return saved;
+	}
+
+	private BulkResponseDTO saveAll(List<Release> releases) {
+		List<BulkItemResultDTO> items = new ArrayList<>();
+		for (int index = 0; index < releases.size(); index++) {
+			Release release = releases.get(index);
+			release.setId(sequence.incrementAndGet());
+			items.add(BulkItemResultDTO.builder().index(index).id(release.getId()).success(true).build());
+		}
+		return new BulkResponseDTO(items, releases.size(), 0, 0L, 0L);
+	}
+
+	private ReleaseGroupCommitter committer(boolean enabled, long maxWaitMillis) {
+		return committer(enabled, maxWaitMillis, 5000);
+	}
+
+	private ReleaseGroupCommitter committer(boolean enabled, long maxWaitMillis, long timeoutMillis) {
+		ReleaseGroupCommitter committer = new ReleaseGroupCommitter(releaseService, bulkService, registry, enabled,
+				CALLERS, maxWaitMillis, 100, timeoutMillis);
+		committer.start();
+		return committer;
+	}
+}
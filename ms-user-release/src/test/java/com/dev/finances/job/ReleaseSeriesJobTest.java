@@ -0,0 +1,34 @@
+package com.dev.finances.job;
+
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.service.ReleaseSeriesService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+@DisplayName("Release series job failure tests")
+public class ReleaseSeriesJobTest {
+
+	ReleaseSeriesService seriesService = Mockito.mock(ReleaseSeriesService.class);
+	ReleaseSeriesJob seriesJob = new ReleaseSeriesJob(seriesService, 3);
+
+	@Test
+	@DisplayName("MUST EXTEND the other series when one series of the batch fails")
+	public void mustExtendOtherSeriesWhenOneFails() {
+		Mockito.when(seriesService.extend(0L, 3)).thenThrow(new BusinessException("Usuário não encontrado."));
+		Mockito.when(seriesService.findDueIds(0L, 3)).thenReturn(Arrays.asList(1L, 2L, 3L));
+		Mockito.doThrow(new BusinessException("Usuário não encontrado.")).when(seriesService).extend(2L);
+		Mockito.when(seriesService.extend(3L, 3)).thenReturn(Arrays.asList(4L));
+		Mockito.when(seriesService.extend(4L, 3)).thenReturn(Collections.emptyList());
+
+		seriesJob.extend();
+
+		Mockito.verify(seriesService).extend(1L);
+		Mockito.verify(seriesService).extend(2L);
+		Mockito.verify(seriesService).extend(3L);
+		Mockito.verify(seriesService).extend(4L, 3);
+	}
+}
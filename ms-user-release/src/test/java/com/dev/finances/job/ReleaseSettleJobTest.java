@@ -0,0 +1,83 @@
+package com.dev.finances.job;
+
+import com.dev.finances.repository.projection.ReleaseOwner;
+import com.dev.finances.service.ReleaseSettleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Release settle job failure tests")
+public class ReleaseSettleJobTest {
+
+	ReleaseSettleService settleService = Mockito.mock(ReleaseSettleService.class);
+	SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	ReleaseSettleJob settleJob;
+
+	@BeforeEach
+	public void setUp() {
+		settleJob = new ReleaseSettleJob(settleService, registry, 2, 2);
+		Mockito.when(settleService.getCheckpoint()).thenReturn(0L);
+	}
+
+	@Test
+	@DisplayName("MUST SKIP only the releases that fail when a chunk fails")
+	public void mustSkipFailingReleasesOfChunk() {
+		List<ReleaseOwner> chunk = Arrays.asList(owner(1L), owner(2L));
+		Mockito.when(settleService.findDue(0L, 2)).thenReturn(chunk);
+		Mockito.when(settleService.findDue(2L, 2)).thenReturn(Collections.emptyList());
+		Mockito.when(settleService.settle(chunk)).thenThrow(new IllegalStateException("check constraint"));
+		Mockito.when(settleService.settle(Collections.singletonList(chunk.get(0)))).thenReturn(1);
+		Mockito.when(settleService.settle(Collections.singletonList(chunk.get(1)))).thenThrow(new IllegalStateException("check constraint"));
+
+		settleJob.settle();
+
+		Mockito.verify(settleService).saveCheckpoint(2L);
+		Mockito.verify(settleService).saveCheckpoint(0L);
+		assertThat(registry.get(ReleaseSettleJob.SETTLED_COUNTER).counter().count()).isEqualTo(1);
+		assertThat(registry.get(ReleaseSettleJob.FAILURE_COUNTER).counter().count()).isEqualTo(1);
+		assertThat(registry.get(ReleaseSettleJob.SKIPPED_COUNTER).counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("MUST RETRY a chunk that fails entirely and skip it after consecutive failures")
+	public void mustSkipChunkAfterConsecutiveFailures() {
+		List<ReleaseOwner> chunk = Collections.singletonList(owner(1L));
+		Mockito.when(settleService.findDue(0L, 2)).thenReturn(chunk);
+		Mockito.when(settleService.findDue(1L, 2)).thenReturn(Collections.emptyList());
+		Mockito.when(settleService.settle(ArgumentMatchers.anyList())).thenThrow(new IllegalStateException("check constraint"));
+
+		settleJob.settle();
+
+		Mockito.verify(settleService, Mockito.never()).saveCheckpoint(ArgumentMatchers.anyLong());
+
+		settleJob.settle();
+
+		Mockito.verify(settleService).saveCheckpoint(1L);
+		Mockito.verify(settleService).saveCheckpoint(0L);
+		assertThat(registry.get(ReleaseSettleJob.FAILURE_COUNTER).counter().count()).isEqualTo(2);
+		assertThat(registry.get(ReleaseSettleJob.SKIPPED_COUNTER).counter().count()).isEqualTo(1);
+	}
+
+	private ReleaseOwner owner(Long id) {
+		return new ReleaseOwner() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public Long getUserId() {
+				return 1L;
+			}
+		};
+	}
+}
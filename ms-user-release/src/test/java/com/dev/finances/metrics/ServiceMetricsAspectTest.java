@@ -0,0 +1,110 @@
+package com.dev.finances.metrics;
+
+import com.dev.finances.etag.ReleaseGenerations;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.recent.RecentReleaseStore;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.search.ReleaseDescriptionIndex;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.impl.ReleaseArchiveServiceImpl;
+import com.dev.finances.service.impl.ReleaseDailyBalanceServiceImpl;
+import com.dev.finances.service.impl.ReleaseServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+
+import static com.dev.finances.model.repository.ReleaseRepositoryTest.createRelease;
+import static com.dev.finances.model.repository.UserRepositoryTest.criarUsuario;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Service metrics aspect tests")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import({ServiceMetricsAspect.class, SimpleMeterRegistry.class, ReleaseServiceImpl.class, ReleaseArchiveServiceImpl.class,
+		ReleaseDailyBalanceServiceImpl.class, ReleaseDescriptionIndex.class, RecentReleaseStore.class, ReleaseGenerations.class})
+@TestPropertySource(properties = "release.search.index.enabled=false")
+public class ServiceMetricsAspectTest {
+
+	@Autowired
+	ReleaseService releaseService;
+
+	@Autowired
+	ReleaseRepository releaseRepository;
+
+	@Autowired
+	MeterRegistry registry;
+
+	@Autowired
+	TestEntityManager entityManager;
+
+	@Test
+	@DisplayName("MUST TIME service and repository calls and record returned rows")
+	public void mustTimeServiceAndRepositoryCalls() {
+		User user = entityManager.persist(criarUsuario());
+		for (int i = 0; i < 3; i++) {
+			Release release = createRelease();
+			release.setUser(user);
+			release.setCreateAt(LocalDate.now());
+			entityManager.persist(release);
+		}
+
+		releaseService.lastReleases(user.getId());
+
+		assertThat(registry.get(ServiceMetricsAspect.SERVICE_TIMER)
+				.tags("class", "ReleaseServiceImpl", "method", "lastReleases", "outcome", "success")
+				.timer().count()).isEqualTo(1);
+		assertThat(registry.get(ServiceMetricsAspect.REPOSITORY_TIMER)
+				.tags("class", "ReleaseRepository", "method", "lastReleases")
+				.timer().count()).isEqualTo(1);
+		assertThat(registry.get(ServiceMetricsAspect.ROWS_SUMMARY)
+				.tags("layer", "service", "class", "ReleaseServiceImpl", "method", "lastReleases")
+				.summary().totalAmount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("MUST TAG inherited repository methods with the repository name")
+	public void mustTagInheritedRepositoryMethods() {
+		releaseRepository.findById(-1L);
+
+		assertThat(registry.get(ServiceMetricsAspect.REPOSITORY_TIMER)
+				.tags("class", "ReleaseRepository", "method", "findById")
+				.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("MUST COUNT validation failures")
+	public void mustCountValidationFailures() {
+		Release release = createRelease();
+		release.setDescription(null);
+
+		assertThrows(BusinessException.class, () -> releaseService.validate(release));
+
+		assertThat(registry.get(ServiceMetricsAspect.VALIDATION_COUNTER)
+				.tags("class", "ReleaseServiceImpl", "method", "validate")
+				.counter().count()).isEqualTo(1);
+		assertThat(registry.get(ServiceMetricsAspect.SERVICE_TIMER)
+				.tags("method", "validate", "outcome", "business_error", "exception", "BusinessException")
+				.timer().count()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,103 @@
+package com.dev.finances.model.repository;
+
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.repository.ReleaseDailyBalanceRepository;
+import com.dev.finances.service.ReleaseDailyBalanceService;
+import com.dev.finances.service.impl.ReleaseDailyBalanceServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static com.dev.finances.model.repository.ReleaseRepositoryTest.createRelease;
+import static com.dev.finances.model.repository.UserRepositoryTest.criarUsuario;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(ReleaseDailyBalanceServiceImpl.class)
+public class ReleaseDailyBalanceRepositoryTest {
+
+	static final LocalDate TODAY = LocalDate.of(2022, 1, 31);
+
+	@Autowired
+	ReleaseDailyBalanceService dailyBalanceService;
+
+	@Autowired
+	ReleaseDailyBalanceRepository repository;
+
+	@Autowired
+	TestEntityManager entityManager;
+
+	@Test
+	public void deveSomarOsLancamentosDoDiaAoAtualizarOBalanco() {
+		User user = entityManager.persist(criarUsuario());
+		persistirLancamento(user, "10", ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO, TODAY);
+		persistirLancamento(user, "5", ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO, TODAY);
+		persistirLancamento(user, "7", ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.PENDENTE, TODAY);
+
+		dailyBalanceService.refresh(user.getId(), TODAY);
+
+		assertThat(repository.count()).isEqualTo(2);
+		assertThat(dailyBalanceService.getBalance(user.getId(), ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO,
+				TODAY.minusDays(30), TODAY)).isEqualByComparingTo("15");
+	}
+
+	@Test
+	public void deveSubstituirOBalancoDoDiaAoAtualizarNovamente() {
+		User user = entityManager.persist(criarUsuario());
+		Release release = persistirLancamento(user, "10", ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.EFETIVADO, TODAY);
+		dailyBalanceService.refresh(user.getId(), TODAY);
+
+		release.setValue(BigDecimal.valueOf(3));
+		dailyBalanceService.refresh(user.getId(), TODAY);
+
+		assertThat(repository.count()).isEqualTo(1);
+		assertThat(dailyBalanceService.getBalance(user.getId(), ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.EFETIVADO,
+				TODAY.minusDays(30), TODAY)).isEqualByComparingTo("3");
+	}
+
+	@Test
+	public void deveReconstruirOBalancoConsiderandoApenasAJanelaInformada() {
+		User user = entityManager.persist(criarUsuario());
+		persistirLancamento(user, "10", ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO, TODAY);
+		persistirLancamento(user, "20", ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO, TODAY.minusDays(10));
+		persistirLancamento(user, "40", ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO, TODAY.minusDays(31));
+
+		dailyBalanceService.rebuild(user.getId());
+
+		assertThat(repository.count()).isEqualTo(3);
+		assertThat(dailyBalanceService.getBalance(user.getId(), ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO,
+				TODAY.minusDays(30), TODAY)).isEqualByComparingTo("30");
+	}
+
+	@Test
+	public void deveRetornarZeroQuandoNaoHouverBalanco() {
+		assertThat(dailyBalanceService.getBalance(1L, ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO,
+				TODAY.minusDays(30), TODAY)).isEqualByComparingTo(BigDecimal.ZERO);
+	}
+
+	private Release persistirLancamento(User user, String value, ReleaseTypeEnum type, ReleaseStatusEnum status, LocalDate createAt) {
+		Release release = createRelease();
+		release.setUser(user);
+		release.setValue(new BigDecimal(value));
+		release.setType(type);
+		release.setStatus(status);
+		release.setCreateAt(createAt);
+		return entityManager.persist(release);
+	}
+}
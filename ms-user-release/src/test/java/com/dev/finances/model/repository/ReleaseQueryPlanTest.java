@@ -0,0 +1,242 @@
+package com.dev.finances.model.repository;
+
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.repository.ArchivedReleaseRepository;
+import com.dev.finances.repository.ReleaseDailyBalanceRepository;
+import com.dev.finances.repository.ReleaseRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+@DisplayName("Release query plan tests")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.dev.finances.model.repository.ReleaseQueryPlanTest$RecordingStatementInspector")
+public class ReleaseQueryPlanTest {
+
+	private static final Pattern TABLE_ACCESS = Pattern.compile("/\\* FINANCAS\\.([\\w.]+)(:[^*]*)?\\*/");
+	private static final Long USER_ID = 1L;
+	private static final int USERS = 20;
+	private static final int RELEASES_PER_USER = 200;
+	private static final LocalDate TODAY = LocalDate.now();
+
+	@Autowired
+	ReleaseRepository releaseRepository;
+
+	@Autowired
+	ReleaseDailyBalanceRepository dailyBalanceRepository;
+
+	@Autowired
+	ArchivedReleaseRepository archiveRepository;
+
+	@Autowired
+	DataSource dataSource;
+
+	@BeforeEach
+	public void setUp() throws SQLException {
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		try (PreparedStatement user = connection.prepareStatement("insert into financas.user (id, name, email) values (?, ?, ?)");
+			 PreparedStatement release = connection.prepareStatement("insert into financas.release "
+					 + "(id, description, mes, ano, user_id, value, create_at, release_date, type, status) "
+					 + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+			long id = 1;
+			for (long userId = USER_ID; userId < USER_ID + USERS; userId++) {
+				user.setLong(1, userId);
+				user.setString(2, "Usuário " + userId);
+				user.setString(3, "usuario" + userId + "@email.com");
+				user.addBatch();
+				for (int i = 0; i < RELEASES_PER_USER; i++) {
+					LocalDate date = TODAY.minusDays(i);
+					release.setLong(1, id++);
+					release.setString(2, "Lançamento " + i);
+					release.setInt(3, date.getMonthValue());
+					release.setInt(4, date.getYear());
+					release.setLong(5, userId);
+					release.setBigDecimal(6, BigDecimal.TEN);
+					release.setObject(7, date.atStartOfDay());
+					release.setObject(8, date.atStartOfDay());
+					release.setString(9, (i % 2 == 0 ? ReleaseTypeEnum.RECEITA : ReleaseTypeEnum.DESPESA).name());
+					release.setString(10, ReleaseStatusEnum.PENDENTE.name());
+					release.addBatch();
+				}
+			}
+			user.executeBatch();
+			release.executeBatch();
+		} finally {
+			DataSourceUtils.releaseConnection(connection, dataSource);
+		}
+		RecordingStatementInspector.STATEMENTS.clear();
+	}
+
+	@Test
+	@DisplayName("MUST CREATE the indexes of the release access paths")
+	public void mustCreateReleaseAccessPathIndexes() throws SQLException {
+		assertThat(indexColumns("IX_RELEASE_USER_CREATE_AT")).startsWith("USER_ID", "CREATE_AT");
+		assertThat(indexColumns("IX_RELEASE_USER_RELEASE_DATE_ID")).startsWith("USER_ID", "RELEASE_DATE", "ID");
+	}
+
+	@Test
+	@DisplayName("MUST NOT SCAN the release table when reading the last releases")
+	public void mustNotScanWhenReadingLastReleases() {
+		releaseRepository.lastReleases(USER_ID, TODAY.minusDays(30), TODAY, PageRequest.of(0, 100));
+
+		assertNoSequentialScan();
+	}
+
+	@Test
+	@DisplayName("MUST NOT SCAN the release table when rebuilding daily balances")
+	public void mustNotScanWhenRebuildingDailyBalances() {
+		dailyBalanceRepository.insertByUserAndDate(USER_ID, TODAY);
+		dailyBalanceRepository.insertByUser(USER_ID + 1);
+
+		assertNoSequentialScan();
+	}
+
+	@Test
+	@DisplayName("MUST NOT SCAN the release table when paginating")
+	public void mustNotScanWhenPaginating() {
+		releaseRepository.findFirstByCursor(USER_ID, PageRequest.of(0, 10));
+		releaseRepository.findAfterCursor(USER_ID, TODAY, 10L, PageRequest.of(0, 10));
+		releaseRepository.findAll(USER_ID, PageRequest.of(0, 10, Sort.by("releaseDate", "id").descending()));
+
+		assertNoSequentialScan();
+	}
+
+	@Test
+	@DisplayName("MUST NOT SCAN the release table in any other query")
+	public void mustNotScanInOtherQueries() {
+		releaseRepository.findDtoById(10L);
+		releaseRepository.findDtosByIds(USER_ID, Arrays.asList(10L, 11L));
+		releaseRepository.findDtosWithCreateAtByIds(USER_ID, Arrays.asList(10L, 11L));
+		releaseRepository.updateStatusByIds(USER_ID, Arrays.asList(10L, 11L), ReleaseStatusEnum.EFETIVADO);
+		releaseRepository.deleteByUserAndIds(USER_ID, Arrays.asList(12L, 13L));
+		releaseRepository.findAutoSettleCandidates(0L, ReleaseStatusEnum.PENDENTE, TODAY, PageRequest.of(0, 100));
+		releaseRepository.findAutoSettleDtosByIds(Arrays.asList(14L, 15L), ReleaseStatusEnum.PENDENTE, TODAY);
+		releaseRepository.settleByIds(Arrays.asList(14L, 15L), ReleaseStatusEnum.EFETIVADO);
+		releaseRepository.search(USER_ID, "%mercado%", 1, 2022, ReleaseTypeEnum.DESPESA, ReleaseStatusEnum.PENDENTE);
+		releaseRepository.search(USER_ID, "%", null, null, null, null);
+		releaseRepository.countByUser(USER_ID);
+		releaseRepository.findBucketById(10L);
+		releaseRepository.findByReleaseDates(USER_ID, Arrays.asList(TODAY, TODAY.minusDays(1)));
+		try (Stream<?> releases = releaseRepository.streamByUser(USER_ID)) {
+			releases.count();
+		}
+		dailyBalanceRepository.getBalanceByReleaseTypeUserAndStatus(USER_ID, ReleaseTypeEnum.RECEITA,
+				ReleaseStatusEnum.EFETIVADO, TODAY.minusDays(30), TODAY);
+		dailyBalanceRepository.deleteByUserAndDate(USER_ID, TODAY);
+		dailyBalanceRepository.deleteByUser(USER_ID);
+
+		assertNoSequentialScan();
+	}
+
+	@Test
+	@DisplayName("MUST NOT SCAN the release tables when archiving and reading the archive")
+	public void mustNotScanWhenArchiving() {
+		releaseRepository.findArchivable(0L, Arrays.asList(ReleaseStatusEnum.EFETIVADO, ReleaseStatusEnum.CANCELADO),
+				TODAY.minusDays(365), TODAY.getYear() - 1, TODAY.getMonthValue(), PageRequest.of(0, 100));
+		releaseRepository.countByUserWithArchive(USER_ID);
+		releaseRepository.findDescriptionsByUser(USER_ID);
+		archiveRepository.findDtoById(10L);
+		archiveRepository.findDtosByIds(USER_ID, Arrays.asList(10L, 11L));
+		archiveRepository.search(USER_ID, "%mercado%", null, null, null, null);
+		archiveRepository.findAll(USER_ID, PageRequest.of(0, 10, Sort.by("releaseDate", "id").descending()));
+		archiveRepository.findFirstByCursor(USER_ID, PageRequest.of(0, 10));
+		archiveRepository.findAfterCursor(USER_ID, TODAY, 10L, PageRequest.of(0, 10));
+		archiveRepository.findByReleaseDates(USER_ID, Arrays.asList(TODAY, TODAY.minusDays(1)));
+		try (Stream<?> releases = archiveRepository.streamByUser(USER_ID)) {
+			releases.count();
+		}
+
+		assertNoSequentialScan();
+	}
+
+	private void assertNoSequentialScan() {
+		List<String> statements = new ArrayList<>(RecordingStatementInspector.STATEMENTS);
+		assertThat(statements).isNotEmpty();
+		for (String sql : statements) {
+			String plan = explain(sql);
+			Matcher access = TABLE_ACCESS.matcher(plan);
+			boolean found = false;
+			while (access.find()) {
+				found = true;
+				if (access.group(1).endsWith(".tableScan") || access.group(2) == null)
+					fail("Sequential scan in plan of '" + sql + "': " + plan);
+			}
+			assertThat(found).as("table access in plan of '%s': %s", sql, plan).isTrue();
+		}
+	}
+
+	private List<String> indexColumns(String index) throws SQLException {
+		List<String> columns = new ArrayList<>();
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		try (PreparedStatement statement = connection.prepareStatement("select column_name from information_schema.indexes "
+				+ "where table_schema = 'FINANCAS' and index_name = ? order by ordinal_position")) {
+			statement.setString(1, index);
+			try (ResultSet result = statement.executeQuery()) {
+				while (result.next())
+					columns.add(result.getString(1));
+			}
+		} finally {
+			DataSourceUtils.releaseConnection(connection, dataSource);
+		}
+		return columns;
+	}
+
+	private String explain(String sql) {
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		try (PreparedStatement statement = connection.prepareStatement("explain " + sql);
+			 ResultSet result = statement.executeQuery()) {
+			result.next();
+			return result.getString(1);
+		} catch (SQLException e) {
+			throw new IllegalStateException("Error to explain '" + sql + "'", e);
+		} finally {
+			DataSourceUtils.releaseConnection(connection, dataSource);
+		}
+	}
+
+	public static class RecordingStatementInspector implements StatementInspector {
+
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
@@ -2,12 +2,15 @@ package com.dev.finances.model.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import static com.dev.finances.service.UserServiceTest.createUser;
 import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.entity.User;
 import com.dev.finances.repository.ReleaseRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +19,8 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -71,6 +76,26 @@ public class ReleaseRepositoryTest {
 
 	}
 
+	@Test
+	public void deveRejeitarAtualizacaoComVersaoDesatualizada() {
+		Release lancamento = createRelease();
+		lancamento.setUser(entityManager.persist(UserRepositoryTest.criarUsuario()));
+		entityManager.persist(lancamento);
+		entityManager.flush();
+		Release desatualizado = createRelease();
+		desatualizado.setId(lancamento.getId());
+		desatualizado.setUser(lancamento.getUser());
+		desatualizado.setVersion(lancamento.getVersion());
+
+		lancamento.setDescription("Teste versao");
+		entityManager.flush();
+		entityManager.clear();
+
+		desatualizado.setDescription("Teste perdido");
+		assertThat(repository.findDtoById(lancamento.getId()).get().getVersion()).isEqualTo(1L);
+		assertThrows(OptimisticLockingFailureException.class, () -> repository.save(desatualizado));
+	}
+
 	@Test
 	public void deveBuscarUmLancamentoPorId() {
 		Release lancamento = criarEPersistirLancamento();
@@ -80,6 +105,31 @@ public class ReleaseRepositoryTest {
 		assertThat(lancamentoEncontrado.isPresent()).isTrue();
 	}
 
+	@Test
+	public void deveListarLancamentosPorCursorSemRepetirRegistros() {
+		User user = entityManager.persist(UserRepositoryTest.criarUsuario());
+		for (int day = 1; day <= 5; day++) {
+			Release lancamento = createRelease();
+			lancamento.setUser(user);
+			lancamento.setReleaseDate(LocalDate.of(2022, 1, day));
+			entityManager.persist(lancamento);
+		}
+		Release mesmoDia = createRelease();
+		mesmoDia.setUser(user);
+		mesmoDia.setReleaseDate(LocalDate.of(2022, 1, 5));
+		entityManager.persist(mesmoDia);
+
+		List<ReleasesDTO> primeiraPagina = repository.findFirstByCursor(user.getId(), PageRequest.of(0, 4));
+		ReleasesDTO ultimo = primeiraPagina.get(3);
+		List<ReleasesDTO> segundaPagina = repository.findAfterCursor(user.getId(), ultimo.getReleaseLocalDate(), ultimo.getId(), PageRequest.of(0, 4));
+
+		assertThat(primeiraPagina).extracting(ReleasesDTO::getReleaseDate)
+				.containsExactly("05/01/2022", "05/01/2022", "04/01/2022", "03/01/2022");
+		assertThat(primeiraPagina.get(0).getId()).isGreaterThan(primeiraPagina.get(1).getId());
+		assertThat(segundaPagina).extracting(ReleasesDTO::getReleaseDate).containsExactly("02/01/2022", "01/01/2022");
+		assertThat(repository.countByUser(user.getId())).isEqualTo(6);
+	}
+
 	private Release criarEPersistirLancamento() {
 		Release lancamento = createRelease();
 		entityManager.persist(lancamento);
@@ -88,7 +138,7 @@ public class ReleaseRepositoryTest {
 
 	public static Release createRelease() {
 		return Release.builder()
-				.releaseDate(new Date())
+				.releaseDate(LocalDate.now())
 				.description("any release")
 				.user(createUser())
 				.value(BigDecimal.valueOf(10))
@@ -0,0 +1,50 @@
+package com.dev.finances.model.repository;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Schema migration tests")
+public class SchemaMigrationTest {
+
+	@Test
+	@DisplayName("MUST BACKFILL the daily balance of releases that existed before the rollup")
+	public void mustBackfillDailyBalance() {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:schema-migration;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS financas");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+		flyway(dataSource, "1").migrate();
+		jdbcTemplate.update("insert into financas.user (name, email) values ('Usuário', 'migracao@email.com')");
+		Long userId = jdbcTemplate.queryForObject("select id from financas.user where email = 'migracao@email.com'", Long.class);
+		for (String value : new String[]{"10.00", "2.50"}) {
+			jdbcTemplate.update("insert into financas.release (description, user_id, value, create_at, release_date, type, status) "
+					+ "values ('Mercado', ?, ?, date '2022-01-10', date '2022-01-10', 'DESPESA', 'EFETIVADO')", userId, new BigDecimal(value));
+		}
+
+		flyway(dataSource, "latest").migrate();
+
+		List<Map<String, Object>> buckets = jdbcTemplate.queryForList(
+				"select total, quantity from financas.release_daily_balance where user_id = ?", userId);
+		assertThat(buckets).hasSize(1);
+		assertThat((BigDecimal) buckets.get(0).get("total")).isEqualByComparingTo("12.50");
+		assertThat(((Number) buckets.get(0).get("quantity")).longValue()).isEqualTo(2L);
+	}
+
+	private Flyway flyway(JdbcDataSource dataSource, String target) {
+		return Flyway.configure()
+				.dataSource(dataSource)
+				.schemas("financas")
+				.locations("classpath:db/migration/common", "classpath:db/migration/h2")
+				.target(target)
+				.load();
+	}
+}
@@ -0,0 +1,287 @@
+package com.dev.finances.outbox;
+
+import com.dev.finances.api.dto.ReleaseOutboxMessageDTO;
+import com.dev.finances.etag.ReleaseGenerations;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.ReleaseOutbox;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseActionEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.recent.RecentReleaseStore;
+import com.dev.finances.repository.JobCheckpointRepository;
+import com.dev.finances.repository.ReleaseOutboxRepository;
+import com.dev.finances.repository.UserRepository;
+import com.dev.finances.search.ReleaseDescriptionIndex;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.impl.ReleaseArchiveServiceImpl;
+import com.dev.finances.service.impl.ReleaseDailyBalanceServiceImpl;
+import com.dev.finances.service.impl.ReleaseServiceImpl;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.dev.finances.model.repository.ReleaseRepositoryTest.createRelease;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Release outbox tests")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ReleaseServiceImpl.class, ReleaseArchiveServiceImpl.class, ReleaseDailyBalanceServiceImpl.class,
+		ReleaseDescriptionIndex.class, RecentReleaseStore.class, ReleaseGenerations.class, ReleaseOutboxWriter.class})
+@TestPropertySource(properties = "release.search.index.enabled=false")
+public class ReleaseOutboxDispatcherTest {
+
+	@Autowired
+	ReleaseService releaseService;
+
+	@Autowired
+	ReleaseOutboxRepository outboxRepository;
+
+	@Autowired
+	JobCheckpointRepository checkpointRepository;
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	DataSource dataSource;
+
+	HttpServer webhook;
+	List<String> webhookBodies = new CopyOnWriteArrayList<>();
+	List<User> users = new ArrayList<>();
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		webhook = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		webhook.createContext("/release-events", exchange -> {
+			try (InputStream body = exchange.getRequestBody()) {
+				webhookBodies.add(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+			}
+			exchange.sendResponseHeaders(204, -1);
+			exchange.close();
+		});
+		webhook.start();
+		users.add(userRepository.save(User.builder().name("outbox").email("outbox-1@email.com").build()));
+		users.add(userRepository.save(User.builder().name("outbox").email("outbox-2@email.com").build()));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		webhook.stop(0);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.update("delete from financas.release_outbox");
+		jdbcTemplate.update("update financas.job_checkpoint set lease_owner = null, lease_until = null where name = ?",
+				ReleaseOutboxDispatcher.CHECKPOINT);
+		for (User user : users) {
+			jdbcTemplate.update("delete from financas.release_daily_balance where user_id = ?", user.getId());
+			jdbcTemplate.update("delete from financas.release where user_id = ?", user.getId());
+			jdbcTemplate.update("delete from financas.user where id = ?", user.getId());
+		}
+	}
+
+	@Test
+	@DisplayName("MUST APPEND an outbox event in the transaction of every release change")
+	public void mustAppendOutboxEvents() {
+		Release release = releaseService.save(release(users.get(0)));
+		release.setDescription("Aluguel reajustado");
+		release = releaseService.update(release);
+		releaseService.updateStatus(release, ReleaseStatusEnum.EFETIVADO);
+		releaseService.delete(releaseService.findById(release.getId()).get());
+
+		List<ReleaseOutbox> events = outboxRepository.findAll();
+		assertThat(events).extracting(ReleaseOutbox::getAction).containsExactly(ReleaseActionEnum.CRIADO,
+				ReleaseActionEnum.ATUALIZADO, ReleaseActionEnum.STATUS_ATUALIZADO, ReleaseActionEnum.REMOVIDO);
+		assertThat(events).extracting(ReleaseOutbox::getUserId).containsOnly(users.get(0).getId());
+		assertThat(events.get(1).getPayload()).contains("\"description\":\"Aluguel reajustado\"");
+	}
+
+	@Test
+	@DisplayName("MUST APPEND a removal for the previous user when a release changes owner")
+	public void mustAppendRemovalForPreviousUser() {
+		Release release = releaseService.save(release(users.get(0)));
+		release.setUser(users.get(1));
+		releaseService.update(release);
+
+		List<ReleaseOutbox> events = outboxRepository.findAll();
+		assertThat(events).extracting(ReleaseOutbox::getAction).containsExactly(ReleaseActionEnum.CRIADO,
+				ReleaseActionEnum.REMOVIDO, ReleaseActionEnum.ATUALIZADO);
+		assertThat(events).extracting(ReleaseOutbox::getUserId).containsExactly(users.get(0).getId(),
+				users.get(0).getId(), users.get(1).getId());
+	}
+
+	@Test
+	@DisplayName("MUST DISPATCH outbox events in order and in batches to every sink outside a transaction")
+	public void mustDispatchInBatches() {
+		List<Long> ids = saveReleases(3);
+		List<ReleaseOutboxMessageDTO> received = new CopyOnWriteArrayList<>();
+		List<Boolean> inTransaction = new CopyOnWriteArrayList<>();
+		MeterRegistry registry = new SimpleMeterRegistry();
+		ReleaseOutboxDispatcher dispatcher = dispatcher(registry, 2, 10, Arrays.asList(received::addAll,
+				messages -> inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive()),
+				new WebhookOutboxSink(new RestTemplateBuilder(), webhookUrl(), 2000)));
+
+		assertThat(dispatcher.dispatch()).isZero();
+		assertThat(dispatcher.dispatch()).isEqualTo(1000);
+		assertThat(dispatcher.dispatch()).isEqualTo(1000);
+
+		assertThat(received).extracting(ReleaseOutboxMessageDTO::getReleaseId).containsExactlyElementsOf(ids);
+		assertThat(webhookBodies).hasSize(2);
+		assertThat(webhookBodies.get(0)).contains("\"action\":\"CRIADO\"", "\"release\":{\"id\":" + ids.get(0));
+		assertThat(outboxRepository.count()).isZero();
+		assertThat(inTransaction).containsOnly(false);
+		assertThat(checkpointRepository.findById(ReleaseOutboxDispatcher.CHECKPOINT).get().getLeaseUntil())
+				.isAfter(LocalDateTime.now());
+		assertThat(registry.get(ReleaseOutboxDispatcher.DISPATCHED_COUNTER).counter().count()).isEqualTo(3);
+		assertThat(registry.get(ReleaseOutboxDispatcher.LAG_GAUGE).gauge().value()).isZero();
+	}
+
+	@Test
+	@DisplayName("MUST KEEP and redeliver outbox events when a sink fails")
+	public void mustRedeliverWhenSinkFails() {
+		List<Long> ids = saveReleases(2);
+		List<ReleaseOutboxMessageDTO> received = new CopyOnWriteArrayList<>();
+		AtomicBoolean failing = new AtomicBoolean(true);
+		ReleaseOutboxDispatcher dispatcher = dispatcher(new SimpleMeterRegistry(), 10, 10, Arrays.asList(received::addAll, messages -> {
+			if (failing.getAndSet(false))
+				throw new IllegalStateException("webhook indisponível");
+		}));
+
+		assertThrows(IllegalStateException.class, dispatcher::dispatch);
+		assertThat(outboxRepository.count()).isEqualTo(2);
+
+		dispatcher.dispatch();
+		dispatcher.dispatch();
+
+		assertThat(received).extracting(ReleaseOutboxMessageDTO::getReleaseId).containsExactly(ids.get(0), ids.get(1), ids.get(0), ids.get(1));
+		assertThat(outboxRepository.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("MUST PARK a message that keeps failing and keep delivering the others")
+	public void mustParkFailingMessage() {
+		List<Long> ids = saveReleases(3);
+		List<ReleaseOutboxMessageDTO> received = new CopyOnWriteArrayList<>();
+		MeterRegistry registry = new SimpleMeterRegistry();
+		ReleaseOutboxDispatcher dispatcher = dispatcher(registry, 10, 2, Arrays.asList(messages -> {
+			if (messages.stream().anyMatch(message -> message.getReleaseId().equals(ids.get(1))))
+				throw new IllegalStateException("payload rejeitado");
+		}, received::addAll));
+
+		assertThrows(IllegalStateException.class, dispatcher::dispatch);
+		dispatcher.dispatch();
+		assertThrows(IllegalStateException.class, dispatcher::dispatch);
+		assertThrows(IllegalStateException.class, dispatcher::dispatch);
+		dispatcher.dispatch();
+
+		assertThat(received).extracting(ReleaseOutboxMessageDTO::getReleaseId).containsExactly(ids.get(0), ids.get(2));
+		List<ReleaseOutbox> parked = outboxRepository.findAll();
+		assertThat(parked).hasSize(1);
+		assertThat(parked.get(0).getReleaseId()).isEqualTo(ids.get(1));
+		assertThat(parked.get(0).getAttempts()).isEqualTo(2);
+		assertThat(parked.get(0).getParkedAt()).isNotNull();
+		assertThat(parked.get(0).getLastError()).contains("payload rejeitado");
+		assertThat(registry.get(ReleaseOutboxDispatcher.PARKED_COUNTER).counter().count()).isEqualTo(1);
+		assertThat(dispatcher.dispatch()).isEqualTo(1000);
+	}
+
+	@Test
+	@DisplayName("MUST NOT DISPATCH while another instance holds the outbox lease")
+	public void mustNotDispatchWithoutLease() {
+		saveReleases(2);
+		List<ReleaseOutboxMessageDTO> first = new CopyOnWriteArrayList<>();
+		List<ReleaseOutboxMessageDTO> second = new CopyOnWriteArrayList<>();
+		ReleaseOutboxDispatcher holder = dispatcher(new SimpleMeterRegistry(), 1, 10, Collections.singletonList(first::addAll));
+		ReleaseOutboxDispatcher other = dispatcher(new SimpleMeterRegistry(), 1, 10, Collections.singletonList(second::addAll));
+
+		assertThat(holder.dispatch()).isZero();
+		assertThat(other.dispatch()).isEqualTo(1000);
+		assertThat(second).isEmpty();
+
+		new JdbcTemplate(dataSource).update("update financas.job_checkpoint set lease_until = ? where name = ?",
+				LocalDateTime.now().minusSeconds(1), ReleaseOutboxDispatcher.CHECKPOINT);
+		assertThat(other.dispatch()).isZero();
+		assertThat(first).hasSize(1);
+		assertThat(second).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("MUST WAIT the linger time before sending a partial batch")
+	public void mustLingerOnPartialBatch() {
+		saveReleases(1);
+		List<ReleaseOutboxMessageDTO> received = new CopyOnWriteArrayList<>();
+		ReleaseOutboxDispatcher dispatcher = new ReleaseOutboxDispatcher(outboxRepository, checkpointRepository,
+				Collections.singletonList(received::addAll), transactionManager, new SimpleMeterRegistry(),
+				false, 10, 60_000, 1000, 1000, 10, 30_000);
+
+		assertThat(dispatcher.dispatch()).isBetween(1L, 60_000L);
+		assertThat(received).isEmpty();
+		assertThat(dispatcher.getLagSeconds()).isGreaterThanOrEqualTo(0);
+	}
+
+	private List<Long> saveReleases(int count) {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < count; i++)
+			ids.add(releaseService.save(release(users.get(i % users.size()))).getId());
+		return ids;
+	}
+
+	private ReleaseOutboxDispatcher dispatcher(MeterRegistry registry, int batchSize, int maxAttempts,
+											   List<ReleaseOutboxSink> sinks) {
+		return new ReleaseOutboxDispatcher(outboxRepository, checkpointRepository, sinks, transactionManager, registry,
+				false, batchSize, 0, 1000, 1000, maxAttempts, 30_000);
+	}
+
+	private Release release(User user) {
+		Release release = createRelease();
+		release.setUser(user);
+		release.setReleaseDate(LocalDate.now());
+		return release;
+	}
+
+	private String webhookUrl() {
+		return "http://localhost:" + webhook.getAddress().getPort() + "/release-events";
+	}
+}
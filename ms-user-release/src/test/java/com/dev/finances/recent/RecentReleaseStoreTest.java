@@ -0,0 +1,179 @@
+package com.dev.finances.recent;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.etag.ReleaseGenerations;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.model.enums.ReleaseActionEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Recent release store tests")
+public class RecentReleaseStoreTest {
+
+	private static final Long USER_ID = 1L;
+
+	@TempDir
+	Path directory;
+
+	ReleaseGenerations generations = Mockito.mock(ReleaseGenerations.class);
+
+	@Test
+	@DisplayName("MUST MISS until the user is seeded")
+	public void mustMissUntilTheUserIsSeeded() {
+		RecentReleaseStore store = createStore(10);
+		LocalDate today = LocalDate.now();
+
+		assertThat(store.find(USER_ID, today.minusDays(30), today)).isEmpty();
+
+		store.seed(USER_ID, Arrays.asList(release(2L, "Mercado", today), release(1L, "Aluguel", today.minusDays(2))), 0);
+
+		Optional<List<ReleasesDTO>> found = store.find(USER_ID, today.minusDays(30), today);
+		assertThat(found).isPresent();
+		assertThat(found.get()).extracting(ReleasesDTO::getId).containsExactly(2L, 1L);
+		assertThat(found.get().get(0).getValue()).isEqualByComparingTo("12.34");
+		assertThat(found.get().get(0).getType()).isEqualTo(ReleaseTypeEnum.DESPESA);
+		assertThat(found.get().get(0).getUserId()).isEqualTo(USER_ID);
+	}
+
+	@Test
+	@DisplayName("MUST APPLY changes and survive a restart")
+	public void mustApplyChangesAndSurviveRestart() {
+		RecentReleaseStore store = createStore(10);
+		LocalDate today = LocalDate.now();
+		store.seed(USER_ID, Arrays.asList(release(1L, "Aluguel", today)), 5);
+
+		store.onReleaseChanged(event(ReleaseActionEnum.CRIADO, 2L, "Padaria", today));
+		store.onReleaseChanged(event(ReleaseActionEnum.STATUS_ATUALIZADO, 2L, "Padaria", today));
+		store.onReleaseChanged(event(ReleaseActionEnum.REMOVIDO, 1L, "Aluguel", today));
+
+		Mockito.when(generations.cached(USER_ID)).thenReturn(8L);
+		Optional<List<ReleasesDTO>> found = createStore(10).find(USER_ID, today.minusDays(30), today);
+		assertThat(found).isPresent();
+		assertThat(found.get()).hasSize(1);
+		assertThat(found.get().get(0).getDescription()).isEqualTo("Padaria");
+		assertThat(found.get().get(0).getStatus()).isEqualTo(ReleaseStatusEnum.EFETIVADO);
+	}
+
+	@Test
+	@DisplayName("MUST SERVE the newest releases of a user with more releases than the capacity")
+	public void mustServeNewestReleasesAboveCapacity() {
+		RecentReleaseStore store = createStore(3);
+		LocalDate today = LocalDate.now();
+		store.seed(USER_ID, Arrays.asList(release(6L, "Lançamento 6", today), release(5L, "Lançamento 5", today),
+				release(4L, "Lançamento 4", today)), 0);
+
+		assertThat(store.find(USER_ID, today.minusDays(30), today).get())
+				.extracting(ReleasesDTO::getId).containsExactly(6L, 5L, 4L);
+
+		Mockito.when(generations.cached(USER_ID)).thenReturn(1L);
+		store.onReleaseChanged(event(ReleaseActionEnum.CRIADO, 7L, "Lançamento 7", today));
+		assertThat(store.find(USER_ID, today.minusDays(30), today).get())
+				.extracting(ReleasesDTO::getId).containsExactly(7L, 6L, 5L);
+
+		Mockito.when(generations.cached(USER_ID)).thenReturn(2L);
+		store.onReleaseChanged(event(ReleaseActionEnum.ATUALIZADO, 2L, "Lançamento 2", today));
+		assertThat(store.find(USER_ID, today.minusDays(30), today).get())
+				.extracting(ReleasesDTO::getId).containsExactly(7L, 6L, 5L);
+		Mockito.verify(generations, Mockito.never()).current(USER_ID);
+	}
+
+	@Test
+	@DisplayName("MUST MISS when a release removed from a full ring may be replaced by an older one")
+	public void mustMissWhenRemovedReleaseMayBeReplaced() {
+		RecentReleaseStore store = createStore(3);
+		LocalDate today = LocalDate.now();
+		store.seed(USER_ID, Arrays.asList(release(6L, "Lançamento 6", today), release(5L, "Lançamento 5", today),
+				release(4L, "Lançamento 4", today)), 0);
+
+		Mockito.when(generations.cached(USER_ID)).thenReturn(1L);
+		store.onReleaseChanged(event(ReleaseActionEnum.REMOVIDO, 5L, "Lançamento 5", today));
+
+		assertThat(store.find(USER_ID, today.minusDays(30), today)).isEmpty();
+		assertThat(store.find(USER_ID, today.plusDays(1), today.plusDays(1))).isPresent();
+	}
+
+	@Test
+	@DisplayName("MUST MISS when the database has changes the ring did not apply")
+	public void mustMissWhenDatabaseIsAhead() {
+		RecentReleaseStore store = createStore(10);
+		LocalDate today = LocalDate.now();
+		store.seed(USER_ID, Arrays.asList(release(1L, "Aluguel", today)), 3);
+		store.onReleaseChanged(event(ReleaseActionEnum.CRIADO, 2L, "Padaria", today));
+
+		Mockito.when(generations.cached(USER_ID)).thenReturn(5L);
+		assertThat(store.find(USER_ID, today.minusDays(30), today)).isEmpty();
+		assertThat(createStore(10).find(USER_ID, today.minusDays(30), today)).isEmpty();
+
+		store.seed(USER_ID, Arrays.asList(release(1L, "Aluguel", today)), 5);
+		assertThat(store.find(USER_ID, today.minusDays(30), today)).isPresent();
+	}
+
+	@Test
+	@DisplayName("MUST SEED the ring with the generation read with the releases")
+	public void mustSeedWithGenerationReadWithReleases() {
+		RecentReleaseStore store = createStore(10);
+		LocalDate today = LocalDate.now();
+		Mockito.when(generations.read(Mockito.any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+		Mockito.when(generations.current(USER_ID)).thenReturn(4L);
+
+		List<ReleasesDTO> loaded = store.load(USER_ID, () -> Arrays.asList(release(1L, "Aluguel", today)));
+
+		Mockito.when(generations.cached(USER_ID)).thenReturn(4L);
+		assertThat(loaded).extracting(ReleasesDTO::getId).containsExactly(1L);
+		assertThat(store.find(USER_ID, today.minusDays(30), today).get()).extracting(ReleasesDTO::getId).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("MUST CLOSE evicted rings and reopen them from disk")
+	public void mustCloseEvictedRings() {
+		RecentReleaseStore store = new RecentReleaseStore(generations, true, directory.toString(), 10, 1);
+		LocalDate today = LocalDate.now();
+		store.seed(USER_ID, Arrays.asList(release(1L, "Aluguel", today)), 0);
+		store.seed(2L, Arrays.asList(release(2L, "Mercado", today)), 0);
+
+		store.onReleaseChanged(event(ReleaseActionEnum.CRIADO, 3L, "Padaria", today));
+
+		Mockito.when(generations.cached(USER_ID)).thenReturn(1L);
+		Optional<List<ReleasesDTO>> found = store.find(USER_ID, today.minusDays(30), today);
+		assertThat(found).isPresent();
+		assertThat(found.get()).extracting(ReleasesDTO::getId).containsExactly(3L, 1L);
+	}
+
+	private RecentReleaseStore createStore(int capacity) {
+		return new RecentReleaseStore(generations, true, directory.toString(), capacity, 10);
+	}
+
+	private ReleasesDTO release(Long id, String description, LocalDate createAt) {
+		return new ReleasesDTO(id, description, 1, 2022, new BigDecimal("12.34"), USER_ID, ReleaseTypeEnum.DESPESA,
+				ReleaseStatusEnum.PENDENTE, LocalDate.now(), createAt);
+	}
+
+	private ReleaseChangedEvent event(ReleaseActionEnum action, Long id, String description, LocalDate createAt) {
+		return ReleaseChangedEvent.builder()
+				.action(action)
+				.releaseId(id)
+				.userId(USER_ID)
+				.previousUserId(USER_ID)
+				.description(description)
+				.value(BigDecimal.TEN)
+				.type(ReleaseTypeEnum.RECEITA)
+				.status(action == ReleaseActionEnum.STATUS_ATUALIZADO ? ReleaseStatusEnum.EFETIVADO : ReleaseStatusEnum.PENDENTE)
+				.createAt(createAt)
+				.releaseDate(LocalDate.now())
+				.build();
+	}
+}
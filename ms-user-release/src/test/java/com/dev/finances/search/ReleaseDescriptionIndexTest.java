@@ -0,0 +1,175 @@
+package com.dev.finances.search;
+
+import com.dev.finances.etag.ReleaseGenerations;
+import com.dev.finances.event.ReleaseChangedEvent;
+import com.dev.finances.event.ReleasesArchivedEvent;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.enums.ReleaseActionEnum;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.repository.UserRepository;
+import com.dev.finances.repository.projection.ReleaseDescription;
+import com.dev.finances.repository.projection.UserGeneration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.dev.finances.model.repository.ReleaseRepositoryTest.createRelease;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Release description index tests")
+public class ReleaseDescriptionIndexTest {
+
+	ReleaseDescriptionIndex index;
+	ReleaseRepository repository;
+	Map<Long, Long> databaseGenerations = new HashMap<>();
+
+	@BeforeEach
+	public void setUp() {
+		repository = Mockito.mock(ReleaseRepository.class);
+		UserRepository userRepository = Mockito.mock(UserRepository.class);
+		ReleaseGenerations generations = Mockito.mock(ReleaseGenerations.class);
+		Mockito.when(repository.streamDescriptions()).thenReturn(Stream.empty());
+		Mockito.when(userRepository.findReleaseGenerations()).thenReturn(Arrays.asList(user(1L), user(2L), user(3L)));
+		Mockito.when(generations.cached(Mockito.anyLong()))
+				.thenAnswer(invocation -> databaseGenerations.getOrDefault(invocation.<Long>getArgument(0), 0L));
+		Mockito.when(generations.current(Mockito.anyLong()))
+				.thenAnswer(invocation -> databaseGenerations.getOrDefault(invocation.<Long>getArgument(0), 0L));
+		index = new ReleaseDescriptionIndex(repository, userRepository, generations,
+				Mockito.mock(PlatformTransactionManager.class), true);
+	}
+
+	@Test
+	@DisplayName("MUST NOT answer searches before the index is built")
+	public void mustNotAnswerBeforeBuilt() {
+		assertFalse(index.search(1L, "mercado").isPresent());
+	}
+
+	@Test
+	@DisplayName("MUST FIND releases containing the text ignoring case")
+	public void mustFindReleasesContainingText() {
+		index.rebuild();
+		change(event(ReleaseActionEnum.CRIADO, 1L, 1L, "Mercado Central"));
+		change(event(ReleaseActionEnum.CRIADO, 2L, 1L, "Supermercado"));
+		change(event(ReleaseActionEnum.CRIADO, 3L, 1L, "Farmácia"));
+		change(event(ReleaseActionEnum.CRIADO, 4L, 2L, "Mercado"));
+
+		assertEquals(List.of(1L, 2L), index.search(1L, "MERCADO").get());
+		assertEquals(List.of(3L), index.search(1L, "má").get());
+		assertTrue(index.search(1L, "cadomer").get().isEmpty());
+		assertTrue(index.search(3L, "mercado").get().isEmpty());
+	}
+
+	@Test
+	@DisplayName("MUST KEEP the index in sync with updates and removals")
+	public void mustKeepIndexInSync() {
+		index.rebuild();
+		change(event(ReleaseActionEnum.CRIADO, 1L, 1L, "Aluguel"));
+		change(event(ReleaseActionEnum.ATUALIZADO, 1L, 1L, "Condomínio"));
+		change(event(ReleaseActionEnum.CRIADO, 2L, 1L, "Aluguel garagem"));
+
+		assertEquals(List.of(2L), index.search(1L, "aluguel").get());
+
+		change(event(ReleaseActionEnum.REMOVIDO, 2L, 1L, "Aluguel garagem"));
+
+		assertTrue(index.search(1L, "aluguel").get().isEmpty());
+		assertEquals(List.of(1L), index.search(1L, "condo").get());
+	}
+
+	@Test
+	@DisplayName("MUST RETURN the candidates ordered by id")
+	public void mustReturnCandidatesOrderedById() {
+		index.rebuild();
+		for (long id : new long[]{2048L, 7L, 1500L, 3L, 999L})
+			change(event(ReleaseActionEnum.CRIADO, id, 1L, "Mercado " + id));
+
+		assertEquals(List.of(3L, 7L, 999L, 1500L, 2048L), index.search(1L, "mercado").get());
+		assertEquals(List.of(3L, 7L, 999L, 1500L, 2048L), index.search(1L, "me").get());
+	}
+
+	@Test
+	@DisplayName("MUST REINDEX a user changed by another instance")
+	public void mustReindexUserChangedElsewhere() {
+		index.rebuild();
+		change(event(ReleaseActionEnum.CRIADO, 1L, 1L, "Mercado"));
+		assertEquals(List.of(1L), index.search(1L, "mercado").get());
+
+		databaseGenerations.merge(1L, 1L, Long::sum);
+		Mockito.when(repository.findDescriptionsByUser(1L))
+				.thenReturn(Arrays.asList(description(1L, 1L, "Mercado"), description(9L, 1L, "Mercado do bairro")));
+
+		assertEquals(List.of(1L, 9L), index.search(1L, "mercado").get());
+		assertEquals(List.of(1L, 9L), index.search(1L, "mercado").get());
+		Mockito.verify(repository, Mockito.times(1)).findDescriptionsByUser(1L);
+	}
+
+	@Test
+	@DisplayName("MUST REMOVE archived releases from the index")
+	public void mustRemoveArchivedReleases() {
+		index.rebuild();
+		change(event(ReleaseActionEnum.CRIADO, 1L, 1L, "Aluguel"));
+		change(event(ReleaseActionEnum.CRIADO, 2L, 1L, "Aluguel garagem"));
+
+		index.onReleasesArchived(new ReleasesArchivedEvent(Collections.singletonMap(1L, List.of(1L))));
+		databaseGenerations.merge(1L, 1L, Long::sum);
+
+		assertEquals(List.of(2L), index.search(1L, "aluguel").get());
+		Mockito.verify(repository, Mockito.never()).findDescriptionsByUser(1L);
+	}
+
+	private void change(ReleaseChangedEvent event) {
+		index.onReleaseChanged(event);
+		databaseGenerations.merge(event.getUserId(), 1L, Long::sum);
+	}
+
+	private UserGeneration user(Long id) {
+		return new UserGeneration() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public Long getReleaseGeneration() {
+				return 0L;
+			}
+		};
+	}
+
+	private ReleaseDescription description(Long id, Long userId, String description) {
+		return new ReleaseDescription() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public Long getUserId() {
+				return userId;
+			}
+
+			@Override
+			public String getDescription() {
+				return description;
+			}
+		};
+	}
+
+	private ReleaseChangedEvent event(ReleaseActionEnum action, Long id, Long userId, String description) {
+		Release release = createRelease();
+		release.setId(id);
+		release.getUser().setId(userId);
+		release.setDescription(description);
+		return ReleaseChangedEvent.of(action, release, userId);
+	}
+}
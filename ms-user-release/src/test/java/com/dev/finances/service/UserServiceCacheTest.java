@@ -0,0 +1,94 @@
+package com.dev.finances.service;
+
+import com.dev.finances.config.CacheConfig;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.repository.UserRepository;
+import com.dev.finances.service.impl.UserServiceImpl;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Optional;
+
+import static com.dev.finances.service.UserServiceTest.createUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(SpringExtension.class)
+public class UserServiceCacheTest {
+
+	@Configuration
+	@Import({CacheConfig.class, UserServiceImpl.class})
+	static class Config {
+
+		@Bean
+		CacheManager cacheManager() {
+			CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.USERS_BY_ID, CacheConfig.USERS_BY_EMAIL);
+			cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(10));
+			return cacheManager;
+		}
+	}
+
+	@Autowired
+	UserService service;
+
+	@Autowired
+	CacheManager cacheManager;
+
+	@MockBean
+	UserRepository repository;
+
+	@BeforeEach
+	public void setUp() {
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+	}
+
+	@Test
+	public void deveBuscarUsuarioPorIdApenasUmaVezNoBanco() {
+		Mockito.when(repository.findById(1L)).thenReturn(Optional.of(createUser()));
+
+		service.getById(1L);
+		Optional<User> user = service.getById(1L);
+
+		assertTrue(user.isPresent());
+		Mockito.verify(repository, Mockito.times(1)).findById(1L);
+	}
+
+	@Test
+	public void naoDeveGuardarUsuarioInexistente() {
+		Mockito.when(repository.findById(2L)).thenReturn(Optional.empty());
+
+		service.getById(2L);
+		service.getById(2L);
+
+		Mockito.verify(repository, Mockito.times(2)).findById(2L);
+	}
+
+	@Test
+	public void deveInvalidarOCacheAoSalvarUsuario() {
+		User user = createUser();
+		Mockito.when(repository.findById(1L)).thenReturn(Optional.of(user));
+		Mockito.when(repository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+		Mockito.when(repository.save(Mockito.any(User.class))).thenReturn(user);
+
+		service.getById(1L);
+		service.findByEmail(user.getEmail());
+		service.save(user);
+		service.getById(1L);
+		service.findByEmail(user.getEmail());
+
+		Mockito.verify(repository, Mockito.times(2)).findById(1L);
+		Mockito.verify(repository, Mockito.times(2)).findByEmail(user.getEmail());
+		assertEquals(user.getEmail(), service.findByEmail(user.getEmail()).getEmail());
+	}
+}
@@ -0,0 +1,115 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.DashboardDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.exception.DashboardTimeoutException;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.service.ReleaseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Dashboard service tests")
+public class DashboardServiceImplTest {
+
+	private static final Long USER_ID = 1L;
+
+	ReleaseService releaseService;
+	DashboardServiceImpl dashboardService;
+
+	@BeforeEach
+	public void setUp() {
+		releaseService = Mockito.mock(ReleaseService.class);
+		dashboardService = new DashboardServiceImpl(releaseService, 3, 10, 5000);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		dashboardService.shutdown();
+	}
+
+	@Test
+	@DisplayName("MUST LOAD the dashboard sections concurrently")
+	public void mustLoadSectionsConcurrently() {
+		CountDownLatch started = new CountDownLatch(3);
+		List<ReleasesDTO> lastReleases = Collections.singletonList(new ReleasesDTO());
+		Mockito.when(releaseService.getExtractByReleaseType(USER_ID, ReleaseTypeEnum.RECEITA))
+				.thenAnswer(awaitAll(started, BigDecimal.valueOf(300)));
+		Mockito.when(releaseService.getExtractByReleaseType(USER_ID, ReleaseTypeEnum.DESPESA))
+				.thenAnswer(awaitAll(started, BigDecimal.valueOf(120)));
+		Mockito.when(releaseService.lastReleases(USER_ID)).thenAnswer(awaitAll(started, lastReleases));
+
+		DashboardDTO dashboard = dashboardService.getDashboard(USER_ID);
+
+		assertThat(dashboard.getBalance()).isEqualByComparingTo("180");
+		assertThat(dashboard.getReceitas()).isEqualByComparingTo("300");
+		assertThat(dashboard.getDespesas()).isEqualByComparingTo("120");
+		assertThat(dashboard.getLastReleases()).isSameAs(lastReleases);
+		assertThat(dashboard.getLatencyMillis()).containsOnlyKeys(DashboardServiceImpl.RECEITAS,
+				DashboardServiceImpl.DESPESAS, DashboardServiceImpl.LAST_RELEASES);
+		Mockito.verify(releaseService, Mockito.never()).getBalanceByUser(USER_ID);
+	}
+
+	@Test
+	@DisplayName("MUST PROPAGATE the error of a failed section")
+	public void mustPropagateSectionError() {
+		Mockito.when(releaseService.getExtractByReleaseType(USER_ID, ReleaseTypeEnum.RECEITA)).thenReturn(BigDecimal.ONE);
+		Mockito.when(releaseService.getExtractByReleaseType(USER_ID, ReleaseTypeEnum.DESPESA))
+				.thenThrow(new BusinessException("Erro ao consultar o extrato."));
+
+		assertThrows(BusinessException.class, () -> dashboardService.getDashboard(USER_ID));
+	}
+
+	@Test
+	@DisplayName("MUST FAIL when the dashboard is not loaded in time")
+	public void mustFailWhenDashboardTimesOut() {
+		dashboardService.shutdown();
+		dashboardService = new DashboardServiceImpl(releaseService, 3, 10, 50);
+		Mockito.when(releaseService.lastReleases(USER_ID)).thenAnswer(invocation -> {
+			Thread.sleep(5000);
+			return Collections.emptyList();
+		});
+
+		assertThrows(DashboardTimeoutException.class, () -> dashboardService.getDashboard(USER_ID));
+	}
+
+	@Test
+	@DisplayName("MUST INTERRUPT the sections still running when the dashboard times out")
+	public void mustInterruptSectionsOnTimeout() throws InterruptedException {
+		dashboardService.shutdown();
+		dashboardService = new DashboardServiceImpl(releaseService, 3, 10, 50);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		Mockito.when(releaseService.lastReleases(USER_ID)).thenAnswer(invocation -> {
+			try {
+				Thread.sleep(5000);
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return Collections.emptyList();
+		});
+
+		assertThrows(DashboardTimeoutException.class, () -> dashboardService.getDashboard(USER_ID));
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	private static <T> Answer<T> awaitAll(CountDownLatch started, T result) {
+		return invocation -> {
+			started.countDown();
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			return result;
+		};
+	}
+}
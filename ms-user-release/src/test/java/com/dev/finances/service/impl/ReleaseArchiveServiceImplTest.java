@@ -0,0 +1,173 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.CursorPageResponseDTO;
+import com.dev.finances.api.dto.PaginatedResponseDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.etag.ReleaseGenerations;
+import com.dev.finances.model.entity.ArchivedRelease;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.recent.RecentReleaseStore;
+import com.dev.finances.repository.ArchivedReleaseRepository;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.search.ReleaseDescriptionIndex;
+import com.dev.finances.service.ReleaseArchiveService;
+import com.dev.finances.service.ReleaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.dev.finances.model.repository.ReleaseRepositoryTest.createRelease;
+import static com.dev.finances.model.repository.UserRepositoryTest.criarUsuario;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Release archive tests")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({ReleaseServiceImpl.class, ReleaseArchiveServiceImpl.class, ReleaseDailyBalanceServiceImpl.class,
+		ReleaseDescriptionIndex.class, RecentReleaseStore.class, ReleaseGenerations.class})
+@TestPropertySource(properties = {"release.search.index.enabled=false", "release.archive.horizon-days=365"})
+public class ReleaseArchiveServiceImplTest {
+
+	@Autowired
+	ReleaseArchiveService archiveService;
+
+	@Autowired
+	ReleaseService releaseService;
+
+	@Autowired
+	ReleaseRepository releaseRepository;
+
+	@Autowired
+	ArchivedReleaseRepository archiveRepository;
+
+	@Autowired
+	TestEntityManager entityManager;
+
+	User user;
+	LocalDate old;
+
+	@BeforeEach
+	public void setUp() {
+		user = entityManager.persist(criarUsuario());
+		old = archiveService.getHorizon().minusDays(10);
+	}
+
+	@Test
+	@DisplayName("MUST ARCHIVE only settled releases older than the horizon")
+	public void mustArchiveOnlySettledReleasesOlderThanHorizon() {
+		Release settled = persist("Aluguel", old, ReleaseStatusEnum.EFETIVADO);
+		Release canceled = persist("Cinema", old, ReleaseStatusEnum.CANCELADO);
+		Release pending = persist("Conta", old, ReleaseStatusEnum.PENDENTE);
+		Release recent = persist("Mercado", LocalDate.now(), ReleaseStatusEnum.EFETIVADO);
+		Release recentPeriod = persist("Farmácia", old, ReleaseStatusEnum.EFETIVADO);
+		recentPeriod.setAno(LocalDate.now().getYear());
+		entityManager.flush();
+
+		List<Long> archived = archiveService.archive(0L, 100);
+		entityManager.clear();
+
+		assertThat(archived).containsExactly(settled.getId(), canceled.getId());
+		assertThat(archiveRepository.findAll()).extracting(ArchivedRelease::getId).containsExactlyInAnyOrder(settled.getId(), canceled.getId());
+		assertThat(archiveRepository.findById(settled.getId()).get().getUserId()).isEqualTo(user.getId());
+		assertThat(releaseRepository.findAll()).extracting(Release::getId)
+				.contains(pending.getId(), recent.getId(), recentPeriod.getId())
+				.doesNotContain(settled.getId(), canceled.getId());
+	}
+
+	@Test
+	@DisplayName("MUST ARCHIVE in chunks after the last archived id")
+	public void mustArchiveInChunks() {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 5; i++)
+			ids.add(persist("Lançamento " + i, old, ReleaseStatusEnum.EFETIVADO).getId());
+
+		List<Long> first = archiveService.archive(0L, 2);
+		List<Long> second = archiveService.archive(first.get(1), 2);
+		List<Long> third = archiveService.archive(second.get(1), 2);
+
+		assertThat(first).containsExactlyElementsOf(ids.subList(0, 2));
+		assertThat(second).containsExactlyElementsOf(ids.subList(2, 4));
+		assertThat(third).containsExactlyElementsOf(ids.subList(4, 5));
+		assertThat(archiveService.archive(third.get(0), 2)).isEmpty();
+		assertThat(releaseRepository.countByUser(user.getId())).isZero();
+	}
+
+	@Test
+	@DisplayName("MUST READ archived releases transparently")
+	public void mustReadArchivedReleasesTransparently() {
+		Release archived = persist("Supermercado antigo", old, ReleaseStatusEnum.EFETIVADO);
+		Release hot = persist("Supermercado", LocalDate.now(), ReleaseStatusEnum.PENDENTE);
+		archiveService.archive(0L, 100);
+		entityManager.clear();
+
+		Release filter = new Release();
+		filter.setUser(User.builder().id(user.getId()).build());
+		filter.setDescription("mercado");
+		assertThat(releaseService.find(filter)).extracting(ReleasesDTO::getId).containsExactly(archived.getId(), hot.getId());
+
+		filter.setAno(LocalDate.now().getYear() + 1);
+		assertThat(releaseService.find(filter)).isEmpty();
+
+		assertThat(releaseService.findDtoById(archived.getId())).isPresent();
+	}
+
+	@Test
+	@DisplayName("MUST PAGINATE over hot and archived releases")
+	public void mustPaginateOverHotAndArchivedReleases() {
+		List<Long> expected = new ArrayList<>();
+		for (int i = 0; i < 3; i++)
+			expected.add(persist("Recente " + i, LocalDate.now().minusDays(i), ReleaseStatusEnum.PENDENTE).getId());
+		for (int i = 0; i < 3; i++)
+			expected.add(persist("Antigo " + i, old.minusDays(i), ReleaseStatusEnum.EFETIVADO).getId());
+		Release pendingOld = persist("Antigo pendente", old.minusDays(1), ReleaseStatusEnum.PENDENTE);
+		expected.add(4, pendingOld.getId());
+		archiveService.archive(0L, 100);
+		entityManager.clear();
+
+		List<Long> paginated = new ArrayList<>();
+		for (int page = 0; page < 4; page++) {
+			PaginatedResponseDTO<ReleasesDTO> response = releaseService.getReleasesPaginated(user.getId(), page, 2);
+			assertThat(response.getTotalRecords()).isEqualTo(7);
+			response.getItems().forEach(release -> paginated.add(release.getId()));
+		}
+
+		List<Long> cursored = new ArrayList<>();
+		String cursor = null;
+		do {
+			CursorPageResponseDTO<ReleasesDTO> response = releaseService.getReleasesByCursor(user.getId(), cursor, 2, false);
+			response.getItems().forEach(release -> cursored.add(release.getId()));
+			cursor = response.getNextCursor();
+		} while (cursor != null);
+
+		assertThat(paginated).containsExactlyElementsOf(expected);
+		assertThat(cursored).containsExactlyElementsOf(expected);
+	}
+
+	private Release persist(String description, LocalDate date, ReleaseStatusEnum status) {
+		Release release = createRelease();
+		release.setUser(user);
+		release.setDescription(description);
+		release.setReleaseDate(date);
+		release.setCreateAt(date);
+		release.setStatus(status);
+		return entityManager.persist(release);
+	}
+}
@@ -0,0 +1,142 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.BulkItemResultDTO;
+import com.dev.finances.api.dto.BulkResponseDTO;
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.etag.ReleaseGenerations;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.recent.RecentReleaseStore;
+import com.dev.finances.search.ReleaseDescriptionIndex;
+import com.dev.finances.service.ReleaseBulkService;
+import com.dev.finances.service.ReleaseService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.dev.finances.model.repository.ReleaseRepositoryTest.createRelease;
+import static com.dev.finances.model.repository.UserRepositoryTest.criarUsuario;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Release bulk service tests")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({ReleaseBulkServiceImpl.class, ReleaseServiceImpl.class, ReleaseArchiveServiceImpl.class, ReleaseDailyBalanceServiceImpl.class,
+		UserServiceImpl.class, ReleaseDescriptionIndex.class,
+		RecentReleaseStore.class, ReleaseGenerations.class})
+public class ReleaseBulkServiceImplTest {
+
+	@Autowired
+	ReleaseBulkService bulkService;
+
+	@Autowired
+	ReleaseService releaseService;
+
+	@Autowired
+	ReleaseRepository releaseRepository;
+
+	@Autowired
+	TestEntityManager entityManager;
+
+	@Test
+	@DisplayName("MUST CREATE valid releases in batches and report invalid ones")
+	public void mustCreateValidReleasesAndReportInvalidOnes() {
+		User user = entityManager.persist(criarUsuario());
+		List<Release> releases = new ArrayList<>();
+		for (int i = 0; i < 120; i++) {
+			Release release = createRelease();
+			release.setUser(user);
+			releases.add(release);
+		}
+		releases.get(7).setDescription(" ");
+
+		BulkResponseDTO response = bulkService.saveAll(releases);
+
+		assertThat(response.getSucceeded()).isEqualTo(119);
+		assertThat(response.getFailed()).isEqualTo(1);
+		assertThat(response.getItems().get(7).isSuccess()).isFalse();
+		assertThat(response.getItems().get(7).getMessage()).isEqualTo("Informe uma Descrição válida.");
+		assertThat(response.getItems()).filteredOn(item -> item.isSuccess()).allMatch(item -> item.getId() != null);
+		assertThat(releaseRepository.countByUser(user.getId())).isEqualTo(119);
+	}
+
+	@Test
+	@DisplayName("MUST UPDATE the status of many releases of the user and report the unknown ones")
+	public void mustUpdateStatusOfManyReleases() {
+		User user = entityManager.persist(criarUsuario());
+		User other = entityManager.persist(User.builder().name("outro").email("outro@email.com").build());
+		List<Long> ids = persist(user, 3);
+		Long otherId = persist(other, 1).get(0);
+		List<Long> request = new ArrayList<>(ids);
+		request.add(otherId);
+		request.add(-1L);
+
+		BulkResponseDTO response = bulkService.updateStatus(user.getId(), request, ReleaseStatusEnum.EFETIVADO);
+		entityManager.clear();
+
+		assertThat(response.getSucceeded()).isEqualTo(3);
+		assertThat(response.getFailed()).isEqualTo(2);
+		assertThat(response.getItems()).extracting(BulkItemResultDTO::getId).containsExactlyElementsOf(request);
+		assertThat(response.getItems().get(3).getMessage()).isEqualTo("Lançamento não encontrado na base de dados.");
+		assertThat(releaseRepository.findAllById(ids)).extracting(Release::getStatus).containsOnly(ReleaseStatusEnum.EFETIVADO);
+		assertThat(releaseRepository.findById(otherId).get().getStatus()).isEqualTo(ReleaseStatusEnum.PENDENTE);
+		assertThat(releaseService.getExtractByReleaseType(user.getId(), ReleaseTypeEnum.RECEITA)).isEqualByComparingTo("30");
+	}
+
+	@Test
+	@DisplayName("MUST DELETE many releases of the user")
+	public void mustDeleteManyReleases() {
+		User user = entityManager.persist(criarUsuario());
+		List<Long> ids = persist(user, 4);
+
+		BulkResponseDTO response = bulkService.deleteAll(user.getId(), ids.subList(0, 3));
+		entityManager.clear();
+
+		assertThat(response.getSucceeded()).isEqualTo(3);
+		assertThat(releaseRepository.findAll()).extracting(Release::getId).containsExactly(ids.get(3));
+	}
+
+	@Test
+	@DisplayName("MUST GET many releases of the user in the requested order")
+	public void mustGetManyReleases() {
+		User user = entityManager.persist(criarUsuario());
+		User other = entityManager.persist(User.builder().name("outro").email("outro@email.com").build());
+		List<Long> ids = persist(user, 3);
+		Long otherId = persist(other, 1).get(0);
+
+		List<ReleasesDTO> releases = releaseService.findDtosByIds(user.getId(),
+				Arrays.asList(ids.get(2), otherId, ids.get(0), ids.get(2)));
+
+		assertThat(releases).extracting(ReleasesDTO::getId).containsExactly(ids.get(2), ids.get(0));
+	}
+
+	private List<Long> persist(User user, int count) {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Release release = createRelease();
+			release.setUser(user);
+			release.setCreateAt(LocalDate.now());
+			ids.add(entityManager.persist(release).getId());
+		}
+		entityManager.flush();
+		return ids;
+	}
+}
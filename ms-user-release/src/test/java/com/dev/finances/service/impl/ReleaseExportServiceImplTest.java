@@ -0,0 +1,96 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.model.enums.ExportFormatEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.repository.ArchivedReleaseRepository;
+import com.dev.finances.repository.ReleaseRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Release export service tests")
+public class ReleaseExportServiceImplTest {
+
+	ReleaseRepository releaseRepository;
+	ArchivedReleaseRepository archiveRepository;
+	ReleaseExportServiceImpl exportService;
+
+	@BeforeEach
+	public void setUp() {
+		releaseRepository = Mockito.mock(ReleaseRepository.class);
+		archiveRepository = Mockito.mock(ArchivedReleaseRepository.class);
+		exportService = new ReleaseExportServiceImpl(releaseRepository, archiveRepository, new ObjectMapper());
+	}
+
+	@Test
+	@DisplayName("MUST EXPORT releases as CSV escaping descriptions")
+	public void mustExportReleasesAsCsv() throws Exception {
+		Mockito.when(releaseRepository.streamByUser(1L)).thenReturn(Stream.of(
+				createDTO(1L, "Salário"),
+				createDTO(2L, "Mercado; \"feira\"")));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		long rows = exportService.export(1L, ExportFormatEnum.CSV, output);
+
+		assertEquals(2, rows);
+		assertEquals("id;description;mouth;year;value;type;status;releaseDate\n" +
+				"1;Salário;1;2022;10;RECEITA;PENDENTE;01/01/2022\n" +
+				"2;\"Mercado; \"\"feira\"\"\";1;2022;10;RECEITA;PENDENTE;01/01/2022\n",
+				output.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("MUST EXPORT releases as one JSON document per line")
+	public void mustExportReleasesAsNdjson() throws Exception {
+		Mockito.when(releaseRepository.streamByUser(1L)).thenReturn(Stream.of(createDTO(1L, "a"), createDTO(2L, "b")));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		exportService.export(1L, ExportFormatEnum.NDJSON, output);
+
+		String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(2, lines.length);
+		assertEquals(2L, new ObjectMapper().readValue(lines[1], ReleasesDTO.class).getId());
+	}
+
+	@Test
+	@DisplayName("MUST EXPORT hot and archived releases ordered by id")
+	public void mustExportHotAndArchivedReleasesOrderedById() throws Exception {
+		Mockito.when(releaseRepository.streamByUser(1L)).thenReturn(Stream.of(createDTO(2L, "b"), createDTO(5L, "e")));
+		Mockito.when(archiveRepository.streamByUser(1L)).thenReturn(Stream.of(createDTO(1L, "a"), createDTO(3L, "c")));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		long rows = exportService.export(1L, ExportFormatEnum.CSV, output);
+
+		assertEquals(4, rows);
+		String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals("1;a", lines[1].substring(0, 3));
+		assertEquals("2;b", lines[2].substring(0, 3));
+		assertEquals("3;c", lines[3].substring(0, 3));
+		assertEquals("5;e", lines[4].substring(0, 3));
+	}
+
+	private ReleasesDTO createDTO(Long id, String description) {
+		return ReleasesDTO.builder()
+				.id(id)
+				.description(description)
+				.mouth(1)
+				.year(2022)
+				.value(BigDecimal.TEN)
+				.userId(1L)
+				.type(ReleaseTypeEnum.RECEITA)
+				.status(ReleaseStatusEnum.PENDENTE)
+				.releaseDate("01/01/2022")
+				.build();
+	}
+}
@@ -0,0 +1,144 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.api.dto.ReleasesDTO;
+import com.dev.finances.etag.ReleaseGenerations;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.recent.RecentReleaseStore;
+import com.dev.finances.search.ReleaseDescriptionIndex;
+import com.dev.finances.service.ReleaseService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static com.dev.finances.model.repository.ReleaseRepositoryTest.createRelease;
+import static com.dev.finances.model.repository.UserRepositoryTest.criarUsuario;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Release read path statement count tests")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({ReleaseServiceImpl.class, ReleaseArchiveServiceImpl.class, ReleaseDailyBalanceServiceImpl.class,
+		ReleaseDescriptionIndex.class, RecentReleaseStore.class, ReleaseGenerations.class})
+@TestPropertySource(properties = "release.search.index.enabled=false")
+public class ReleaseReadQueryCountTest {
+
+	@Autowired
+	ReleaseService releaseService;
+
+	@Autowired
+	TestEntityManager entityManager;
+
+	User user;
+	Release release;
+	Statistics statistics;
+
+	@BeforeEach
+	public void setUp() {
+		user = entityManager.persist(criarUsuario());
+		for (int i = 0; i < 5; i++) {
+			Release other = createRelease();
+			other.setUser(user);
+			other.setCreateAt(LocalDate.now());
+			entityManager.persist(other);
+		}
+		release = createRelease();
+		release.setUser(user);
+		release.setDescription("Supermercado");
+		release.setAno(LocalDate.now().getYear());
+		release.setCreateAt(LocalDate.now());
+		entityManager.persist(release);
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	@DisplayName("MUST GET a release by id with a single statement")
+	public void mustGetReleaseByIdWithSingleStatement() {
+		Optional<ReleasesDTO> found = releaseService.findDtoById(release.getId());
+
+		assertThat(found).isPresent();
+		assertThat(found.get().getUserId()).isEqualTo(user.getId());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("MUST FILTER releases with a single statement")
+	public void mustFilterReleasesWithSingleStatement() {
+		Release filter = new Release();
+		filter.setUser(User.builder().id(user.getId()).build());
+		filter.setDescription("MERCADO");
+		filter.setAno(LocalDate.now().getYear());
+
+		List<ReleasesDTO> found = releaseService.find(filter);
+
+		assertThat(found).extracting(ReleasesDTO::getId).containsExactly(release.getId());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("MUST FILTER releases without a period in the hot and archive tables")
+	public void mustFilterReleasesWithoutPeriodInHotAndArchiveTables() {
+		Release filter = new Release();
+		filter.setUser(User.builder().id(user.getId()).build());
+		filter.setDescription("MERCADO");
+
+		List<ReleasesDTO> found = releaseService.find(filter);
+
+		assertThat(found).extracting(ReleasesDTO::getId).containsExactly(release.getId());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("MUST LIST the last releases with a single statement")
+	public void mustListLastReleasesWithSingleStatement() {
+		List<ReleasesDTO> found = releaseService.lastReleases(user.getId());
+
+		assertThat(found).hasSize(6);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("MUST PAGINATE releases with a select and a count")
+	public void mustPaginateReleasesWithSelectAndCount() {
+		releaseService.getReleasesPaginated(user.getId(), 0, 2);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("MUST PAGINATE releases by cursor with a single statement")
+	public void mustPaginateReleasesByCursorWithSingleStatement() {
+		releaseService.getReleasesByCursor(user.getId(), null, 2, false);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+}
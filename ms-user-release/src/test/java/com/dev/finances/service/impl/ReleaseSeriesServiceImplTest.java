@@ -0,0 +1,149 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.etag.ReleaseGenerations;
+import com.dev.finances.exception.BusinessException;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.ReleaseSeries;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.recent.RecentReleaseStore;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.search.ReleaseDescriptionIndex;
+import com.dev.finances.service.ReleaseSeriesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.dev.finances.model.repository.UserRepositoryTest.criarUsuario;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Release series service tests")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({ReleaseSeriesServiceImpl.class, ReleaseBulkServiceImpl.class, ReleaseServiceImpl.class, ReleaseArchiveServiceImpl.class,
+		ReleaseDailyBalanceServiceImpl.class, ReleaseDescriptionIndex.class, RecentReleaseStore.class, ReleaseGenerations.class})
+@TestPropertySource(properties = {"release.search.index.enabled=false", "release.series.months-ahead=2"})
+public class ReleaseSeriesServiceImplTest {
+
+	@Autowired
+	ReleaseSeriesService seriesService;
+
+	@Autowired
+	ReleaseRepository releaseRepository;
+
+	@Autowired
+	TestEntityManager entityManager;
+
+	User user;
+
+	@BeforeEach
+	public void setUp() {
+		user = entityManager.persist(criarUsuario());
+	}
+
+	@Test
+	@DisplayName("MUST EXPAND an installment purchase into all its releases")
+	public void mustExpandInstallments() {
+		ReleaseSeries series = seriesService.save(series(LocalDate.of(2022, 1, 31), 12));
+		entityManager.clear();
+
+		List<Release> releases = releases();
+		assertThat(releases).hasSize(12);
+		assertThat(releases.get(0).getDescription()).isEqualTo("Notebook (1/12)");
+		assertThat(releases.get(11).getDescription()).isEqualTo("Notebook (12/12)");
+		assertThat(releases.get(1).getReleaseDate()).isEqualTo(LocalDate.of(2022, 2, 28));
+		assertThat(releases.get(2).getReleaseDate()).isEqualTo(LocalDate.of(2022, 3, 31));
+		assertThat(releases.get(11).getMes()).isEqualTo(12);
+		assertThat(releases.get(11).getAno()).isEqualTo(2022);
+		assertThat(releases).extracting(Release::getStatus).containsOnly(ReleaseStatusEnum.PENDENTE);
+		assertThat(series.isComplete()).isTrue();
+		assertThat(seriesService.extend(0L, 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("MUST GENERATE a recurring release up to the months ahead and extend it later")
+	public void mustGenerateAndExtendRecurringReleases() {
+		LocalDate first = LocalDate.now().minusMonths(3);
+		ReleaseSeries series = seriesService.save(series(first, null));
+
+		assertThat(releaseRepository.countByUser(user.getId())).isEqualTo(6);
+		assertThat(series.getNextReleaseDate()).isEqualTo(first.plusMonths(6));
+		assertThat(seriesService.extend(0L, 10)).isEmpty();
+
+		ReleaseSeries late = entityManager.find(ReleaseSeries.class, series.getId());
+		late.setGeneratedCount(4);
+		late.setNextReleaseDate(first.plusMonths(4));
+		entityManager.flush();
+		releaseRepository.deleteAll(releases().subList(4, 6));
+		entityManager.flush();
+
+		assertThat(seriesService.extend(0L, 10)).containsExactly(series.getId());
+		entityManager.clear();
+		assertThat(releases()).extracting(Release::getReleaseDate)
+				.containsExactly(first, first.plusMonths(1), first.plusMonths(2), first.plusMonths(3), first.plusMonths(4),
+						first.plusMonths(5));
+	}
+
+	@Test
+	@DisplayName("MUST NOT EXTEND a stopped series")
+	public void mustNotExtendStoppedSeries() {
+		ReleaseSeries series = seriesService.save(series(LocalDate.now().plusMonths(6), null));
+		assertThat(releaseRepository.countByUser(user.getId())).isZero();
+
+		ReleaseSeries stale = ReleaseSeries.builder().id(series.getId()).build();
+		seriesService.stop(stale);
+		entityManager.clear();
+
+		ReleaseSeries stopped = entityManager.find(ReleaseSeries.class, series.getId());
+		assertThat(stopped.getActive()).isFalse();
+		assertThat(stopped.getDescription()).isEqualTo(series.getDescription());
+		assertThat(seriesService.extend(0L, 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("MUST VALIDATE the series before generating releases")
+	public void mustValidateSeries() {
+		assertThrows(BusinessException.class, () -> seriesService.save(series(LocalDate.now(), 1)));
+		assertThrows(BusinessException.class, () -> seriesService.save(series(null, 12)));
+
+		ReleaseSeries withoutValue = series(LocalDate.now(), 12);
+		withoutValue.setValue(null);
+		BusinessException exception = assertThrows(BusinessException.class, () -> seriesService.save(withoutValue));
+		assertThat(exception.getMessage()).isEqualTo("Informe um Valor válido.");
+		assertThat(releaseRepository.countByUser(user.getId())).isZero();
+	}
+
+	private ReleaseSeries series(LocalDate firstReleaseDate, Integer installments) {
+		return ReleaseSeries.builder()
+				.description(installments == null ? "Salário" : "Notebook")
+				.value(BigDecimal.valueOf(250))
+				.type(installments == null ? ReleaseTypeEnum.RECEITA : ReleaseTypeEnum.DESPESA)
+				.user(user)
+				.firstReleaseDate(firstReleaseDate)
+				.installments(installments)
+				.build();
+	}
+
+	private List<Release> releases() {
+		return releaseRepository.findAll(Sort.by("releaseDate", "id"));
+	}
+}
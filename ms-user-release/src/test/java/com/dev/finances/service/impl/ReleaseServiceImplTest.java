@@ -1,13 +1,18 @@
 package com.dev.finances.service.impl;
 
+import com.dev.finances.api.dto.ReleasesDTO;
 import com.dev.finances.exception.BusinessException;
 import com.dev.finances.model.entity.Release;
 import com.dev.finances.model.entity.User;
 import com.dev.finances.model.enums.ReleaseStatusEnum;
 import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.recent.RecentReleaseStore;
+import com.dev.finances.repository.ArchivedReleaseRepository;
 import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.search.ReleaseDescriptionIndex;
+import com.dev.finances.service.ReleaseArchiveService;
+import com.dev.finances.service.ReleaseDailyBalanceService;
 import com.dev.finances.service.ReleaseService;
-import com.dev.finances.service.UserService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,7 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Example;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -46,15 +51,24 @@ public class ReleaseServiceImplTest {
 	public static final String ENTER_A_VALID_USER = "Informe um Usuário.";
 
 	ReleaseRepository releaseRepository;
+	ArchivedReleaseRepository archiveRepository;
+	ReleaseArchiveService archiveService;
 	ReleaseService releaseService;
-	UserService userService;
-
+	ReleaseDailyBalanceService dailyBalanceService;
+	ApplicationEventPublisher eventPublisher;
+	ReleaseDescriptionIndex descriptionIndex;
+	RecentReleaseStore recentStore;
 
 	@BeforeEach
 	public void setUp() {
 		releaseRepository = Mockito.mock(ReleaseRepository.class);
-		userService = Mockito.mock(UserService.class);
-		releaseService = new ReleaseServiceImpl(userService, releaseRepository);
+		archiveRepository = Mockito.mock(ArchivedReleaseRepository.class);
+		archiveService = Mockito.mock(ReleaseArchiveService.class);
+		dailyBalanceService = Mockito.mock(ReleaseDailyBalanceService.class);
+		eventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+		descriptionIndex = Mockito.mock(ReleaseDescriptionIndex.class);
+		recentStore = Mockito.mock(RecentReleaseStore.class);
+		releaseService = new ReleaseServiceImpl(releaseRepository, archiveRepository, archiveService, dailyBalanceService, eventPublisher, descriptionIndex, recentStore);
 	}
 	
 	@Test
@@ -136,14 +150,16 @@ public class ReleaseServiceImplTest {
 		Release release = createRelease();
 		release.setId(1L);
 
-		List<Release> list = Arrays.asList(release);
-		Mockito.when( releaseRepository.findAll(Mockito.any( Example.class ))).thenReturn(list);
+		ReleasesDTO dto = ReleasesDTO.builder().id(1L).description(release.getDescription()).build();
+		Mockito.when(descriptionIndex.search(Mockito.anyLong(), Mockito.anyString())).thenReturn(Optional.empty());
+		Mockito.when(releaseRepository.search(release.getUser().getId(), "%" + release.getDescription().toLowerCase() + "%",
+				release.getMes(), release.getAno(), release.getType(), release.getStatus())).thenReturn(Arrays.asList(dto));
 
-		List<Release> result = releaseService.find(release);
+		List<ReleasesDTO> result = releaseService.find(release);
 
 		assertFalse(result.isEmpty());
 		assertFalse(result.size() > 1);
-		assertTrue(result.contains(release));
+		assertTrue(result.contains(dto));
 	}
 
 	@Test
@@ -154,7 +170,7 @@ public class ReleaseServiceImplTest {
 		release.setStatus(ReleaseStatusEnum.PENDENTE);
 
 		ReleaseStatusEnum newStatus = ReleaseStatusEnum.EFETIVADO;
-		Mockito.when(releaseService.update(release)).thenReturn(release);
+		Mockito.when(releaseRepository.save(release)).thenReturn(release);
 
 		releaseService.updateStatus(release, newStatus);
 
@@ -0,0 +1,126 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.job.ReleaseSettleJob;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.repository.ReleaseRepository;
+import com.dev.finances.service.ReleaseDailyBalanceService;
+import com.dev.finances.service.ReleaseSettleService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+
+import static com.dev.finances.model.repository.ReleaseRepositoryTest.createRelease;
+import static com.dev.finances.model.repository.UserRepositoryTest.criarUsuario;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Release settle job tests")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({ReleaseSettleJob.class, ReleaseSettleServiceImpl.class, ReleaseDailyBalanceServiceImpl.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = "release.settle.batch-size=2")
+public class ReleaseSettleServiceImplTest {
+
+	@Autowired
+	ReleaseSettleJob settleJob;
+
+	@Autowired
+	ReleaseSettleService settleService;
+
+	@Autowired
+	ReleaseDailyBalanceService dailyBalanceService;
+
+	@Autowired
+	ReleaseRepository releaseRepository;
+
+	@Autowired
+	MeterRegistry registry;
+
+	@Autowired
+	TestEntityManager entityManager;
+
+	User user;
+	User manualUser;
+
+	@BeforeEach
+	public void setUp() {
+		user = criarUsuario();
+		user.setAutoSettle(true);
+		user = entityManager.persist(user);
+		manualUser = entityManager.persist(User.builder().name("manual").email("manual@email.com").build());
+	}
+
+	@Test
+	@DisplayName("MUST SETTLE in chunks the due pending releases of users that opted in")
+	public void mustSettleDueReleasesOfOptedInUsers() {
+		Release first = persist(user, LocalDate.now().minusDays(2), ReleaseStatusEnum.PENDENTE);
+		Release second = persist(user, LocalDate.now().minusDays(1), ReleaseStatusEnum.PENDENTE);
+		Release third = persist(user, LocalDate.now(), ReleaseStatusEnum.PENDENTE);
+		Release future = persist(user, LocalDate.now().plusDays(1), ReleaseStatusEnum.PENDENTE);
+		Release canceled = persist(user, LocalDate.now().minusDays(1), ReleaseStatusEnum.CANCELADO);
+		Release manual = persist(manualUser, LocalDate.now().minusDays(1), ReleaseStatusEnum.PENDENTE);
+
+		settleJob.settle();
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(status(first)).isEqualTo(ReleaseStatusEnum.EFETIVADO);
+		assertThat(status(second)).isEqualTo(ReleaseStatusEnum.EFETIVADO);
+		assertThat(status(third)).isEqualTo(ReleaseStatusEnum.EFETIVADO);
+		assertThat(status(future)).isEqualTo(ReleaseStatusEnum.PENDENTE);
+		assertThat(status(canceled)).isEqualTo(ReleaseStatusEnum.CANCELADO);
+		assertThat(status(manual)).isEqualTo(ReleaseStatusEnum.PENDENTE);
+		assertThat(dailyBalanceService.getBalance(user.getId(), ReleaseTypeEnum.RECEITA, ReleaseStatusEnum.EFETIVADO,
+				LocalDate.now().minusDays(30), LocalDate.now())).isEqualByComparingTo("30");
+		assertThat(registry.get(ReleaseSettleJob.SETTLED_COUNTER).counter().count()).isEqualTo(3);
+		assertThat(registry.get(ReleaseSettleJob.CHUNK_TIMER).timer().count()).isEqualTo(2);
+		assertThat(settleService.getCheckpoint()).isZero();
+	}
+
+	@Test
+	@DisplayName("MUST RESUME settling after the checkpoint")
+	public void mustResumeAfterCheckpoint() {
+		Release first = persist(user, LocalDate.now().minusDays(2), ReleaseStatusEnum.PENDENTE);
+		Release second = persist(user, LocalDate.now().minusDays(1), ReleaseStatusEnum.PENDENTE);
+		settleService.saveCheckpoint(first.getId());
+
+		settleJob.settle();
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(status(first)).isEqualTo(ReleaseStatusEnum.PENDENTE);
+		assertThat(status(second)).isEqualTo(ReleaseStatusEnum.EFETIVADO);
+		assertThat(settleService.getCheckpoint()).isZero();
+	}
+
+	private Release persist(User owner, LocalDate releaseDate, ReleaseStatusEnum status) {
+		Release release = createRelease();
+		release.setUser(owner);
+		release.setReleaseDate(releaseDate);
+		release.setCreateAt(LocalDate.now());
+		release.setStatus(status);
+		return entityManager.persistFlushFind(release);
+	}
+
+	private ReleaseStatusEnum status(Release release) {
+		return releaseRepository.findById(release.getId()).get().getStatus();
+	}
+}
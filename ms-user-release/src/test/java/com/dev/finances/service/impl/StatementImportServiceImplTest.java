@@ -0,0 +1,119 @@
+package com.dev.finances.service.impl;
+
+import com.dev.finances.model.entity.ArchivedRelease;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ImportStatusEnum;
+import com.dev.finances.model.enums.ReleaseStatusEnum;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.model.enums.StatementFormatEnum;
+import com.dev.finances.repository.ArchivedReleaseRepository;
+import com.dev.finances.repository.UserRepository;
+import com.dev.finances.service.ReleaseBulkService;
+import com.dev.finances.service.ReleaseDailyBalanceService;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.StatementImportService;
+import com.dev.finances.statement.StatementImportJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+@DisplayName("Statement import service tests")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(StatementImportServiceImpl.class)
+public class StatementImportServiceImplTest {
+
+	@Autowired
+	StatementImportService importService;
+
+	@Autowired
+	ArchivedReleaseRepository archivedRepository;
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	DataSource dataSource;
+
+	@MockBean
+	ReleaseService releaseService;
+
+	@MockBean
+	ReleaseBulkService bulkService;
+
+	@MockBean
+	ReleaseDailyBalanceService dailyBalanceService;
+
+	User user;
+
+	@BeforeEach
+	public void setUp() {
+		user = userRepository.save(User.builder().name("extrato").email("extrato@email.com").build());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.update("delete from financas.release_archive where user_id = ?", user.getId());
+		jdbcTemplate.update("delete from financas.user where id = ?", user.getId());
+	}
+
+	@Test
+	@DisplayName("MUST SKIP statement lines already imported into releases that were archived")
+	public void mustSkipLinesOfArchivedReleases() throws Exception {
+		archivedRepository.save(ArchivedRelease.builder()
+				.id(900_001L)
+				.description("Café")
+				.mes(1)
+				.ano(2022)
+				.userId(user.getId())
+				.value(new BigDecimal("5.00"))
+				.createAt(LocalDate.of(2022, 1, 1))
+				.releaseDate(LocalDate.of(2022, 1, 1))
+				.type(ReleaseTypeEnum.DESPESA)
+				.status(ReleaseStatusEnum.EFETIVADO)
+				.build());
+
+		String csv = "data;descricao;valor\n01/01/2022;Café;-5,00\n";
+		StatementImportJob job = importService.start(user, StatementFormatEnum.CSV,
+				new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!job.isFinished()) {
+			if (System.currentTimeMillis() > deadline)
+				fail("Import not finished in 5 seconds");
+			Thread.sleep(10);
+		}
+
+		assertThat(job.getStatus()).isEqualTo(ImportStatusEnum.CONCLUIDO);
+		assertThat(job.getDuplicated().get()).isEqualTo(1);
+		assertThat(job.getImported().get()).isZero();
+		Mockito.verifyNoInteractions(bulkService);
+	}
+}
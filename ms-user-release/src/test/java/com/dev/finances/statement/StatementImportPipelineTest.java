@@ -0,0 +1,200 @@
+package com.dev.finances.statement;
+
+import com.dev.finances.api.dto.BulkItemResultDTO;
+import com.dev.finances.api.dto.BulkResponseDTO;
+import com.dev.finances.model.entity.Release;
+import com.dev.finances.model.entity.User;
+import com.dev.finances.model.enums.ReleaseTypeEnum;
+import com.dev.finances.service.ReleaseBulkService;
+import com.dev.finances.service.ReleaseDailyBalanceService;
+import com.dev.finances.service.ReleaseService;
+import com.dev.finances.service.impl.ReleaseServiceImpl;
+import com.dev.finances.utils.DateUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.dev.finances.service.UserServiceTest.createUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Statement import pipeline tests")
+public class StatementImportPipelineTest {
+
+	User user;
+	List<Release> existing;
+	List<Release> written;
+	List<String> steps;
+	ReentrantLock userLock;
+	StatementImportPipeline pipeline;
+
+	@BeforeEach
+	public void setUp() {
+		user = createUser();
+		existing = Collections.synchronizedList(new ArrayList<>());
+		written = Collections.synchronizedList(new ArrayList<>());
+		steps = Collections.synchronizedList(new ArrayList<>());
+		userLock = new ReentrantLock();
+		ReleaseService releaseService = new ReleaseServiceImpl(null, null, null, null, null, null, null);
+		ReleaseBulkService bulkService = Mockito.mock(ReleaseBulkService.class);
+		ReleaseDailyBalanceService dailyBalanceService = Mockito.mock(ReleaseDailyBalanceService.class);
+		PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+		Mockito.doAnswer(invocation -> {
+			userLock.lock();
+			steps.add("lock");
+			return null;
+		}).when(dailyBalanceService).lock(user.getId());
+		Mockito.doAnswer(invocation -> {
+			steps.add("commit");
+			while (userLock.isHeldByCurrentThread())
+				userLock.unlock();
+			return null;
+		}).when(transactionManager).commit(Mockito.any());
+		Mockito.when(bulkService.saveAll(Mockito.anyList())).thenAnswer(invocation -> {
+			List<Release> releases = invocation.getArgument(0);
+			steps.add("save");
+			written.addAll(releases);
+			List<BulkItemResultDTO> items = IntStream.range(0, releases.size())
+					.mapToObj(index -> BulkItemResultDTO.builder().index(index).success(true).build())
+					.collect(Collectors.toList());
+			return new BulkResponseDTO(items, items.size(), 0, 0L, 0L);
+		});
+		pipeline = new StatementImportPipeline(releaseService, bulkService, dailyBalanceService, transactionManager, 3, 4, 7);
+	}
+
+	@Test
+	@DisplayName("MUST IMPORT a CSV statement skipping duplicates and invalid lines")
+	public void mustImportCsvStatement() throws Exception {
+		StringBuilder csv = new StringBuilder("data;descricao;valor\n");
+		for (int i = 1; i <= 50; i++)
+			csv.append(String.format("%02d/01/2022;Compra %d;-%d,50\n", (i % 28) + 1, i, i));
+		csv.append("01/01/2022;Café;-5,00\n");
+		csv.append("01/01/2022;Café;-5,00\n");
+		csv.append("32/01/2022;Data ruim;10,00\n");
+		csv.append("02/01/2022;Valor ruim;abc\n");
+		csv.append("03/01/2022; ;10,00\n");
+
+		existing.add(release("Café", "5.00", LocalDate.of(2022, 1, 1)));
+		StatementImportJob job = new StatementImportJob(user.getId());
+		pipeline.run(job, write(csv.toString()), new CsvStatementParser(), user, this::occurrences);
+
+		assertEquals(55, job.getParsed().get());
+		assertEquals(51, job.getImported().get());
+		assertEquals(1, job.getDuplicated().get());
+		assertEquals(3, job.getRejected().get());
+		assertEquals(51, written.size());
+		assertTrue(written.stream().allMatch(release -> release.getType() == ReleaseTypeEnum.DESPESA));
+	}
+
+	@Test
+	@DisplayName("MUST IMPORT an OFX statement")
+	public void mustImportOfxStatement() throws Exception {
+		String ofx = "<OFX><BANKTRANLIST>\n" +
+				"<STMTTRN>\n<TRNTYPE>CREDIT\n<DTPOSTED>20220105120000[-3:BRT]\n<TRNAMT>1500.00\n<MEMO>Salário\n</STMTTRN>\n" +
+				"<STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20220106<TRNAMT>-42.10<NAME>Mercado</STMTTRN>\n" +
+				"</BANKTRANLIST></OFX>";
+
+		StatementImportJob job = new StatementImportJob(user.getId());
+		pipeline.run(job, write(ofx), new OfxStatementParser(), user, this::occurrences);
+
+		assertEquals(2, job.getImported().get());
+		Release salario = written.stream().filter(release -> release.getType() == ReleaseTypeEnum.RECEITA).findFirst().get();
+		assertEquals(0, salario.getValue().compareTo(new BigDecimal("1500")));
+		assertEquals(1, salario.getMes());
+		assertEquals(2022, salario.getAno());
+	}
+
+	@Test
+	@DisplayName("MUST LOOK UP duplicates and write each batch while holding the user lock")
+	public void mustHoldUserLockWhileWriting() throws Exception {
+		StatementImportJob job = new StatementImportJob(user.getId());
+		pipeline.run(job, write("data;descricao;valor\n01/01/2022;Café;-5,00\n"), new CsvStatementParser(), user,
+				dates -> {
+					steps.add("lookup");
+					return occurrences(dates);
+				});
+
+		assertEquals(List.of("lock", "lookup", "save", "commit"), steps);
+		assertEquals(1, job.getImported().get());
+	}
+
+	@Test
+	@DisplayName("MUST NOT DUPLICATE releases when the same statement is imported concurrently")
+	public void mustNotDuplicateConcurrentImports() throws Exception {
+		StringBuilder csv = new StringBuilder("data;descricao;valor\n");
+		for (int i = 1; i <= 40; i++)
+			csv.append(String.format("%02d/02/2022;Compra %d;-%d,00\n", (i % 28) + 1, i, i));
+		csv.append("01/02/2022;Café;-5,00\n");
+		csv.append("01/02/2022;Café;-5,00\n");
+		Path file = write(csv.toString());
+
+		List<StatementImportJob> jobs = List.of(new StatementImportJob(user.getId()), new StatementImportJob(user.getId()));
+		ExecutorService executor = Executors.newFixedThreadPool(jobs.size());
+		try {
+			List<Future<?>> runs = new ArrayList<>();
+			for (StatementImportJob job : jobs)
+				runs.add(executor.submit(() -> {
+					pipeline.run(job, file, new CsvStatementParser(), user, this::occurrences);
+					return null;
+				}));
+			for (Future<?> run : runs)
+				run.get(30, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(42, written.size());
+		assertEquals(42, jobs.stream().mapToLong(job -> job.getImported().get()).sum());
+		assertEquals(42, jobs.stream().mapToLong(job -> job.getDuplicated().get()).sum());
+	}
+
+	private Map<String, Integer> occurrences(Collection<LocalDate> dates) {
+		Map<String, Integer> occurrences = new HashMap<>();
+		List<Release> saved = new ArrayList<>(existing);
+		synchronized (written) {
+			saved.addAll(written);
+		}
+		saved.stream()
+				.filter(release -> dates.contains(release.getReleaseDate()))
+				.forEach(release -> occurrences.merge(StatementImportPipeline.contentKey(release.getDescription(),
+						release.getValue(), release.getType(), DateUtils.dateFormatDefault(release.getReleaseDate())), 1, Integer::sum));
+		return occurrences;
+	}
+
+	private Release release(String description, String value, LocalDate releaseDate) {
+		Release release = new Release();
+		release.setDescription(description);
+		release.setValue(new BigDecimal(value));
+		release.setType(ReleaseTypeEnum.DESPESA);
+		release.setReleaseDate(releaseDate);
+		return release;
+	}
+
+	private Path write(String content) throws Exception {
+		Path file = Files.createTempFile("statement-test", ".txt");
+		file.toFile().deleteOnExit();
+		Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+}